@@ -0,0 +1,56 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of an upload of documents in batches sized from the processing time of the previous
+ * batches
+ *
+ * <p>The size of the next batch is the number of documents Meilisearch indexed per second in the
+ * last batches, times {@link #targetBatchDurationMs}, within {@link #minBatchSize} and {@link
+ * #maxBatchSize}. Its payload is bounded by the average size of the documents sent so far, times
+ * that number, within {@link #maxBatchBytes}.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class AdaptiveBatchOptions {
+    /** Time Meilisearch should spend processing each batch, in milliseconds */
+    @Builder.Default private long targetBatchDurationMs = 5_000;
+
+    /** Number of documents of the first batch, sent before any batch is processed */
+    @Builder.Default private int initialBatchSize = 1_000;
+
+    /** Minimum number of documents of a batch */
+    @Builder.Default private int minBatchSize = 100;
+
+    /** Maximum number of documents of a batch */
+    @Builder.Default private int maxBatchSize = 100_000;
+
+    /**
+     * Maximum size in bytes of a batch, to keep below the {@code http_payload_size_limit} of the
+     * Meilisearch instance
+     */
+    @Builder.Default private long maxBatchBytes = 90L * 1024 * 1024;
+
+    /**
+     * Number of batches enqueued ahead of the processed ones. Sending blocks until the oldest of
+     * them is processed, and its processing time sizes the next batch.
+     */
+    @Builder.Default private int maxEnqueuedBatches = 2;
+
+    /** Number of milliseconds to wait for a batch to be processed before throwing an Exception */
+    @Builder.Default private int taskTimeoutMs = 600_000;
+
+    /** Number of milliseconds before requesting the status of a batch again */
+    @Builder.Default private int taskIntervalMs = 100;
+
+    /**
+     * Creates the default options
+     *
+     * @return AdaptiveBatchOptions with every option set to its default
+     */
+    public static AdaptiveBatchOptions defaults() {
+        return AdaptiveBatchOptions.builder().build();
+    }
+}
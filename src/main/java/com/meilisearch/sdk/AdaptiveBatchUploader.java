@@ -0,0 +1,154 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.batch.res.Batch;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Uploads a JSON array of documents in batches sized to be processed in a target time
+ *
+ * <p>A few batches are kept enqueued so Meilisearch never waits for the next one. Before sending
+ * more, the oldest enqueued batch is awaited and its throughput measured. When Meilisearch merged
+ * the task with others, the documents and duration of the whole Meilisearch batch are used, since
+ * every task of a Meilisearch batch reports the duration of the batch. The throughput is smoothed
+ * over the measures, and the batch size grows at most twofold per measure so that one fast batch
+ * cannot produce an oversized one.
+ */
+class AdaptiveBatchUploader {
+    /** Weight of the last measure in the smoothed throughput */
+    private static final double SMOOTHING = 0.5;
+
+    /** Largest factor by which the batch size grows from one measure to the next */
+    private static final int MAX_GROWTH = 2;
+
+    private final TasksHandler tasksHandler;
+    private final AdaptiveBatchOptions options;
+    private final Function<String, TaskInfo> sender;
+
+    private int batchSize;
+    private double documentsPerSecond;
+    private long sentDocuments;
+    private long sentBytes;
+
+    /**
+     * @param tasksHandler TasksHandler awaiting and reading the tasks of the batches
+     * @param options options of the upload
+     * @param sender sends a batch and returns the TaskInfo of its task
+     */
+    AdaptiveBatchUploader(
+            TasksHandler tasksHandler,
+            AdaptiveBatchOptions options,
+            Function<String, TaskInfo> sender) {
+        if (options.getMinBatchSize() <= 0
+                || options.getMaxBatchSize() < options.getMinBatchSize()
+                || options.getMaxBatchBytes() <= 0
+                || options.getMaxEnqueuedBatches() <= 0
+                || options.getTargetBatchDurationMs() <= 0) {
+            throw new IllegalArgumentException(
+                    "batch sizes, maxBatchBytes, maxEnqueuedBatches and targetBatchDurationMs must"
+                            + " be positive, and maxBatchSize at least minBatchSize");
+        }
+        this.tasksHandler = tasksHandler;
+        this.options = options;
+        this.sender = sender;
+        this.batchSize = clamp(options.getInitialBatchSize());
+    }
+
+    /**
+     * Uploads every document, returning once the last batch is enqueued
+     *
+     * @param document JSON array of documents
+     * @return TaskInfo of every batch, in order
+     * @throws MeilisearchException if the documents are not a JSON array, a batch fails to be
+     *     sent, or a batch is not processed within the timeout
+     */
+    TaskInfo[] upload(String document) throws MeilisearchException {
+        DocumentBatcher batcher = new DocumentBatcher(document, batchSize, getBatchBytes());
+        List<TaskInfo> taskInfos = new ArrayList<>();
+        Deque<TaskInfo> enqueued = new ArrayDeque<>();
+        while (batcher.hasNext()) {
+            DocumentBatch batch = batcher.next();
+            TaskInfo taskInfo = sender.apply(batch.getDocuments());
+            taskInfos.add(taskInfo);
+            enqueued.add(taskInfo);
+            onSent(batch.getDocumentCount(), batch.getByteSize());
+
+            if (enqueued.size() >= options.getMaxEnqueuedBatches()) {
+                measure(enqueued.poll().getTaskUid());
+                batcher.setLimits(batchSize, getBatchBytes());
+            }
+        }
+        return taskInfos.toArray(new TaskInfo[0]);
+    }
+
+    /** Waits for a task and records how fast it was processed, unless it failed */
+    private void measure(int taskUid) {
+        tasksHandler.waitForTask(taskUid, options.getTaskTimeoutMs(), options.getTaskIntervalMs());
+        Task task = tasksHandler.getTask(taskUid);
+        if (task.getStatus() != TaskStatus.SUCCEEDED) return;
+
+        if (task.getBatchUid() != null) {
+            Batch batch = tasksHandler.getBatch(task.getBatchUid());
+            if (batch.getDetails() != null && batch.getDuration() != null) {
+                int documents = batch.getDetails().getIndexedDocuments();
+                onProcessed(documents, toMillis(batch.getDuration()));
+                return;
+            }
+        }
+        if (task.getDetails() != null) {
+            onProcessed(task.getDetails().getIndexedDocuments(), toMillis(task.getDuration()));
+        }
+    }
+
+    void onSent(int documents, long bytes) {
+        sentDocuments += documents;
+        sentBytes += bytes;
+    }
+
+    void onProcessed(int documents, long durationMs) {
+        if (documents <= 0 || durationMs <= 0) return;
+        double measured = documents * 1000.0 / durationMs;
+        documentsPerSecond =
+                documentsPerSecond == 0
+                        ? measured
+                        : SMOOTHING * measured + (1 - SMOOTHING) * documentsPerSecond;
+
+        long target = Math.round(documentsPerSecond * options.getTargetBatchDurationMs() / 1000);
+        batchSize = clamp(Math.min(target, (long) batchSize * MAX_GROWTH));
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+
+    /** Expected size of the next batch from the average size of the documents sent so far */
+    long getBatchBytes() {
+        if (sentDocuments == 0) return options.getMaxBatchBytes();
+        double bytesPerDocument = (double) sentBytes / sentDocuments;
+        long expected = (long) Math.ceil(bytesPerDocument * batchSize);
+        return Math.min(expected, options.getMaxBatchBytes());
+    }
+
+    private int clamp(long size) {
+        return (int) Math.max(options.getMinBatchSize(), Math.min(size, options.getMaxBatchSize()));
+    }
+
+    /** Reads an ISO-8601 duration such as PT1.5S, or returns 0 if it cannot be read */
+    private static long toMillis(String duration) {
+        if (duration == null || duration.isEmpty()) return 0;
+        try {
+            return Duration.parse(duration).toMillis();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+}
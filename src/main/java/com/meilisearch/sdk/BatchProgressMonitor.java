@@ -0,0 +1,281 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.batch.req.BatchesQuery;
+import com.meilisearch.sdk.model.batch.res.Batch;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Follows the Meilisearch batches processing some tasks and reports their progress to listeners
+ *
+ * <p>Every poll requests the followed tasks, then the unfinished batches holding them, and sends a
+ * {@link BatchProgressUpdate} per batch to the listeners, ending with one for the finished batch.
+ * A task is followed until it is processed and the last update of its batch is sent. The
+ * documents indexed and the time spent in each step are summed over the finished batches, giving
+ * the throughput of a whole ingestion job.
+ *
+ * <p>The polls of every monitor run on a single daemon thread, which also calls the listeners, so
+ * they should return quickly. The exceptions thrown by listeners are ignored.
+ */
+public class BatchProgressMonitor implements AutoCloseable {
+    private static final ScheduledExecutorService SCHEDULER =
+            DaemonSchedulers.newScheduler("meilisearch-batch-progress");
+
+    /** Receives the progress of the followed batches, on the thread polling them */
+    public interface Listener {
+        /**
+         * Called on every poll for each unfinished batch processing a followed task, then once the
+         * batch is finished
+         *
+         * @param update progress of the batch and metrics derived from it
+         */
+        default void onProgress(BatchProgressUpdate update) {}
+
+        /**
+         * Called if a poll fails. The tasks stay followed and the next poll tries again.
+         *
+         * @param failure failure of the poll
+         */
+        default void onFailure(Throwable failure) {}
+    }
+
+    private final TasksHandler tasksHandler;
+    private final BatchProgressMonitorOptions options;
+    private final Set<Integer> followed = ConcurrentHashMap.newKeySet();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    /** Batches whose last update was sent, only read and written by the polling thread */
+    private final Set<Integer> finishedBatches = new HashSet<>();
+    private final Map<String, Double> stepDurationsMs = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean scheduled;
+    private boolean closed;
+    private long processedDocuments;
+    private long processingMs;
+
+    BatchProgressMonitor(TasksHandler tasksHandler, BatchProgressMonitorOptions options) {
+        if (options.getPollIntervalMs() <= 0 || options.getMaxTasksPerRequest() <= 0) {
+            throw new IllegalArgumentException(
+                    "pollIntervalMs and maxTasksPerRequest must be positive");
+        }
+        this.tasksHandler = tasksHandler;
+        this.options = options;
+    }
+
+    /**
+     * Adds a listener receiving the progress of the followed batches
+     *
+     * @param listener listener called on the polling thread
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Follows the batches processing some tasks until the tasks are processed
+     *
+     * @param taskUids Identifiers of the tasks
+     * @return this monitor
+     * @throws MeilisearchException if the monitor is closed
+     */
+    public BatchProgressMonitor follow(int... taskUids) throws MeilisearchException {
+        lock.lock();
+        try {
+            if (closed) throw new MeilisearchException("The BatchProgressMonitor is closed");
+            for (int taskUid : taskUids) {
+                followed.add(taskUid);
+            }
+            if (!scheduled && !followed.isEmpty()) {
+                scheduled = true;
+                SCHEDULER.execute(this::poll);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return this;
+    }
+
+    /**
+     * Gets the number of tasks followed and not processed yet
+     *
+     * @return number of followed tasks
+     */
+    public int getFollowedTasks() {
+        return followed.size();
+    }
+
+    /**
+     * Gets the number of documents indexed by the finished batches
+     *
+     * @return number of indexed documents
+     */
+    public long getProcessedDocuments() {
+        lock.lock();
+        try {
+            return processedDocuments;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the throughput of the finished batches, as their indexed documents over the time spent
+     * processing them
+     *
+     * @return documents indexed per second, or null if no finished batch indexed documents
+     */
+    public Double getDocumentsPerSecond() {
+        lock.lock();
+        try {
+            return processingMs > 0 && processedDocuments > 0
+                    ? processedDocuments * 1000.0 / processingMs
+                    : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the time in milliseconds spent in each step over the finished batches, when
+     * Meilisearch reports it
+     *
+     * @return time spent per step, keyed by the path of the step
+     */
+    public Map<String, Double> getStepDurationsMs() {
+        lock.lock();
+        try {
+            return new LinkedHashMap<>(stepDurationsMs);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Stops following the tasks. The updates of a poll already running are still sent. */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            followed.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void poll() {
+        try {
+            List<Integer> uids = new ArrayList<>(followed);
+            for (int from = 0; from < uids.size(); from += options.getMaxTasksPerRequest()) {
+                int to = Math.min(uids.size(), from + options.getMaxTasksPerRequest());
+                pollTasks(uids.subList(from, to));
+            }
+        } catch (RuntimeException e) {
+            for (Listener listener : listeners) {
+                try {
+                    listener.onFailure(e);
+                } catch (RuntimeException listenerFailure) {
+                    // a failing listener must not stop the polls
+                }
+            }
+        } finally {
+            lock.lock();
+            try {
+                scheduled = !closed && !followed.isEmpty();
+                if (scheduled) {
+                    SCHEDULER.schedule(
+                            this::poll, options.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /** Reports the batches of some followed tasks, then stops following the processed ones */
+    private void pollTasks(List<Integer> uids) {
+        TasksQuery query =
+                new TasksQuery()
+                        .setUids(uids.stream().mapToInt(Integer::intValue).toArray())
+                        .setLimit(uids.size());
+        Task[] results = tasksHandler.getTasks(query).getResults();
+        Task[] tasks = results != null ? results : new Task[0];
+
+        Set<Integer> batchUids = new LinkedHashSet<>();
+        for (Task task : tasks) {
+            Integer batchUid = task.getBatchUid();
+            if (batchUid != null && !finishedBatches.contains(batchUid)) batchUids.add(batchUid);
+        }
+        if (!batchUids.isEmpty()) {
+            pollBatches(batchUids);
+        }
+
+        Set<Integer> found = new HashSet<>();
+        for (Task task : tasks) {
+            found.add(task.getUid());
+            Integer batchUid = task.getBatchUid();
+            if (isProcessed(task) && (batchUid == null || finishedBatches.contains(batchUid))) {
+                followed.remove(task.getUid());
+            }
+        }
+        // a task that does not exist is never processed
+        for (Integer uid : uids) {
+            if (!found.contains(uid)) followed.remove(uid);
+        }
+    }
+
+    private void pollBatches(Set<Integer> batchUids) {
+        BatchesQuery query =
+                new BatchesQuery()
+                        .setBatchUids(batchUids.stream().mapToInt(Integer::intValue).toArray())
+                        .setLimit(batchUids.size());
+        List<Batch> batches = tasksHandler.getAllBatches(query).getResults();
+        if (batches == null) return;
+
+        long now = System.currentTimeMillis();
+        for (Batch batch : batches) {
+            BatchProgressUpdate update = new BatchProgressUpdate(batch, now);
+            if (update.isFinished()) {
+                finishedBatches.add(batch.getUid());
+                record(update);
+            }
+            for (Listener listener : listeners) {
+                try {
+                    listener.onProgress(update);
+                } catch (RuntimeException e) {
+                    // a failing listener must not hide the update from the others
+                }
+            }
+        }
+    }
+
+    private void record(BatchProgressUpdate update) {
+        lock.lock();
+        try {
+            processedDocuments += update.getProcessedDocuments();
+            processingMs += update.getElapsedMs();
+            for (Map.Entry<String, Double> step : update.getStepDurationsMs().entrySet()) {
+                stepDurationsMs.merge(step.getKey(), step.getValue(), Double::sum);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean isProcessed(Task task) {
+        TaskStatus status = task.getStatus();
+        return status != null && status != TaskStatus.ENQUEUED && status != TaskStatus.PROCESSING;
+    }
+}
@@ -0,0 +1,29 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a {@link BatchProgressMonitor}
+ *
+ * <p>Every poll requests the followed tasks, then the batches processing them, so a monitor makes
+ * two requests per {@link #pollIntervalMs} while some of its tasks are not processed.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class BatchProgressMonitorOptions {
+    /** Time in milliseconds between two polls */
+    @Builder.Default private long pollIntervalMs = 1000;
+
+    /** Maximum number of task uids requested at once */
+    @Builder.Default private int maxTasksPerRequest = 500;
+
+    /**
+     * Creates the default options
+     *
+     * @return BatchProgressMonitorOptions with every option set to its default
+     */
+    public static BatchProgressMonitorOptions defaults() {
+        return BatchProgressMonitorOptions.builder().build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.model.TaskDetails;
+import com.meilisearch.sdk.model.batch.res.Batch;
+import com.meilisearch.sdk.model.batch.res.StepDetails;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.Getter;
+
+/**
+ * Progress of a batch as seen by a {@link BatchProgressMonitor}, with the metrics derived from it
+ *
+ * <p>While the batch is processed, the documents processed so far are estimated from the progress
+ * percentage and the documents received by the batch. Once it is finished, they are the documents
+ * it indexed.
+ */
+@Getter
+public class BatchProgressUpdate {
+    private static final Pattern TRACE_DURATION =
+            Pattern.compile("([0-9.]+)\\s*(ns|\u00b5s|us|ms|s)");
+
+    /** Batch as returned by the batches route */
+    private final Batch batch;
+
+    /** Whether the batch is finished, in which case this is its last update */
+    private final boolean finished;
+
+    /** Percentage of the batch processed, 100 once it is finished */
+    private final float percentage;
+
+    /** Nested steps the batch is processing, from the outermost one, empty once it is finished */
+    private final List<StepDetails> steps;
+
+    /** Time in milliseconds the batch has been processed for */
+    private final long elapsedMs;
+
+    /** Documents processed per second, or null if the batch holds no documents */
+    private final Double documentsPerSecond;
+
+    /** Estimated time in milliseconds until the batch is finished, or null if not known yet */
+    private final Long etaMs;
+
+    /**
+     * Time in milliseconds spent in each step of a finished batch, keyed by the path of the step,
+     * or empty if Meilisearch does not report it
+     */
+    private final Map<String, Double> stepDurationsMs;
+
+    BatchProgressUpdate(Batch batch, long nowMs) {
+        this.batch = batch;
+        this.finished = batch.getFinishedAt() != null;
+        if (finished) {
+            this.percentage = 100;
+            this.steps = Collections.emptyList();
+            this.elapsedMs = toMillis(batch.getDuration());
+        } else {
+            boolean started = batch.getProgress() != null;
+            this.percentage = started ? batch.getProgress().getPercentage() : 0;
+            this.steps =
+                    started && batch.getProgress().getSteps() != null
+                            ? batch.getProgress().getSteps()
+                            : Collections.emptyList();
+            this.elapsedMs = Math.max(0, nowMs - toEpochMillis(batch.getStartedAt(), nowMs));
+        }
+        this.documentsPerSecond = documentsPerSecond(batch.getDetails());
+        if (finished) {
+            this.etaMs = 0L;
+        } else if (percentage > 0) {
+            this.etaMs = Math.round(elapsedMs * (100.0 - percentage) / percentage);
+        } else {
+            this.etaMs = null;
+        }
+        this.stepDurationsMs =
+                batch.getStats() != null && batch.getStats().getProgressTrace() != null
+                        ? parseTrace(batch.getStats().getProgressTrace())
+                        : Collections.emptyMap();
+    }
+
+    /**
+     * Gets the uid of the batch
+     *
+     * @return uid of the batch
+     */
+    public int getBatchUid() {
+        return batch.getUid();
+    }
+
+    /**
+     * Gets the number of documents processed so far, estimated while the batch is processed
+     *
+     * @return number of documents processed
+     */
+    public long getProcessedDocuments() {
+        TaskDetails details = batch.getDetails();
+        if (details == null) return 0;
+        if (finished) return details.getIndexedDocuments();
+        return Math.round(details.getReceivedDocuments() * (double) percentage / 100);
+    }
+
+    private Double documentsPerSecond(TaskDetails details) {
+        if (details == null || elapsedMs <= 0) return null;
+        if (details.getReceivedDocuments() == 0 && details.getIndexedDocuments() == 0) return null;
+        return getProcessedDocuments() * 1000.0 / elapsedMs;
+    }
+
+    /** Reads an ISO-8601 duration such as PT1.5S, or returns 0 if it cannot be read */
+    private static long toMillis(String duration) {
+        if (duration == null || duration.isEmpty()) return 0;
+        try {
+            return Duration.parse(duration).toMillis();
+        } catch (DateTimeParseException e) {
+            return 0;
+        }
+    }
+
+    /** Reads an RFC 3339 date, or returns the fallback if it cannot be read */
+    private static long toEpochMillis(String date, long fallback) {
+        if (date == null || date.isEmpty()) return fallback;
+        try {
+            return OffsetDateTime.parse(date).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return fallback;
+        }
+    }
+
+    /** Reads the durations of the progress trace, such as 1.25s or 310.52ms, skipping the others */
+    static Map<String, Double> parseTrace(Map<String, String> trace) {
+        Map<String, Double> durations = new LinkedHashMap<>();
+        for (Map.Entry<String, String> step : trace.entrySet()) {
+            Matcher matcher = TRACE_DURATION.matcher(step.getValue());
+            if (!matcher.matches()) continue;
+            double value;
+            try {
+                value = Double.parseDouble(matcher.group(1));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+            switch (matcher.group(2)) {
+                case "ns":
+                    value /= 1_000_000;
+                    break;
+                case "\u00b5s":
+                case "us":
+                    value /= 1000;
+                    break;
+                case "s":
+                    value *= 1000;
+                    break;
+                default:
+                    break;
+            }
+            durations.put(step.getKey(), value);
+        }
+        return Collections.unmodifiableMap(durations);
+    }
+}
@@ -0,0 +1,155 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Handle of an upload of documents split into several batches, tracking the task enqueued for
+ * every batch
+ */
+public class BatchUpload {
+    private final TasksHandler tasksHandler;
+    private final List<TaskInfo> taskInfos = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<List<TaskInfo>> uploaded = new CompletableFuture<>();
+
+    BatchUpload(TasksHandler tasksHandler) {
+        this.tasksHandler = tasksHandler;
+    }
+
+    /**
+     * Gets the tasks enqueued so far
+     *
+     * @return TaskInfo of every batch enqueued by Meilisearch, in the order they were enqueued
+     */
+    public List<TaskInfo> getTaskInfos() {
+        return new ArrayList<>(taskInfos);
+    }
+
+    /**
+     * Gets a future completed once every batch is enqueued
+     *
+     * @return future completed with the TaskInfo of every batch, or exceptionally with the first
+     *     failure of the upload
+     */
+    public CompletableFuture<List<TaskInfo>> uploaded() {
+        return uploaded;
+    }
+
+    /**
+     * Waits until every batch is enqueued
+     *
+     * @return TaskInfo of every batch, in the order they were enqueued
+     * @throws MeilisearchException if a batch could not be uploaded
+     */
+    public List<TaskInfo> awaitUploaded() throws MeilisearchException {
+        try {
+            return uploaded.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof MeilisearchException) {
+                throw (MeilisearchException) e.getCause();
+            }
+            throw new MeilisearchException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits until every batch is enqueued, then until every task is processed
+     *
+     * @return the processed task of every batch
+     * @throws MeilisearchException if a batch could not be uploaded or the timeout is reached
+     */
+    public List<Task> waitForTasks() throws MeilisearchException {
+        return waitForTasks(5000, 50);
+    }
+
+    /**
+     * Waits until every batch is enqueued, then until every task is processed
+     *
+     * <p>The status of every task is requested at once, until all of them are processed.
+     *
+     * @param timeoutInMs number of milliseconds to wait for the tasks before throwing an Exception
+     * @param intervalInMs number of milliseconds before requesting the status of the tasks again
+     * @return the processed task of every batch, which may have failed
+     * @throws MeilisearchException if a batch could not be uploaded or the timeout is reached
+     */
+    public List<Task> waitForTasks(int timeoutInMs, int intervalInMs) throws MeilisearchException {
+        List<TaskInfo> enqueued = awaitUploaded();
+        long interval = Math.max(1, intervalInMs);
+        TaskWatcher watcher =
+                new TaskWatcher(
+                        tasksHandler,
+                        TaskWatcherOptions.builder()
+                                .minIntervalMs(interval)
+                                .maxIntervalMs(interval)
+                                .build());
+        List<CompletableFuture<Task>> watches = new ArrayList<>();
+        for (TaskInfo taskInfo : enqueued) {
+            watches.add(watcher.watch(taskInfo.getTaskUid(), timeoutInMs));
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        for (CompletableFuture<Task> watch : watches) {
+            try {
+                tasks.add(watch.join());
+            } catch (CompletionException e) {
+                for (CompletableFuture<Task> other : watches) {
+                    other.cancel(false);
+                }
+                if (e.getCause() instanceof TimeoutException) {
+                    throw new MeilisearchTimeoutException();
+                }
+                if (e.getCause() instanceof MeilisearchException) {
+                    throw (MeilisearchException) e.getCause();
+                }
+                throw new MeilisearchException(e.getCause());
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Gets a future completed once every batch is enqueued and its task processed, waiting for the
+     * tasks through a TaskWatcher instead of a blocked thread
+     *
+     * @param watcher TaskWatcher polling the tasks, such as {@link Client#getTaskWatcher()}
+     * @return future completed with the processed task of every batch, which may have failed
+     */
+    public CompletableFuture<List<Task>> processed(TaskWatcher watcher) {
+        return uploaded.thenCompose(
+                enqueued -> {
+                    List<CompletableFuture<Task>> tasks = new ArrayList<>();
+                    for (TaskInfo taskInfo : enqueued) {
+                        tasks.add(watcher.watch(taskInfo.getTaskUid()));
+                    }
+                    return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                            .thenApply(
+                                    ignored -> {
+                                        List<Task> processed = new ArrayList<>();
+                                        for (CompletableFuture<Task> task : tasks) {
+                                            processed.add(task.join());
+                                        }
+                                        return processed;
+                                    });
+                });
+    }
+
+    void onEnqueued(TaskInfo taskInfo) {
+        taskInfos.add(taskInfo);
+    }
+
+    void complete(Throwable failure) {
+        if (failure != null) {
+            uploaded.completeExceptionally(failure);
+        } else {
+            uploaded.complete(getTaskInfos());
+        }
+    }
+}
@@ -0,0 +1,366 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpRequestBody;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Buffers the writes of single documents issued by any number of threads and sends them in bulk
+ *
+ * <p>Writes are spread over striped buffers by the hash of their primary key, and a buffer keeps
+ * only the last write to each document, except that a partial update of a document with a buffered
+ * write flushes the buffer first, so that no field or deletion is lost. A buffer is flushed
+ * once it holds enough documents or bytes, and every buffer is flushed periodically. A flush
+ * sends at most one request per kind of write, and the flushes of a buffer are sent one after
+ * another, so the writes to a document are enqueued in order. Writers block while the buffered and
+ * unacknowledged writes exceed {@link BulkIndexerOptions#getMaxBytesInFlight()}, and while the
+ * {@link TaskQueueThrottle} of the options, if any, pauses producers.
+ *
+ * <p>A failed flush is reported to the listeners and does not stop the indexer. The indexer must
+ * be closed to send its last writes and stop its periodic flushes.
+ *
+ * @param <T> Type of the documents
+ */
+public class BulkIndexer<T> implements AutoCloseable {
+    private static final ScheduledExecutorService SCHEDULER =
+            DaemonSchedulers.newScheduler("meilisearch-bulk-indexer");
+
+    /** Listener of the flushes of a BulkIndexer, called from the threads completing them */
+    public interface Listener {
+        /**
+         * Called before the writes of a flush are sent
+         *
+         * @param flushId identifier of the flush, increasing with every flush of the indexer
+         * @param documentCount number of distinct documents written by the flush
+         */
+        default void beforeFlush(long flushId, int documentCount) {}
+
+        /**
+         * Called once every request of a flush is enqueued by Meilisearch
+         *
+         * @param flushId identifier of the flush
+         * @param documentCount number of distinct documents written by the flush
+         * @param tasks tasks enqueued by the flush, one per kind of write
+         */
+        default void afterFlush(long flushId, int documentCount, List<TaskInfo> tasks) {}
+
+        /**
+         * Called if a request of a flush fails
+         *
+         * @param flushId identifier of the flush
+         * @param documentCount number of distinct documents written by the flush
+         * @param failure failure of the request
+         */
+        default void onFailure(long flushId, int documentCount, Throwable failure) {}
+    }
+
+    private enum Action {
+        ADD,
+        UPDATE,
+        DELETE
+    }
+
+    /** Last write to a document, encoded as JSON */
+    private static class Write {
+        private final Action action;
+        private final byte[] json;
+
+        Write(Action action, byte[] json) {
+            this.action = action;
+            this.json = json;
+        }
+    }
+
+    private final Documents documents;
+    private final String uid;
+    private final String primaryKey;
+    private final JsonHandler jsonHandler;
+    private final Function<? super T, ?> primaryKeyOf;
+    private final BulkIndexerOptions options;
+    private final List<Stripe> stripes = new ArrayList<>();
+    private final ByteBudget budget;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong flushIds = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final ScheduledFuture<?> schedule;
+    private volatile boolean closed;
+
+    BulkIndexer(
+            Documents documents,
+            String uid,
+            JsonHandler jsonHandler,
+            Function<? super T, ?> primaryKeyOf,
+            String primaryKey,
+            BulkIndexerOptions options) {
+        if (options.getStripes() <= 0 || options.getMaxDocuments() <= 0) {
+            throw new IllegalArgumentException("stripes and maxDocuments must be positive");
+        }
+        this.documents = documents;
+        this.uid = uid;
+        this.jsonHandler = jsonHandler;
+        this.primaryKeyOf = primaryKeyOf;
+        this.primaryKey = primaryKey;
+        this.options = options;
+        this.budget = new ByteBudget(options.getMaxBytesInFlight());
+        for (int i = 0; i < options.getStripes(); i++) {
+            stripes.add(new Stripe());
+        }
+
+        long interval = options.getFlushIntervalMs();
+        this.schedule =
+                interval > 0
+                        ? SCHEDULER.scheduleWithFixedDelay(
+                                this::flush, interval, interval, TimeUnit.MILLISECONDS)
+                        : null;
+    }
+
+    /**
+     * Adds a listener of the flushes
+     *
+     * @param listener listener called for every later flush
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener of the flushes
+     *
+     * @param listener listener added by {@link #addListener(Listener)}
+     */
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Buffers the addition or replacement of a document
+     *
+     * @param document Document to add
+     * @throws MeilisearchException if the indexer is closed or the thread is interrupted while
+     *     waiting for a flush
+     */
+    public void add(T document) throws MeilisearchException {
+        write(Action.ADD, primaryKeyOf.apply(document), encode(document));
+    }
+
+    /**
+     * Buffers the partial update of a document
+     *
+     * @param document Fields of the document to update, including its primary key
+     * @throws MeilisearchException if the indexer is closed or the thread is interrupted while
+     *     waiting for a flush
+     */
+    public void update(T document) throws MeilisearchException {
+        write(Action.UPDATE, primaryKeyOf.apply(document), encode(document));
+    }
+
+    /**
+     * Buffers the deletion of a document
+     *
+     * @param identifier Primary key of the document to delete
+     * @throws MeilisearchException if the indexer is closed or the thread is interrupted while
+     *     waiting for a flush
+     */
+    public void delete(Object identifier) throws MeilisearchException {
+        write(Action.DELETE, identifier, encodeIdentifier(identifier));
+    }
+
+    /**
+     * Flushes every buffer
+     *
+     * @return future completed once every flush issued so far is done, whether it failed or not
+     */
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<?>[] tails = new CompletableFuture<?>[stripes.size()];
+        for (int i = 0; i < stripes.size(); i++) {
+            Stripe stripe = stripes.get(i);
+            stripe.lock.lock();
+            try {
+                tails[i] = stripe.flush();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return CompletableFuture.allOf(tails);
+    }
+
+    /**
+     * Stops the periodic flushes, then sends the buffered writes and waits for every flush
+     *
+     * @throws MeilisearchException the first failure of a flush since the indexer was created
+     */
+    @Override
+    public void close() throws MeilisearchException {
+        closed = true;
+        if (schedule != null) schedule.cancel(false);
+        flush().join();
+
+        Throwable cause = failure.get();
+        if (cause instanceof MeilisearchException) throw (MeilisearchException) cause;
+        if (cause != null) throw new MeilisearchException(cause);
+    }
+
+    private void write(Action action, Object identifier, byte[] json) {
+        if (closed) throw new MeilisearchException("The BulkIndexer is closed");
+        if (identifier == null) throw new MeilisearchException("The document has no primary key");
+        if (options.getThrottle() != null) options.getThrottle().awaitCapacity();
+
+        if (!budget.tryAcquire(json.length)) {
+            // the buffered writes hold the budget until they are flushed
+            flush();
+            budget.acquire(json.length);
+        }
+
+        String key = String.valueOf(identifier);
+        Stripe stripe = stripes.get(Math.floorMod(key.hashCode(), stripes.size()));
+        stripe.lock.lock();
+        try {
+            if (action == Action.UPDATE && stripe.writes.containsKey(key)) {
+                // a partial update only holds some fields, so the buffered write is sent first
+                stripe.flush();
+            }
+            Write previous = stripe.writes.put(key, new Write(action, json));
+            stripe.bytes += json.length;
+            if (previous != null) {
+                stripe.bytes -= previous.json.length;
+                budget.release(previous.json.length);
+            }
+            if (stripe.writes.size() >= options.getMaxDocuments()
+                    || stripe.bytes >= options.getMaxBytes()) {
+                stripe.flush();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private byte[] encode(T document) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            jsonHandler.encodeTo(document, out);
+        } catch (IOException e) {
+            // never thrown by a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encodeIdentifier(Object identifier) {
+        if (identifier instanceof Number) {
+            return identifier.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        String escaped = String.valueOf(identifier).replace("\\", "\\\\").replace("\"", "\\\"");
+        return ("\"" + escaped + "\"").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private CompletableFuture<List<TaskInfo>> send(long flushId, Map<String, Write> writes) {
+        for (Listener listener : listeners) {
+            listener.beforeFlush(flushId, writes.size());
+        }
+
+        List<CompletableFuture<TaskInfo>> requests = new ArrayList<>();
+        byte[] additions = join(writes, Action.ADD);
+        if (additions != null) {
+            requests.add(
+                    documents.addDocumentsAsync(uid, HttpRequestBody.of(additions), primaryKey));
+        }
+        byte[] updates = join(writes, Action.UPDATE);
+        if (updates != null) {
+            requests.add(
+                    documents.updateDocumentsAsync(uid, HttpRequestBody.of(updates), primaryKey));
+        }
+        byte[] deletions = join(writes, Action.DELETE);
+        if (deletions != null) {
+            requests.add(documents.deleteDocumentsAsync(uid, HttpRequestBody.of(deletions)));
+        }
+
+        return CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0]))
+                .thenApply(
+                        ignored -> {
+                            List<TaskInfo> tasks = new ArrayList<>();
+                            for (CompletableFuture<TaskInfo> request : requests) {
+                                tasks.add(request.join());
+                            }
+                            return tasks;
+                        });
+    }
+
+    /** Joins the writes of an action into a JSON array, or returns null if there are none */
+    private static byte[] join(Map<String, Write> writes, Action action) {
+        ByteArrayOutputStream array = new ByteArrayOutputStream();
+        for (Write write : writes.values()) {
+            if (write.action != action) continue;
+            array.write(array.size() == 0 ? '[' : ',');
+            array.write(write.json, 0, write.json.length);
+        }
+        if (array.size() == 0) return null;
+        array.write(']');
+        return array.toByteArray();
+    }
+
+    private Void onFlushed(
+            long flushId, Map<String, Write> writes, List<TaskInfo> tasks, Throwable e) {
+        for (Write write : writes.values()) {
+            budget.release(write.json.length);
+        }
+        try {
+            if (e == null) {
+                for (Listener listener : listeners) {
+                    listener.afterFlush(flushId, writes.size(), tasks);
+                }
+                return null;
+            }
+            Throwable cause =
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            failure.compareAndSet(null, cause);
+            for (Listener listener : listeners) {
+                listener.onFailure(flushId, writes.size(), cause);
+            }
+        } catch (RuntimeException listenerFailure) {
+            // a failing listener must not stop the flushes of the stripe
+            failure.compareAndSet(null, listenerFailure);
+        }
+        return null;
+    }
+
+    /** Buffer of the last writes to the documents of a stripe, and chain of its flushes */
+    private class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<String, Write> writes = new LinkedHashMap<>();
+        private long bytes;
+        private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        /** Sends the buffered writes after the previous flush, with the lock of the stripe held */
+        CompletableFuture<Void> flush() {
+            if (writes.isEmpty()) return tail;
+
+            Map<String, Write> flushed = writes;
+            long flushId = flushIds.incrementAndGet();
+            writes = new LinkedHashMap<>();
+            bytes = 0;
+            tail =
+                    tail.thenCompose(ignored -> send(flushId, flushed))
+                            .handle((tasks, e) -> onFlushed(flushId, flushed, tasks, e));
+            return tail;
+        }
+    }
+}
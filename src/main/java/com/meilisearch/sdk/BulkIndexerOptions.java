@@ -0,0 +1,48 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a {@link BulkIndexer}
+ *
+ * <p>Writes are spread over {@link #stripes} buffers by the hash of their primary key. A buffer
+ * is flushed once it holds {@link #maxDocuments} documents or {@link #maxBytes} bytes, and every
+ * buffer is flushed each {@link #flushIntervalMs}.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class BulkIndexerOptions {
+    /** Number of buffers, each flushed independently and sending one flush at a time */
+    @Builder.Default private int stripes = 4;
+
+    /** Number of distinct documents a buffer holds before it is flushed */
+    @Builder.Default private int maxDocuments = 1000;
+
+    /** Size in bytes of the encoded documents a buffer holds before it is flushed */
+    @Builder.Default private long maxBytes = 5L * 1024 * 1024;
+
+    /** Time in milliseconds between two flushes of every buffer, 0 to flush only when full */
+    @Builder.Default private long flushIntervalMs = 1000;
+
+    /**
+     * Size in bytes of the writes buffered or being sent, past which writers block until a flush
+     * completes
+     */
+    @Builder.Default private long maxBytesInFlight = 64L * 1024 * 1024;
+
+    /**
+     * Throttle blocking writers while Meilisearch has too many tasks queued, or null to write at
+     * the pace of the transport
+     */
+    @Builder.Default private TaskQueueThrottle throttle = null;
+
+    /**
+     * Creates the default options
+     *
+     * @return BulkIndexerOptions with every option set to its default
+     */
+    public static BulkIndexerOptions defaults() {
+        return BulkIndexerOptions.builder().build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Number of bytes that writers may hold at once, blocking them while it is used up
+ *
+ * <p>A request larger than the whole budget is charged the whole budget, so it waits until every
+ * other byte is released instead of waiting forever.
+ */
+class ByteBudget {
+    private final long maxBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private long usedBytes;
+    private Throwable failure;
+
+    ByteBudget(long maxBytes) {
+        if (maxBytes <= 0) throw new IllegalArgumentException("maxBytes must be positive");
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Takes bytes from the budget if they are available
+     *
+     * @param bytes number of bytes to take
+     * @return true if the bytes were taken
+     * @throws MeilisearchException if the budget was aborted
+     */
+    boolean tryAcquire(long bytes) throws MeilisearchException {
+        lock.lock();
+        try {
+            checkFailure();
+            if (!fits(bytes)) return false;
+            usedBytes += charge(bytes);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes bytes from the budget, waiting until they are available
+     *
+     * @param bytes number of bytes to take
+     * @throws MeilisearchException if the budget is aborted or the thread is interrupted
+     */
+    void acquire(long bytes) throws MeilisearchException {
+        lock.lock();
+        try {
+            while (!fits(bytes)) {
+                checkFailure();
+                released.await();
+            }
+            checkFailure();
+            usedBytes += charge(bytes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives bytes back to the budget, waking the writers waiting for them
+     *
+     * @param bytes number of bytes taken by {@link #acquire(long)} or {@link #tryAcquire(long)}
+     */
+    void release(long bytes) {
+        lock.lock();
+        try {
+            usedBytes -= charge(bytes);
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fails the writers waiting for bytes, and any later request
+     *
+     * @param cause failure reported to the writers
+     */
+    void abort(Throwable cause) {
+        lock.lock();
+        try {
+            if (failure == null) failure = cause;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean fits(long bytes) {
+        return usedBytes == 0 || usedBytes + charge(bytes) <= maxBytes;
+    }
+
+    private long charge(long bytes) {
+        return Math.min(bytes, maxBytes);
+    }
+
+    private void checkFailure() {
+        if (failure == null) return;
+        if (failure instanceof MeilisearchException) throw (MeilisearchException) failure;
+        throw new MeilisearchException(failure);
+    }
+}
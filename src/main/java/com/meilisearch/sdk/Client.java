@@ -10,7 +10,16 @@ import com.meilisearch.sdk.json.JsonHandler;
 import com.meilisearch.sdk.model.*;
 import com.meilisearch.sdk.model.batch.req.BatchesQuery;
 import com.meilisearch.sdk.model.batch.res.Batch;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /** Meilisearch client */
 public class Client {
@@ -21,6 +30,7 @@ public class Client {
     private KeysHandler keysHandler;
     private JsonHandler jsonHandler;
     private WebHooksHandler webHooksHandler;
+    private TaskWatcher taskWatcher;
 
     /**
      * Calls instance for Meilisearch client
@@ -35,6 +45,7 @@ public class Client {
         this.keysHandler = new KeysHandler(config);
         this.jsonHandler = config.jsonHandler;
         this.webHooksHandler = new WebHooksHandler(config);
+        this.taskWatcher = new TaskWatcher(this.tasksHandler, TaskWatcherOptions.defaults());
     }
 
     /**
@@ -97,6 +108,20 @@ public class Client {
         return indexes;
     }
 
+    /**
+     * Streams every index, requesting each page of the indexes route while the previous one is
+     * consumed
+     *
+     * <p>No request is made until the stream is consumed. A failed request is thrown as a
+     * MeilisearchException by the terminal operation of the stream.
+     *
+     * @param pageSize number of indexes requested per page
+     * @return lazy stream of the indexes
+     */
+    public Stream<Index> streamIndexes(int pageSize) {
+        return PaginatedStreams.indexes(this.indexesHandler, this.config, pageSize);
+    }
+
     /**
      * Gets all indexes
      *
@@ -299,6 +324,18 @@ public class Client {
         return this.tasksHandler.getTask(uid);
     }
 
+    /**
+     * Asynchronously retrieves a task with the specified uid
+     *
+     * @param uid Identifier of the requested Task
+     * @return future completed with the Meilisearch API response as Task Instance
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#get-one-task">API
+     *     specification</a>
+     */
+    public CompletableFuture<Task> getTaskAsync(int uid) {
+        return this.tasksHandler.getTaskAsync(uid);
+    }
+
     /**
      * Retrieves list of tasks
      *
@@ -324,6 +361,162 @@ public class Client {
         return this.tasksHandler.getTasks(param);
     }
 
+    /**
+     * Streams the tasks matching a query, requesting each page of the tasks route while the
+     * previous one is consumed
+     *
+     * <p>No request is made until the stream is consumed. The limit of the query is replaced by
+     * the page size and its from parameter, if set, is the uid of the first task. A failed request
+     * is thrown as a MeilisearchException by the terminal operation of the stream.
+     *
+     * @param param filters of the tasks, or null for every task
+     * @param pageSize number of tasks requested per page
+     * @return lazy stream of the tasks, in the order of the tasks route
+     */
+    public Stream<Task> streamTasks(TasksQuery param, int pageSize) {
+        return PaginatedStreams.tasks(this.tasksHandler, param, pageSize);
+    }
+
+    /**
+     * Exports the tasks enqueued in a time range, fetching slices of that range concurrently
+     *
+     * <p>The range is given by the afterEnqueuedAt filter of the query, which is required, and its
+     * beforeEnqueuedAt filter, which defaults to now. The other filters apply to every slice.
+     *
+     * @param param filters of the tasks
+     * @param options number and parallelism of the slices, or null for the defaults
+     * @param consumer receives every task on the calling thread, in ascending uid order
+     * @return number of exported tasks
+     * @throws MeilisearchException if a page of tasks could not be fetched
+     * @see TaskExportOptions
+     */
+    public long exportTasks(TasksQuery param, TaskExportOptions options, Consumer<Task> consumer)
+            throws MeilisearchException {
+        return new TaskExporter(this.tasksHandler, options).export(param, consumer);
+    }
+
+    /**
+     * Exports the tasks enqueued in a time range to a file, one JSON task per line, fetching
+     * slices of that range concurrently
+     *
+     * @param param filters of the tasks, whose afterEnqueuedAt is required
+     * @param options number and parallelism of the slices, or null for the defaults
+     * @param file NDJSON file written in ascending uid order, replaced if it exists
+     * @return number of exported tasks
+     * @throws MeilisearchException if a page of tasks could not be fetched or the file written
+     * @see #exportTasks(TasksQuery, TaskExportOptions, Consumer)
+     */
+    public long exportTasks(TasksQuery param, TaskExportOptions options, Path file)
+            throws MeilisearchException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            return exportTasks(
+                    param,
+                    options,
+                    task -> {
+                        try {
+                            this.config.jsonHandler.encodeTo(task, out);
+                            out.write('\n');
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw new MeilisearchException(e.getCause());
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    /**
+     * Waits asynchronously for a task to be processed, sharing a single polling loop with every
+     * other task watched through this client
+     *
+     * @param uid Identifier of the Task
+     * @return future completed with the processed Task, which may have failed
+     * @see TaskWatcher
+     */
+    public CompletableFuture<Task> waitForTaskAsync(int uid) {
+        return this.taskWatcher.watch(uid);
+    }
+
+    /**
+     * Waits asynchronously for a task to be processed, or until a timeout
+     *
+     * @param uid Identifier of the Task
+     * @param timeoutInMs number of milliseconds before the future fails with a TimeoutException
+     * @return future completed with the processed Task, which may have failed
+     * @see TaskWatcher#watch(int, long)
+     */
+    public CompletableFuture<Task> waitForTaskAsync(int uid, long timeoutInMs) {
+        return this.taskWatcher.watch(uid, timeoutInMs);
+    }
+
+    /**
+     * Gets the TaskWatcher of this client, polling the status of all the tasks it watches at once
+     *
+     * @return the TaskWatcher shared by the callers of this client
+     */
+    public TaskWatcher getTaskWatcher() {
+        return this.taskWatcher;
+    }
+
+    /**
+     * Creates a TaskWatcher with its own polling intervals
+     *
+     * @param options Polling intervals of the watcher, or null for the defaults
+     * @return a new TaskWatcher
+     */
+    public TaskWatcher taskWatcher(TaskWatcherOptions options) {
+        return new TaskWatcher(
+                this.tasksHandler, options != null ? options : TaskWatcherOptions.defaults());
+    }
+
+    /**
+     * Creates a BatchProgressMonitor reporting the progress of the batches processing some tasks
+     *
+     * @param options Polling interval of the monitor, or null for the defaults
+     * @return a new BatchProgressMonitor, following no task yet
+     */
+    public BatchProgressMonitor batchProgressMonitor(BatchProgressMonitorOptions options) {
+        return new BatchProgressMonitor(
+                this.tasksHandler,
+                options != null ? options : BatchProgressMonitorOptions.defaults());
+    }
+
+    /**
+     * Starts an embedded HTTP server receiving processed tasks from Meilisearch, and registers it
+     * as a webhook
+     *
+     * <p>Meilisearch must be able to reach the receiver at its URL. The receiver must be closed to
+     * delete the webhook and stop the server.
+     *
+     * @param options Address and fallback polling of the receiver, or null for the defaults
+     * @return the started TaskWebhookReceiver
+     * @throws MeilisearchException if the server cannot listen or the webhook cannot be created
+     * @see TaskWebhookReceiver
+     */
+    public TaskWebhookReceiver startTaskWebhookReceiver(TaskWebhookReceiverOptions options)
+            throws MeilisearchException {
+        return TaskWebhookReceiver.start(
+                this.webHooksHandler,
+                this.tasksHandler,
+                this.jsonHandler,
+                options != null ? options : TaskWebhookReceiverOptions.defaults());
+    }
+
+    /**
+     * Creates a throttle pausing producers of writes while Meilisearch has too many tasks queued
+     *
+     * @param options Water marks and poll interval of the throttle, or null for the defaults
+     * @return the TaskQueueThrottle, to set in the options of uploads or to call before writes
+     * @see TaskQueueThrottle
+     */
+    public TaskQueueThrottle taskQueueThrottle(TaskQueueThrottleOptions options) {
+        return new TaskQueueThrottle(
+                this.tasksHandler,
+                options != null ? options : TaskQueueThrottleOptions.defaults());
+    }
+
     /**
      * Cancel any number of enqueued or processing tasks
      *
@@ -383,6 +576,22 @@ public class Client {
         return this.tasksHandler.getAllBatches(batchesQuery);
     }
 
+    /**
+     * Streams the batches matching the provided query parameters, requesting each page of the
+     * batches route while the previous one is consumed
+     *
+     * <p>No request is made until the stream is consumed. The limit of the query is replaced by
+     * the page size and its from parameter, if set, is the uid of the first batch. A failed
+     * request is thrown as a MeilisearchException by the terminal operation of the stream.
+     *
+     * @param batchesQuery filters of the batches, or null for every batch
+     * @param pageSize number of batches requested per page
+     * @return lazy stream of the batches, in the order of the batches route
+     */
+    public Stream<Batch> streamBatches(BatchesQuery batchesQuery, int pageSize) {
+        return PaginatedStreams.batches(this.tasksHandler, batchesQuery, pageSize);
+    }
+
     /**
      * Retrieves the key with the specified uid
      *
@@ -421,6 +630,20 @@ public class Client {
         return this.keysHandler.getKeys(params);
     }
 
+    /**
+     * Streams every API key, requesting each page of the keys route while the previous one is
+     * consumed
+     *
+     * <p>No request is made until the stream is consumed. A failed request is thrown as a
+     * MeilisearchException by the terminal operation of the stream.
+     *
+     * @param pageSize number of keys requested per page
+     * @return lazy stream of the keys
+     */
+    public Stream<Key> streamKeys(int pageSize) {
+        return PaginatedStreams.keys(this.keysHandler, pageSize);
+    }
+
     /**
      * Creates a key
      *
@@ -469,13 +692,56 @@ public class Client {
         Map<String, Object> payload = new HashMap<>();
         payload.put("queries", search.getQueries());
         payload.put("federation", federation);
-        return this.config.httpClient.post("/multi-search", payload, MultiSearchResult.class);
+        return this.config.httpClient.post(
+                "/multi-search", payload, HttpClient.READ_ONLY, MultiSearchResult.class);
     }
 
     public Results<MultiSearchResult> multiSearch(MultiSearchRequest search)
             throws MeilisearchException {
         return this.config.httpClient.post(
-                "/multi-search", search, Results.class, MultiSearchResult.class);
+                "/multi-search",
+                search,
+                HttpClient.READ_ONLY,
+                Results.class,
+                MultiSearchResult.class);
+    }
+
+    /**
+     * Asynchronously performs a federated multi search
+     *
+     * @param search queries to run
+     * @param federation federation parameters merging the results of every query
+     * @return future completed with the merged search results
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/multi_search">API
+     *     specification</a>
+     */
+    public CompletableFuture<MultiSearchResult> multiSearchAsync(
+            MultiSearchRequest search, MultiSearchFederation federation) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("queries", search.getQueries());
+        payload.put("federation", federation);
+        return this.config.httpClient.postAsync(
+                "/multi-search", payload, HttpClient.READ_ONLY, MultiSearchResult.class);
+    }
+
+    /**
+     * Asynchronously performs a multi search
+     *
+     * @param search queries to run
+     * @return future completed with the results of every query
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/multi_search">API
+     *     specification</a>
+     */
+    public CompletableFuture<Results<MultiSearchResult>> multiSearchAsync(
+            MultiSearchRequest search) {
+        return HttpClient.map(
+                this.config.httpClient.postAsync(
+                        "/multi-search",
+                        search,
+                        HttpClient.READ_ONLY,
+                        Results.class,
+                        MultiSearchResult.class),
+                results -> (Results<MultiSearchResult>) results);
     }
 
     public void experimentalFeatures(Map<String, Boolean> features) {
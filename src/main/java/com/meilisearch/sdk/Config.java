@@ -1,9 +1,12 @@
 package com.meilisearch.sdk;
 
+import com.meilisearch.sdk.http.HostPool;
+import com.meilisearch.sdk.http.TransportOptions;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.json.JsonHandler;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,9 +18,12 @@ import lombok.Setter;
 @Setter
 public class Config {
     protected final String hostUrl;
+    protected final List<String> hostUrls;
+    protected final HostPool hostPool;
     protected final String apiKey;
     protected final HttpClient httpClient;
     protected final Map<String, String> headers;
+    protected final TransportOptions transportOptions;
     protected JsonHandler jsonHandler;
 
     /**
@@ -70,11 +76,85 @@ public class Config {
      * @param clientAgents List of customized agents to be passed to User-Agent header.
      */
     public Config(String hostUrl, String apiKey, JsonHandler jsonHandler, String[] clientAgents) {
-        this.hostUrl = hostUrl;
+        this(hostUrl, apiKey, jsonHandler, clientAgents, TransportOptions.defaults());
+    }
+
+    /**
+     * Creates a configuration with an API key and customized transport options
+     *
+     * @param hostUrl URL of the Meilisearch instance
+     * @param apiKey API key to pass to the header of requests sent to Meilisearch
+     * @param transportOptions Connection pool, dispatcher, timeouts and protocols of the HTTP
+     *     transport. Configs created with the same instance share a single OkHttpClient.
+     */
+    public Config(String hostUrl, String apiKey, TransportOptions transportOptions) {
+        this(hostUrl, apiKey, new GsonJsonHandler(), new String[0], transportOptions);
+    }
+
+    /**
+     * Creates a configuration with an API key and customized transport options
+     *
+     * @param hostUrl URL of the Meilisearch instance
+     * @param apiKey API key to pass to the header of requests sent to Meilisearch
+     * @param jsonHandler JsonHandler to parse or write JSON
+     * @param clientAgents List of customized agents to be passed to User-Agent header.
+     * @param transportOptions Connection pool, dispatcher, timeouts and protocols of the HTTP
+     *     transport. Configs created with the same instance share a single OkHttpClient.
+     */
+    public Config(
+            String hostUrl,
+            String apiKey,
+            JsonHandler jsonHandler,
+            String[] clientAgents,
+            TransportOptions transportOptions) {
+        this(
+                Collections.singletonList(hostUrl),
+                apiKey,
+                jsonHandler,
+                clientAgents,
+                transportOptions);
+    }
+
+    /**
+     * Creates a configuration spreading requests across several identical Meilisearch instances
+     *
+     * @param hostUrls URLs of the Meilisearch instances
+     * @param apiKey API key to pass to the header of requests sent to Meilisearch
+     */
+    public Config(List<String> hostUrls, String apiKey) {
+        this(hostUrls, apiKey, new GsonJsonHandler(), new String[0], TransportOptions.defaults());
+    }
+
+    /**
+     * Creates a configuration spreading requests across several identical Meilisearch instances
+     *
+     * <p>Every request attempt is sent to the host with the lowest latency among two healthy hosts
+     * picked at random. Hosts are health-checked in the background, ejected when they fail and
+     * re-admitted once they recover, according to the LoadBalancingPolicy of the transport
+     * options.
+     *
+     * @param hostUrls URLs of the Meilisearch instances
+     * @param apiKey API key to pass to the header of requests sent to Meilisearch
+     * @param jsonHandler JsonHandler to parse or write JSON
+     * @param clientAgents List of customized agents to be passed to User-Agent header.
+     * @param transportOptions Connection pool, dispatcher, timeouts and protocols of the HTTP
+     *     transport. Configs created with the same instance share a single OkHttpClient.
+     */
+    public Config(
+            List<String> hostUrls,
+            String apiKey,
+            JsonHandler jsonHandler,
+            String[] clientAgents,
+            TransportOptions transportOptions) {
+        this.hostPool = new HostPool(hostUrls, transportOptions.getLoadBalancingPolicy());
+        this.hostUrls = Collections.unmodifiableList(new ArrayList<>(hostUrls));
+        this.hostUrl = this.hostUrls.get(0);
         this.apiKey = apiKey;
         this.headers = configHeaders(clientAgents);
         this.jsonHandler = jsonHandler;
+        this.transportOptions = transportOptions;
         this.httpClient = new HttpClient(this);
+        if (this.hostUrls.size() > 1) HostHealthChecker.start(this);
     }
 
     /**
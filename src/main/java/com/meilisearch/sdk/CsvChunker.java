@@ -0,0 +1,96 @@
+package com.meilisearch.sdk;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Splits a CSV stream into chunks of whole rows, each starting with the header of the stream
+ *
+ * <p>Rows end at a line feed outside of double quotes, so quoted fields spanning several lines
+ * are never cut. The quote and line feed bytes never occur inside a multi-byte UTF-8 character,
+ * so the stream is split without being decoded. Only one chunk is held in memory at a time.
+ */
+class CsvChunker {
+    private static final byte QUOTE = '"';
+    private static final byte NEWLINE = '\n';
+
+    private final InputStream in;
+    private final long maxChunkBytes;
+    private final byte[] buffer = new byte[8192];
+    private int position;
+    private int limit;
+    private byte[] header;
+    private byte[] pendingRow;
+
+    /**
+     * @param in CSV stream, starting with its header
+     * @param maxChunkBytes size a chunk does not exceed, unless it holds a single larger row
+     */
+    CsvChunker(InputStream in, long maxChunkBytes) {
+        if (maxChunkBytes <= 0) {
+            throw new IllegalArgumentException("maxChunkBytes must be positive");
+        }
+        this.in = in;
+        this.maxChunkBytes = maxChunkBytes;
+    }
+
+    /**
+     * Reads the next chunk of the stream
+     *
+     * @return the header followed by as many rows as fit in the chunk, or null once every row has
+     *     been read
+     * @throws IOException if reading the stream fails
+     */
+    byte[] nextChunk() throws IOException {
+        if (header == null) {
+            header = readRow();
+            if (header == null) return null;
+        }
+
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        chunk.write(header);
+        boolean hasRows = false;
+        while (true) {
+            if (pendingRow == null) pendingRow = readRow();
+            if (pendingRow == null) break;
+            if (hasRows && chunk.size() + pendingRow.length > maxChunkBytes) break;
+
+            chunk.write(pendingRow);
+            pendingRow = null;
+            hasRows = true;
+        }
+        return hasRows ? chunk.toByteArray() : null;
+    }
+
+    /** Reads a row up to and including its line feed, or null at the end of the stream */
+    private byte[] readRow() throws IOException {
+        ByteArrayOutputStream row = new ByteArrayOutputStream();
+        boolean inQuotes = false;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit == -1) {
+                    limit = 0;
+                    if (row.size() == 0) return null;
+                    // the last row may lack its line feed, which rows of a chunk must not
+                    row.write(NEWLINE);
+                    return row.toByteArray();
+                }
+            }
+
+            int start = position;
+            while (position < limit) {
+                byte b = buffer[position++];
+                if (b == QUOTE) {
+                    inQuotes = !inQuotes;
+                } else if (b == NEWLINE && !inQuotes) {
+                    row.write(buffer, start, position - start);
+                    return row.toByteArray();
+                }
+            }
+            row.write(buffer, start, position - start);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.meilisearch.sdk;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Schedulers of the background work of the SDK, each running on a single named daemon thread so
+ * that it never keeps the JVM alive
+ */
+final class DaemonSchedulers {
+
+    private DaemonSchedulers() {}
+
+    /**
+     * Creates a scheduler running its tasks one after another on a daemon thread
+     *
+     * @param threadName name of the thread, telling which component it serves
+     * @return the ScheduledExecutorService, meant to be shared by every instance of the component
+     */
+    static ScheduledExecutorService newScheduler(String threadName) {
+        return Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
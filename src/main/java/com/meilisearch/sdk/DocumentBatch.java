@@ -0,0 +1,27 @@
+package com.meilisearch.sdk;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/** Batch of documents cut from a JSON array by a {@link DocumentBatcher} */
+@Getter
+@ToString(exclude = "documents")
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class DocumentBatch {
+    /** JSON array holding the documents of the batch, as written in the input */
+    private final String documents;
+
+    /** Number of documents in the batch */
+    private final int documentCount;
+
+    /** UTF-8 offset in the input of the first byte of the first document of the batch */
+    private final long startByte;
+
+    /** UTF-8 offset in the input following the last byte of the last document of the batch */
+    private final long endByte;
+
+    /** Size in bytes of the UTF-8 encoded JSON array of the batch */
+    private final long byteSize;
+}
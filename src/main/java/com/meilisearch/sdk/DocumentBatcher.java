@@ -0,0 +1,187 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Cuts a JSON array of documents into batches bounded by a number of documents and a size in
+ * bytes, in a single pass and without parsing the documents
+ *
+ * <p>The array is only tokenized far enough to find where its elements start and end, skipping
+ * strings and nested values. Each batch holds the documents as written in the input, so they are
+ * sent without being decoded and encoded again. Batches are cut lazily as the iterator advances.
+ */
+public class DocumentBatcher implements Iterator<DocumentBatch> {
+    private final String json;
+    private int maxDocuments;
+    private long maxBytes;
+
+    /** Position of the next character to tokenize, and its offset in UTF-8 */
+    private int position;
+
+    private long byteOffset;
+    private boolean started;
+    private boolean ended;
+
+    /** Document read ahead of the batch it did not fit in */
+    private int pendingStart = -1;
+
+    private int pendingEnd;
+    private long pendingStartByte;
+    private long pendingEndByte;
+
+    private DocumentBatch next;
+
+    /**
+     * Creates a batcher over a JSON array of documents
+     *
+     * @param json JSON array of documents
+     * @param maxDocuments maximum number of documents of a batch, 0 or less for no limit
+     * @param maxBytes maximum size in bytes of a batch, 0 or less for no limit. A single document
+     *     larger than this limit is sent alone.
+     */
+    public DocumentBatcher(String json, int maxDocuments, long maxBytes) {
+        this.json = json;
+        this.maxDocuments = maxDocuments;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Changes the limits of the batches cut from now on. A batch already cut by {@link #hasNext()}
+     * keeps the previous limits.
+     *
+     * @param maxDocuments maximum number of documents of a batch, 0 or less for no limit
+     * @param maxBytes maximum size in bytes of a batch, 0 or less for no limit
+     */
+    public void setLimits(int maxDocuments, long maxBytes) {
+        this.maxDocuments = maxDocuments;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public boolean hasNext() throws MeilisearchException {
+        if (next == null) next = cut();
+        return next != null;
+    }
+
+    @Override
+    public DocumentBatch next() throws MeilisearchException {
+        if (!hasNext()) throw new NoSuchElementException();
+        DocumentBatch batch = next;
+        next = null;
+        return batch;
+    }
+
+    private DocumentBatch cut() {
+        int start = -1;
+        int end = 0;
+        long startByte = 0;
+        long endByte = 0;
+        int count = 0;
+        while (true) {
+            if (pendingStart < 0 && !readDocument()) break;
+
+            long size = pendingEndByte - (count == 0 ? pendingStartByte : startByte) + 2;
+            if (count > 0
+                    && (maxDocuments > 0 && count >= maxDocuments
+                            || maxBytes > 0 && size > maxBytes)) {
+                break;
+            }
+            if (count == 0) {
+                start = pendingStart;
+                startByte = pendingStartByte;
+            }
+            end = pendingEnd;
+            endByte = pendingEndByte;
+            count++;
+            pendingStart = -1;
+        }
+        if (count == 0) return null;
+        return new DocumentBatch(
+                "[" + json.substring(start, end) + "]",
+                count,
+                startByte,
+                endByte,
+                endByte - startByte + 2);
+    }
+
+    /** Reads the bounds of the next document of the array, or returns false at its end */
+    private boolean readDocument() {
+        if (ended) return false;
+        if (!started) {
+            skipWhitespace();
+            if (position == json.length() || json.charAt(position) != '[') {
+                throw new MeilisearchException("Documents must be a JSON array");
+            }
+            advance();
+            started = true;
+        }
+
+        skipWhitespace();
+        pendingStart = position;
+        pendingStartByte = byteOffset;
+        pendingEnd = position;
+        pendingEndByte = byteOffset;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        while (position < json.length()) {
+            char c = json.charAt(position);
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+            } else if (depth == 0 && (c == ',' || c == ']')) {
+                advance();
+                if (c == ']') {
+                    ended = true;
+                    skipWhitespace();
+                    if (position != json.length()) {
+                        throw new MeilisearchException("Unexpected content after the documents");
+                    }
+                }
+                if (pendingEnd > pendingStart) return true;
+                if (c == ']') {
+                    pendingStart = -1;
+                    return false;
+                }
+                throw new MeilisearchException("Missing document in the JSON array");
+            } else if (c == '"') {
+                inString = true;
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+            advance();
+            if (inString || !Character.isWhitespace(c)) {
+                pendingEnd = position;
+                pendingEndByte = byteOffset;
+            }
+        }
+        throw new MeilisearchException("Unterminated JSON array of documents");
+    }
+
+    private void skipWhitespace() {
+        while (position < json.length() && Character.isWhitespace(json.charAt(position))) {
+            advance();
+        }
+    }
+
+    private void advance() {
+        char c = json.charAt(position++);
+        if (c < 0x80) {
+            byteOffset += 1;
+        } else if (c < 0x800 || Character.isSurrogate(c)) {
+            // each half of a surrogate pair accounts for half of its 4 UTF-8 bytes
+            byteOffset += 2;
+        } else {
+            byteOffset += 3;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.CsvRequestBody;
+import com.meilisearch.sdk.http.request.FileRequestBody;
+import com.meilisearch.sdk.http.request.NdjsonRequestBody;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits a JSON, NDJSON or CSV document file into chunks of whole records without decoding it
+ *
+ * <p>The file is scanned once, byte by byte, to find where records end: line feeds for NDJSON,
+ * line feeds outside double quotes for CSV, and commas between the elements of the top-level
+ * array for JSON. Every structural byte is ASCII and never occurs inside a multi-byte UTF-8
+ * character. Each chunk is then sent as a region of the file, wrapped in brackets for JSON and
+ * preceded by the header for CSV, so only the offsets of the chunks are held in memory.
+ */
+class DocumentFileSplitter {
+    static final String JSON = "application/json";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte[] OPENING_BRACKET = {'['};
+    private static final byte[] CLOSING_BRACKET = {']'};
+
+    private enum Format {
+        JSON,
+        NDJSON,
+        CSV
+    }
+
+    private final Path file;
+    private final String contentType;
+    private final Format format;
+    private final long maxChunkBytes;
+    private final List<FileRequestBody> chunks = new ArrayList<>();
+
+    private byte[] prefix;
+    private byte[] suffix;
+    private long chunkStart = -1;
+    private long chunkEnd;
+
+    private DocumentFileSplitter(Path file, String contentType, long maxChunkBytes) {
+        if (maxChunkBytes <= 0) {
+            throw new IllegalArgumentException("maxChunkBytes must be positive");
+        }
+        this.file = file;
+        this.contentType = contentType;
+        this.format = formatOf(contentType);
+        this.maxChunkBytes = maxChunkBytes;
+    }
+
+    /**
+     * Checks that documents of a content type can be sent from a file
+     *
+     * @param contentType media type of the documents
+     * @throws MeilisearchException if Meilisearch does not accept documents of this type
+     */
+    static void checkContentType(String contentType) throws MeilisearchException {
+        formatOf(contentType);
+    }
+
+    /**
+     * Splits a document file into chunks of whole records
+     *
+     * @param file JSON array, NDJSON or CSV file
+     * @param contentType media type of the file
+     * @param maxChunkBytes size a chunk does not exceed, unless it holds a single larger record
+     * @return the body of each chunk, in the order of the file
+     * @throws IOException if reading the file fails
+     * @throws MeilisearchException if Meilisearch does not accept documents of this type
+     */
+    static List<FileRequestBody> split(Path file, String contentType, long maxChunkBytes)
+            throws IOException {
+        DocumentFileSplitter splitter = new DocumentFileSplitter(file, contentType, maxChunkBytes);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            splitter.scan(channel);
+        }
+        return splitter.chunks;
+    }
+
+    private static Format formatOf(String contentType) {
+        String mediaType =
+                contentType == null
+                        ? ""
+                        : contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        switch (mediaType) {
+            case JSON:
+                return Format.JSON;
+            case NdjsonRequestBody.CONTENT_TYPE:
+                return Format.NDJSON;
+            case CsvRequestBody.CONTENT_TYPE:
+                return Format.CSV;
+            default:
+                throw new MeilisearchException(
+                        "Unsupported content type of documents: "
+                                + contentType
+                                + ", expected "
+                                + JSON
+                                + ", "
+                                + NdjsonRequestBody.CONTENT_TYPE
+                                + " or "
+                                + CsvRequestBody.CONTENT_TYPE);
+        }
+    }
+
+    private void scan(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long offset = 0;
+        long recordStart = 0;
+        boolean inQuotes = false;
+        boolean escaped = false;
+        boolean hasContent = false;
+        int depth = 0;
+        boolean whole = false;
+
+        int read;
+        while (!whole && (read = channel.read(buffer, offset)) != -1) {
+            byte[] bytes = buffer.array();
+            for (int i = 0; i < read && !whole; i++) {
+                byte b = bytes[i];
+                long position = offset + i;
+                switch (format) {
+                    case NDJSON:
+                        if (b == '\n') {
+                            addRecord(recordStart, position + 1);
+                            recordStart = position + 1;
+                        }
+                        break;
+                    case CSV:
+                        if (b == '"') {
+                            inQuotes = !inQuotes;
+                        } else if (b == '\n' && !inQuotes) {
+                            if (prefix == null) {
+                                prefix = readRegion(channel, 0, position + 1);
+                            } else {
+                                addRecord(recordStart, position + 1);
+                            }
+                            recordStart = position + 1;
+                        }
+                        break;
+                    case JSON:
+                        if (inQuotes) {
+                            if (escaped) {
+                                escaped = false;
+                            } else if (b == '\\') {
+                                escaped = true;
+                            } else if (b == '"') {
+                                inQuotes = false;
+                            }
+                            break;
+                        }
+                        if (depth == 0) {
+                            if (isWhitespace(b)) break;
+                            if (b != '[' || prefix != null) {
+                                // not a single array, which cannot be split
+                                whole = true;
+                                break;
+                            }
+                            prefix = OPENING_BRACKET;
+                            suffix = CLOSING_BRACKET;
+                            depth = 1;
+                            recordStart = position + 1;
+                            break;
+                        }
+                        if (b == '"') {
+                            inQuotes = true;
+                        } else if (b == '[' || b == '{') {
+                            depth++;
+                        } else if (depth == 1 && (b == ',' || b == ']')) {
+                            if (hasContent) addRecord(recordStart, position);
+                            recordStart = position + 1;
+                            hasContent = false;
+                            if (b == ']') depth = 0;
+                            break;
+                        } else if (b == ']' || b == '}') {
+                            depth--;
+                        }
+                        if (!isWhitespace(b)) hasContent = true;
+                        break;
+                }
+            }
+            offset += read;
+            buffer.clear();
+        }
+
+        if (whole) {
+            chunks.clear();
+            chunks.add(FileRequestBody.of(file, 0, channel.size(), null, null, contentType));
+            return;
+        }
+        boolean afterHeader = format == Format.NDJSON || format == Format.CSV && prefix != null;
+        if (afterHeader && recordStart < offset) {
+            // the last record lacks its line feed
+            addRecord(recordStart, offset);
+        }
+        flush();
+    }
+
+    private void addRecord(long start, long end) {
+        long overhead = (prefix != null ? prefix.length : 0) + (suffix != null ? suffix.length : 0);
+        if (chunkStart >= 0 && end - chunkStart + overhead > maxChunkBytes) flush();
+        if (chunkStart < 0) chunkStart = start;
+        chunkEnd = end;
+    }
+
+    private void flush() {
+        if (chunkStart < 0) return;
+        chunks.add(
+                FileRequestBody.of(
+                        file, chunkStart, chunkEnd - chunkStart, prefix, suffix, contentType));
+        chunkStart = -1;
+    }
+
+    private static byte[] readRegion(FileChannel channel, long position, long count)
+            throws IOException {
+        ByteBuffer region = ByteBuffer.allocate((int) count);
+        while (region.hasRemaining()) {
+            if (channel.read(region, position + region.position()) == -1) break;
+        }
+        return region.array();
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
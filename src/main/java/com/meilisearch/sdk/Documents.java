@@ -1,13 +1,26 @@
 package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.TransportOptions;
 import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.http.request.CsvRequestBody;
+import com.meilisearch.sdk.http.request.FileRequestBody;
+import com.meilisearch.sdk.http.request.HttpRequestBody;
+import com.meilisearch.sdk.http.request.NdjsonRequestBody;
+import com.meilisearch.sdk.http.request.RequestOptions;
+import com.meilisearch.sdk.json.JsonHandler;
 import com.meilisearch.sdk.model.DocumentQuery;
 import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.TaskInfo;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class covering the Meilisearch Document API
@@ -16,6 +29,8 @@ import java.util.List;
  */
 class Documents {
     private final HttpClient httpClient;
+    private final TransportOptions transportOptions;
+    private final JsonHandler jsonHandler;
 
     /**
      * Creates and sets up an instance of Documents to simplify Meilisearch API calls to manage
@@ -25,6 +40,8 @@ class Documents {
      */
     protected Documents(Config config) {
         this.httpClient = config.httpClient;
+        this.transportOptions = config.getTransportOptions();
+        this.jsonHandler = config.getJsonHandler();
     }
 
     /**
@@ -114,6 +131,7 @@ class Documents {
             return httpClient.post(
                     documentPathWithFetch(uid).getURL(),
                     param.toString(),
+                    HttpClient.READ_ONLY,
                     Results.class,
                     targetClass);
         }
@@ -143,7 +161,10 @@ class Documents {
     String getRawDocuments(String uid, DocumentsQuery param) throws MeilisearchException {
         if (param.getFilter() != null) {
             return httpClient.post(
-                    documentPathWithFetch(uid).getURL(), param.toString(), String.class);
+                    documentPathWithFetch(uid).getURL(),
+                    param.toString(),
+                    HttpClient.READ_ONLY,
+                    String.class);
         }
         return httpClient.<String>get(
                 documentPath(uid).addQuery(param.toQuery()).getURL(), String.class);
@@ -182,17 +203,342 @@ class Documents {
             String csvDelimiter,
             String customMetadata)
             throws MeilisearchException {
-        URLBuilder urlb = documentPath(uid);
-        if (primaryKey != null) {
-            urlb.addParameter("primaryKey", primaryKey);
+        return addDocuments(uid, document, primaryKey, csvDelimiter, customMetadata, null);
+    }
+
+    /**
+     * Adds/Replaces a document at the specified index uid
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to add
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, or null to use the defaults of the Config
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocuments(
+            String uid,
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options)
+            throws MeilisearchException {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, csvDelimiter, customMetadata);
+        return httpClient.post(
+                urlb.getURL(),
+                documentBody(document, csvDelimiter),
+                ingestionOptions(options),
+                TaskInfo.class);
+    }
+
+    /**
+     * Asynchronously adds/replaces a document at the specified index uid
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to add
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> addDocumentsAsync(
+            String uid,
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata) {
+        return addDocumentsAsync(uid, document, primaryKey, csvDelimiter, customMetadata, null);
+    }
+
+    /**
+     * Asynchronously adds/replaces a document at the specified index uid
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to add
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, or null to use the defaults of the Config
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> addDocumentsAsync(
+            String uid,
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options) {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, csvDelimiter, customMetadata);
+        return httpClient.postAsync(
+                urlb.getURL(),
+                documentBody(document, csvDelimiter),
+                ingestionOptions(options),
+                TaskInfo.class);
+    }
+
+    /**
+     * Adds/Replaces documents encoded as NDJSON while the request body is written
+     *
+     * @param uid Partial index identifier for the documents
+     * @param documents Documents to add, consumed once
+     * @param primaryKey PrimaryKey of the documents
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    <T> TaskInfo addDocumentsNdjson(String uid, Iterator<T> documents, String primaryKey)
+            throws MeilisearchException {
+        return addDocuments(uid, NdjsonRequestBody.of(documents, jsonHandler), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents streamed from an NDJSON file
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file File holding one JSON document per line
+     * @param primaryKey PrimaryKey of the documents
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocumentsNdjson(String uid, Path file, String primaryKey)
+            throws MeilisearchException {
+        return addDocuments(uid, NdjsonRequestBody.of(file), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents streamed from a CSV file
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file CSV file starting with its header
+     * @param primaryKey PrimaryKey of the documents
+     * @param csvDelimiter CSV delimiter of the file
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocumentsCsv(String uid, Path file, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        return addDocuments(uid, CsvRequestBody.of(file), primaryKey, csvDelimiter);
+    }
+
+    /**
+     * Adds/Replaces documents streamed from a CSV input stream
+     *
+     * @param uid Partial index identifier for the documents
+     * @param csv CSV stream starting with its header, consumed once and not closed
+     * @param primaryKey PrimaryKey of the documents
+     * @param csvDelimiter CSV delimiter of the stream
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocumentsCsv(String uid, InputStream csv, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        return addDocuments(uid, CsvRequestBody.of(csv), primaryKey, csvDelimiter);
+    }
+
+    /**
+     * Adds/Replaces documents of a CSV file in chunks of whole rows, each sent with the header
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file CSV file starting with its header
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger row
+     * @param primaryKey PrimaryKey of the documents
+     * @param csvDelimiter CSV delimiter of the file
+     * @return Meilisearch's TaskInfo API responses, one per chunk
+     * @throws MeilisearchException if reading the file or the client request causes an error
+     */
+    TaskInfo[] addDocumentsCsvInBatches(
+            String uid, Path file, long maxChunkBytes, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        List<TaskInfo> responses = new ArrayList<>();
+        for (FileRequestBody chunk : splitFile(file, CsvRequestBody.CONTENT_TYPE, maxChunkBytes)) {
+            responses.add(addDocuments(uid, chunk, primaryKey, csvDelimiter));
         }
-        if (csvDelimiter != null) {
-            urlb.addParameter("csvDelimiter", csvDelimiter);
+        return responses.toArray(new TaskInfo[0]);
+    }
+
+    /**
+     * Adds/Replaces documents of a CSV input stream in chunks of whole rows, each sent with the
+     * header
+     *
+     * @param uid Partial index identifier for the documents
+     * @param csv CSV stream starting with its header, consumed once and not closed
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger row
+     * @param primaryKey PrimaryKey of the documents
+     * @param csvDelimiter CSV delimiter of the stream
+     * @return Meilisearch's TaskInfo API responses, one per chunk
+     * @throws MeilisearchException if reading the stream or the client request causes an error
+     */
+    TaskInfo[] addDocumentsCsvInBatches(
+            String uid,
+            InputStream csv,
+            long maxChunkBytes,
+            String primaryKey,
+            String csvDelimiter)
+            throws MeilisearchException {
+        CsvChunker chunker = new CsvChunker(csv, maxChunkBytes);
+        List<TaskInfo> responses = new ArrayList<>();
+        try {
+            byte[] chunk;
+            while ((chunk = chunker.nextChunk()) != null) {
+                responses.add(
+                        addDocuments(uid, CsvRequestBody.of(chunk), primaryKey, csvDelimiter));
+            }
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
         }
-        if (customMetadata != null) {
-            urlb.addParameter("customMetadata", customMetadata);
+        return responses.toArray(new TaskInfo[0]);
+    }
+
+    /**
+     * Adds/Replaces documents streamed from a JSON, NDJSON or CSV file
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file File holding the documents
+     * @param contentType Media type of the file
+     * @param primaryKey PrimaryKey of the documents
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo addDocuments(String uid, Path file, String contentType, String primaryKey)
+            throws MeilisearchException {
+        return addDocuments(uid, fileBody(file, contentType), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents of a JSON, NDJSON or CSV file in chunks of whole records
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file File holding the documents
+     * @param contentType Media type of the file
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger record
+     * @param primaryKey PrimaryKey of the documents
+     * @return Meilisearch's TaskInfo API responses, one per chunk
+     * @throws MeilisearchException if reading the file or the client request causes an error
+     */
+    TaskInfo[] addDocumentsInBatches(
+            String uid, Path file, String contentType, long maxChunkBytes, String primaryKey)
+            throws MeilisearchException {
+        List<TaskInfo> responses = new ArrayList<>();
+        for (FileRequestBody chunk : splitFile(file, contentType, maxChunkBytes)) {
+            responses.add(addDocuments(uid, chunk, primaryKey));
+        }
+        return responses.toArray(new TaskInfo[0]);
+    }
+
+    /**
+     * Updates documents streamed from a JSON, NDJSON or CSV file
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file File holding the documents
+     * @param contentType Media type of the file
+     * @param primaryKey PrimaryKey of the documents
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo updateDocuments(String uid, Path file, String contentType, String primaryKey)
+            throws MeilisearchException {
+        return updateDocuments(uid, fileBody(file, contentType), primaryKey);
+    }
+
+    /**
+     * Updates documents of a JSON, NDJSON or CSV file in chunks of whole records
+     *
+     * @param uid Partial index identifier for the documents
+     * @param file File holding the documents
+     * @param contentType Media type of the file
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger record
+     * @param primaryKey PrimaryKey of the documents
+     * @return Meilisearch's TaskInfo API responses, one per chunk
+     * @throws MeilisearchException if reading the file or the client request causes an error
+     */
+    TaskInfo[] updateDocumentsInBatches(
+            String uid, Path file, String contentType, long maxChunkBytes, String primaryKey)
+            throws MeilisearchException {
+        List<TaskInfo> responses = new ArrayList<>();
+        for (FileRequestBody chunk : splitFile(file, contentType, maxChunkBytes)) {
+            responses.add(updateDocuments(uid, chunk, primaryKey));
         }
-        return httpClient.post(urlb.getURL(), document, TaskInfo.class);
+        return responses.toArray(new TaskInfo[0]);
+    }
+
+    /**
+     * Asynchronously adds/replaces the documents of a request body
+     *
+     * @param uid Partial index identifier for the documents
+     * @param body JSON array of the documents
+     * @param primaryKey PrimaryKey of the documents
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> addDocumentsAsync(
+            String uid, HttpRequestBody body, String primaryKey) {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, null, null);
+        return httpClient.postAsync(urlb.getURL(), body, ingestionOptions(null), TaskInfo.class);
+    }
+
+    /**
+     * Asynchronously updates the documents of a request body
+     *
+     * @param uid Partial index identifier for the documents
+     * @param body JSON array of the documents
+     * @param primaryKey PrimaryKey of the documents
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String uid, HttpRequestBody body, String primaryKey) {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, null, null);
+        return httpClient.putAsync(urlb.getURL(), body, ingestionOptions(null), TaskInfo.class);
+    }
+
+    /**
+     * Asynchronously deletes the documents whose identifiers are held by a request body
+     *
+     * @param uid Partial index identifier for the documents
+     * @param identifiers JSON array of the identifiers of the documents
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> deleteDocumentsAsync(String uid, HttpRequestBody identifiers) {
+        URLBuilder urlb = documentPath(uid).addSubroute("delete-batch");
+        return httpClient.postAsync(urlb.getURL(), identifiers, TaskInfo.class);
+    }
+
+    private static FileRequestBody fileBody(Path file, String contentType) {
+        DocumentFileSplitter.checkContentType(contentType);
+        try {
+            return FileRequestBody.of(file, contentType);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    private static List<FileRequestBody> splitFile(
+            Path file, String contentType, long maxChunkBytes) {
+        try {
+            return DocumentFileSplitter.split(file, contentType, maxChunkBytes);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+    }
+
+    private TaskInfo updateDocuments(String uid, HttpRequestBody body, String primaryKey) {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, null, null);
+        return httpClient.put(urlb.getURL(), body, ingestionOptions(null), TaskInfo.class);
+    }
+
+    private TaskInfo addDocuments(String uid, HttpRequestBody body, String primaryKey) {
+        return addDocuments(uid, body, primaryKey, null);
+    }
+
+    private TaskInfo addDocuments(
+            String uid, HttpRequestBody body, String primaryKey, String csvDelimiter) {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, csvDelimiter, null);
+        return httpClient.post(urlb.getURL(), body, ingestionOptions(null), TaskInfo.class);
+    }
+
+    /** Sends documents given with a CSV delimiter as CSV, and any other documents as JSON */
+    private static Object documentBody(String document, String csvDelimiter) {
+        return csvDelimiter == null || document == null ? document : CsvRequestBody.of(document);
     }
 
     /**
@@ -227,17 +573,80 @@ class Documents {
             String csvDelimiter,
             String customMetadata)
             throws MeilisearchException {
-        URLBuilder urlb = documentPath(uid);
-        if (primaryKey != null) {
-            urlb.addParameter("primaryKey", primaryKey);
-        }
-        if (csvDelimiter != null) {
-            urlb.addParameter("csvDelimiter", csvDelimiter);
-        }
-        if (customMetadata != null) {
-            urlb.addParameter("customMetadata", customMetadata);
-        }
-        return httpClient.put(urlb.getURL(), document, TaskInfo.class);
+        return updateDocuments(uid, document, primaryKey, csvDelimiter, customMetadata, null);
+    }
+
+    /**
+     * Replaces a document at the specified index uid
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to replace the existing document
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, or null to use the defaults of the Config
+     * @return Meilisearch's TaskInfo API response
+     * @throws MeilisearchException if the client request causes an error
+     */
+    TaskInfo updateDocuments(
+            String uid,
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options)
+            throws MeilisearchException {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, csvDelimiter, customMetadata);
+        return httpClient.put(
+                urlb.getURL(),
+                documentBody(document, csvDelimiter),
+                ingestionOptions(options),
+                TaskInfo.class);
+    }
+
+    /**
+     * Asynchronously replaces a document at the specified index uid
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to replace the existing document
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String uid,
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata) {
+        return updateDocumentsAsync(uid, document, primaryKey, csvDelimiter, customMetadata, null);
+    }
+
+    /**
+     * Asynchronously replaces a document at the specified index uid
+     *
+     * @param uid Partial index identifier for the document
+     * @param document String containing the document to replace the existing document
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter CSV delimiter of the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, or null to use the defaults of the Config
+     * @return future completed with Meilisearch's TaskInfo API response
+     */
+    CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String uid,
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options) {
+        URLBuilder urlb = documentWritePath(uid, primaryKey, csvDelimiter, customMetadata);
+        return httpClient.putAsync(
+                urlb.getURL(),
+                documentBody(document, csvDelimiter),
+                ingestionOptions(options),
+                TaskInfo.class);
     }
 
     /**
@@ -368,6 +777,35 @@ class Documents {
         return new URLBuilder().addSubroute("indexes").addSubroute(uid).addSubroute("documents");
     }
 
+    /**
+     * Resolves the options of a document ingestion call against the TransportOptions of the Config
+     */
+    private RequestOptions ingestionOptions(RequestOptions options) {
+        if (options == null) {
+            return RequestOptions.builder().compression(transportOptions.getCompression()).build();
+        }
+        if (options.getCompression() == null) {
+            return options.toBuilder().compression(transportOptions.getCompression()).build();
+        }
+        return options;
+    }
+
+    /** Creates an URLBuilder for the documents route with the add/update query parameters */
+    private URLBuilder documentWritePath(
+            String uid, String primaryKey, String csvDelimiter, String customMetadata) {
+        URLBuilder urlb = documentPath(uid);
+        if (primaryKey != null) {
+            urlb.addParameter("primaryKey", primaryKey);
+        }
+        if (csvDelimiter != null) {
+            urlb.addParameter("csvDelimiter", csvDelimiter);
+        }
+        if (customMetadata != null) {
+            urlb.addParameter("customMetadata", customMetadata);
+        }
+        return urlb;
+    }
+
     private URLBuilder documentPathWithFetch(String uid) {
         return documentPath(uid).addSubroute("fetch");
     }
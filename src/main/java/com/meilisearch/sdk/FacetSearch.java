@@ -30,14 +30,22 @@ public class FacetSearch {
      * @throws MeilisearchException Search Exception or Client Error
      */
     String rawSearch(String uid, FacetSearchRequest fsr) throws MeilisearchException {
-        String requestQuery = "/indexes/" + uid + "/facet-search";
-        if (fsr.getFacetName() == null) {
-            throw new MeilisearchException("Facet name is required for a facet search");
-        }
-        return httpClient.post(requestQuery, fsr.toString(), String.class);
+        return httpClient.post(
+                facetSearchPath(uid, fsr), fsr.toString(), HttpClient.READ_ONLY, String.class);
     }
 
     FacetSearchable facetSearch(String uid, FacetSearchRequest fsr) throws MeilisearchException {
-        return httpClient.jsonHandler.decode(rawSearch(uid, fsr), FacetSearchResult.class);
+        return httpClient.post(
+                facetSearchPath(uid, fsr),
+                fsr.toString(),
+                HttpClient.READ_ONLY,
+                FacetSearchResult.class);
+    }
+
+    private String facetSearchPath(String uid, FacetSearchRequest fsr) throws MeilisearchException {
+        if (fsr.getFacetName() == null) {
+            throw new MeilisearchException("Facet name is required for a facet search");
+        }
+        return "/indexes/" + uid + "/facet-search";
     }
 }
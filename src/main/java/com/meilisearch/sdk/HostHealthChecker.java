@@ -0,0 +1,87 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.http.HostPool;
+import com.meilisearch.sdk.http.LoadBalancingPolicy;
+import com.meilisearch.sdk.http.RetryPolicy;
+import com.meilisearch.sdk.http.TransportOptions;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Health checks of the hosts of a multi-host Config, ejecting the hosts failing them from the
+ * HostPool and re-admitting them once they recover
+ *
+ * <p>The checks of every Config run on a single daemon thread, and stop once the Config is no
+ * longer referenced.
+ */
+class HostHealthChecker implements Runnable {
+    private static final ScheduledExecutorService SCHEDULER =
+            DaemonSchedulers.newScheduler("meilisearch-health-check");
+
+    private final WeakReference<HostPool> hostPool;
+    private final Map<HostPool.Host, InstanceHandler> instances = new LinkedHashMap<>();
+    private volatile ScheduledFuture<?> schedule;
+
+    HostHealthChecker(Config config) {
+        this.hostPool = new WeakReference<>(config.getHostPool());
+
+        TransportOptions transport = config.getTransportOptions();
+        LoadBalancingPolicy policy = transport.getLoadBalancingPolicy();
+        TransportOptions healthTransport =
+                transport.toBuilder()
+                        .baseClient(transport.okHttpClient())
+                        .callTimeoutMs(policy.getHealthCheckTimeoutMs())
+                        .retryPolicy(RetryPolicy.none())
+                        .hedgingPolicy(null)
+                        .circuitBreakerPolicy(null)
+                        .concurrencyLimits(Collections.emptyMap())
+                        .build();
+        for (HostPool.Host host : config.getHostPool().getHosts()) {
+            Config hostConfig =
+                    new Config(
+                            host.getUrl(),
+                            config.getApiKey(),
+                            config.getJsonHandler(),
+                            new String[0],
+                            healthTransport);
+            instances.put(host, new InstanceHandler(hostConfig));
+        }
+    }
+
+    /**
+     * Schedules the health checks of the hosts of a Config
+     *
+     * @param config multi-host Meilisearch configuration
+     */
+    static void start(Config config) {
+        HostHealthChecker checker = new HostHealthChecker(config);
+        LoadBalancingPolicy policy = config.getTransportOptions().getLoadBalancingPolicy();
+        long interval = policy.getHealthCheckIntervalMs();
+        checker.schedule =
+                SCHEDULER.scheduleWithFixedDelay(
+                        checker, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void run() {
+        HostPool pool = hostPool.get();
+        if (pool == null) {
+            if (schedule != null) schedule.cancel(false);
+            return;
+        }
+        for (Map.Entry<HostPool.Host, InstanceHandler> entry : instances.entrySet()) {
+            boolean healthy;
+            try {
+                healthy = entry.getValue().isHealthy();
+            } catch (RuntimeException e) {
+                healthy = false;
+            }
+            pool.setHealthy(entry.getKey(), healthy);
+        }
+    }
+}
@@ -7,15 +7,22 @@ import com.meilisearch.sdk.http.CustomOkHttpClient;
 import com.meilisearch.sdk.http.request.BasicRequest;
 import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
+import com.meilisearch.sdk.http.request.RequestOptions;
 import com.meilisearch.sdk.http.response.BasicResponse;
 import com.meilisearch.sdk.http.response.HttpResponse;
+import com.meilisearch.sdk.http.response.ResponseBodyDecoder;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.json.JsonHandler;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 /** HTTP client used for API calls to Meilisearch */
 public class HttpClient {
+    /** Options of read-only calls sent with POST, such as searches, which are safe to retry */
+    static final RequestOptions READ_ONLY = RequestOptions.builder().idempotent(true).build();
+
     private final CustomOkHttpClient client;
     private final BasicRequest request;
     private final BasicResponse response;
@@ -72,14 +79,7 @@ public class HttpClient {
     <T> T get(String api, String param, Class<T> targetClass, Class<?>... parameters)
             throws MeilisearchException {
         HttpRequest requestConfig = request.create(HttpMethod.GET, api + param, this.headers, null);
-        HttpResponse<T> httpRequest = this.client.get(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass, parameters);
-
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+        return this.client.execute(requestConfig, decoder(targetClass, parameters)).getContent();
     }
 
     /**
@@ -92,15 +92,28 @@ public class HttpClient {
      */
     <S, T> T post(String api, S body, Class<T> targetClass, Class<?>... parameters)
             throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.POST, api, this.headers, body);
-        HttpResponse<T> httpRequest = this.client.post(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass, parameters);
+        return this.post(api, body, null, targetClass, parameters);
+    }
 
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+    /**
+     * Adds the specified resource to the specified path
+     *
+     * @param api Path to server
+     * @param body Query for search
+     * @param options Options of the call, or null
+     * @return results of the search
+     * @throws MeilisearchException if the response is an error
+     */
+    <S, T> T post(
+            String api,
+            S body,
+            RequestOptions options,
+            Class<T> targetClass,
+            Class<?>... parameters)
+            throws MeilisearchException {
+        HttpRequest requestConfig = request.create(HttpMethod.POST, api, this.headers, body);
+        requestConfig.setOptions(options);
+        return this.client.execute(requestConfig, decoder(targetClass, parameters)).getContent();
     }
 
     /**
@@ -112,15 +125,23 @@ public class HttpClient {
      * @throws MeilisearchException if the response is an error
      */
     <S, T> T put(String api, S body, Class<T> targetClass) throws MeilisearchException {
-        HttpRequest requestConfig = request.create(HttpMethod.PUT, api, this.headers, body);
-        HttpResponse<T> httpRequest = this.client.put(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass);
+        return this.put(api, body, null, targetClass);
+    }
 
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+    /**
+     * Replaces the specified resource with new data to the specified path
+     *
+     * @param api Path to the requested resource
+     * @param body Replacement data for the requested resource
+     * @param options Options of the call, or null
+     * @return updated resource
+     * @throws MeilisearchException if the response is an error
+     */
+    <S, T> T put(String api, S body, RequestOptions options, Class<T> targetClass)
+            throws MeilisearchException {
+        HttpRequest requestConfig = request.create(HttpMethod.PUT, api, this.headers, body);
+        requestConfig.setOptions(options);
+        return this.client.execute(requestConfig, decoder(targetClass)).getContent();
     }
 
     /**
@@ -133,14 +154,7 @@ public class HttpClient {
      */
     <S, T> T patch(String api, S body, Class<T> targetClass) throws MeilisearchException {
         HttpRequest requestConfig = request.create(HttpMethod.PATCH, api, this.headers, body);
-        HttpResponse<T> httpResponse = this.client.patch(requestConfig);
-
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpResponse.getContent(), APIError.class));
-        }
-
-        return response.create(httpResponse, targetClass).getContent();
+        return this.client.execute(requestConfig, decoder(targetClass)).getContent();
     }
 
     /**
@@ -152,12 +166,149 @@ public class HttpClient {
      */
     <T> T delete(String api, Class<T> targetClass) throws MeilisearchException {
         HttpRequest requestConfig = request.create(HttpMethod.DELETE, api, this.headers, null);
-        HttpResponse<T> httpRequest = this.client.delete(requestConfig);
-        HttpResponse<T> httpResponse = response.create(httpRequest, targetClass);
-        if (httpResponse.getStatusCode() >= 400) {
-            throw new MeilisearchApiException(
-                    jsonHandler.decode(httpRequest.getContent(), APIError.class));
-        }
-        return httpResponse.getContent();
+        return this.client.execute(requestConfig, decoder(targetClass)).getContent();
+    }
+
+    /**
+     * Asynchronously gets the specified resource from the specified path
+     *
+     * @param api Path to document
+     * @return future completed with the document that was requested, or exceptionally with a
+     *     MeilisearchException if the response is an error
+     */
+    <T> CompletableFuture<T> getAsync(String api, Class<T> targetClass, Class<?>... parameters) {
+        HttpRequest requestConfig = request.create(HttpMethod.GET, api, this.headers, null);
+        return map(
+                this.client.executeAsync(requestConfig, decoder(targetClass, parameters)),
+                HttpResponse::getContent);
+    }
+
+    /**
+     * Asynchronously adds the specified resource to the specified path
+     *
+     * @param api Path to server
+     * @param body Query for search
+     * @return future completed with the results, or exceptionally with a MeilisearchException if
+     *     the response is an error
+     */
+    <S, T> CompletableFuture<T> postAsync(
+            String api, S body, Class<T> targetClass, Class<?>... parameters) {
+        return this.postAsync(api, body, null, targetClass, parameters);
+    }
+
+    /**
+     * Asynchronously adds the specified resource to the specified path
+     *
+     * @param api Path to server
+     * @param body Query for search
+     * @param options Options of the call, or null
+     * @return future completed with the results, or exceptionally with a MeilisearchException if
+     *     the response is an error
+     */
+    <S, T> CompletableFuture<T> postAsync(
+            String api,
+            S body,
+            RequestOptions options,
+            Class<T> targetClass,
+            Class<?>... parameters) {
+        HttpRequest requestConfig = request.create(HttpMethod.POST, api, this.headers, body);
+        requestConfig.setOptions(options);
+        return map(
+                this.client.executeAsync(requestConfig, decoder(targetClass, parameters)),
+                HttpResponse::getContent);
+    }
+
+    /**
+     * Asynchronously replaces the specified resource with new data to the specified path
+     *
+     * @param api Path to the requested resource
+     * @param body Replacement data for the requested resource
+     * @return future completed with the updated resource, or exceptionally with a
+     *     MeilisearchException if the response is an error
+     */
+    <S, T> CompletableFuture<T> putAsync(String api, S body, Class<T> targetClass) {
+        return this.putAsync(api, body, null, targetClass);
+    }
+
+    /**
+     * Asynchronously replaces the specified resource with new data to the specified path
+     *
+     * @param api Path to the requested resource
+     * @param body Replacement data for the requested resource
+     * @param options Options of the call, or null
+     * @return future completed with the updated resource, or exceptionally with a
+     *     MeilisearchException if the response is an error
+     */
+    <S, T> CompletableFuture<T> putAsync(
+            String api, S body, RequestOptions options, Class<T> targetClass) {
+        HttpRequest requestConfig = request.create(HttpMethod.PUT, api, this.headers, body);
+        requestConfig.setOptions(options);
+        return map(
+                this.client.executeAsync(requestConfig, decoder(targetClass)),
+                HttpResponse::getContent);
+    }
+
+    /**
+     * Asynchronously patches the specified resource with new data to the specified path
+     *
+     * @param api Path to server
+     * @param body Patch data for the requested resource
+     * @return future completed with the patched resource, or exceptionally with a
+     *     MeilisearchException if the response is an error
+     */
+    <S, T> CompletableFuture<T> patchAsync(String api, S body, Class<T> targetClass) {
+        HttpRequest requestConfig = request.create(HttpMethod.PATCH, api, this.headers, body);
+        return map(
+                this.client.executeAsync(requestConfig, decoder(targetClass)),
+                HttpResponse::getContent);
+    }
+
+    /**
+     * Asynchronously deletes the specified resource to the specified path
+     *
+     * @param api Path to the requested resource
+     * @return future completed with the deleted resource, or exceptionally with a
+     *     MeilisearchException if the response is an error
+     */
+    <T> CompletableFuture<T> deleteAsync(String api, Class<T> targetClass) {
+        HttpRequest requestConfig = request.create(HttpMethod.DELETE, api, this.headers, null);
+        return map(
+                this.client.executeAsync(requestConfig, decoder(targetClass)),
+                HttpResponse::getContent);
+    }
+
+    /**
+     * Maps the result of a future like thenApply, except that cancelling the returned future also
+     * cancels the source, and so the OkHttp call it is waiting for
+     *
+     * @param source future to map
+     * @param mapper function applied to the result of the source
+     * @return future completed with the mapped result
+     */
+    static <T, U> CompletableFuture<U> map(
+            CompletableFuture<T> source, Function<? super T, ? extends U> mapper) {
+        CompletableFuture<U> mapped = source.thenApply(mapper);
+        mapped.whenComplete(
+                (result, throwable) -> {
+                    if (mapped.isCancelled()) source.cancel(false);
+                });
+        return mapped;
+    }
+
+    /**
+     * Creates a decoder reading the response body straight from the connection, so large results
+     * never exist as an intermediate String
+     *
+     * @param targetClass class of the expected content
+     * @param parameters type parameters of the expected content
+     * @return decoder throwing a MeilisearchApiException when the response is an error
+     */
+    private <T> ResponseBodyDecoder<T> decoder(Class<T> targetClass, Class<?>... parameters) {
+        return (statusCode, body) -> {
+            if (statusCode >= 400) {
+                throw new MeilisearchApiException(jsonHandler.decode(body, APIError.class));
+            }
+            return response.decode(body, targetClass, parameters);
+        };
     }
 }
@@ -2,14 +2,21 @@ package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.http.URLBuilder;
+import com.meilisearch.sdk.http.request.HttpRequestBody;
+import com.meilisearch.sdk.http.request.RequestOptions;
 import com.meilisearch.sdk.model.*;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.ToString;
-import org.json.JSONArray;
 
 /** Meilisearch index */
 @ToString
@@ -224,6 +231,99 @@ public class Index implements Serializable {
                 this.uid, document, primaryKey, csvDelimiter, customMetadata);
     }
 
+    /**
+     * Adds/Replaces documents in the index
+     *
+     * @param document Document to add in JSON or CSV string format
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter Custom delimiter to use for the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, such as the compression of the request body
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocuments(
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options)
+            throws MeilisearchException {
+        return this.documents.addDocuments(
+                this.uid, document, primaryKey, csvDelimiter, customMetadata, options);
+    }
+
+    /**
+     * Asynchronously adds/replaces documents in the index
+     *
+     * @param document Document to add in JSON string format
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> addDocumentsAsync(String document) {
+        return this.documents.addDocumentsAsync(this.uid, document, null, null, null);
+    }
+
+    /**
+     * Asynchronously adds/replaces documents in the index
+     *
+     * @param document Document to add in JSON string format
+     * @param primaryKey PrimaryKey of the document to add
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> addDocumentsAsync(String document, String primaryKey) {
+        return this.documents.addDocumentsAsync(this.uid, document, primaryKey, null, null);
+    }
+
+    /**
+     * Asynchronously adds/replaces documents in the index
+     *
+     * @param document Document to add in JSON or CSV string format
+     * @param primaryKey PrimaryKey of the document to add
+     * @param csvDelimiter Custom delimiter to use for the document being added
+     * @param customMetadata Custom metadata to attach to the task
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> addDocumentsAsync(
+            String document, String primaryKey, String csvDelimiter, String customMetadata) {
+        return this.documents.addDocumentsAsync(
+                this.uid, document, primaryKey, csvDelimiter, customMetadata);
+    }
+
+    /**
+     * Asynchronously adds/Replaces documents in the index
+     *
+     * @param document Document to add in JSON or CSV string format
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter Custom delimiter to use for the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, such as the compression of the request body
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> addDocumentsAsync(
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options) {
+        return this.documents.addDocumentsAsync(
+                this.uid, document, primaryKey, csvDelimiter, customMetadata, options);
+    }
+
     /**
      * Adds/Replaces documents in the index in batches
      *
@@ -238,25 +338,102 @@ public class Index implements Serializable {
      */
     public TaskInfo[] addDocumentsInBatches(String document, Integer batchSize, String primaryKey)
             throws MeilisearchException {
+        return this.addDocumentsInBatches(document, batchSize, primaryKey, null);
+    }
 
-        JSONArray jsonDocumentsArray = new JSONArray(document);
-        JSONArray jsonSubArray = new JSONArray();
-        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
-
-        batchSize =
-                jsonDocumentsArray.length() < batchSize ? jsonDocumentsArray.length() : batchSize;
+    /**
+     * Adds/Replaces documents in the index in batches
+     *
+     * @param document Document to add in JSON string format
+     * @param batchSize size of the batch of documents
+     * @param primaryKey PrimaryKey of the document to add
+     * @param options Options of every batch call, such as the compression of the request body
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] addDocumentsInBatches(
+            String document, Integer batchSize, String primaryKey, RequestOptions options)
+            throws MeilisearchException {
+        return this.addDocumentsInBatches(document, batchSize, 0, primaryKey, options);
+    }
 
-        for (int i = 0; i < jsonDocumentsArray.length(); i += batchSize) {
-            for (int j = 0; j < batchSize && j + i < jsonDocumentsArray.length(); j++) {
-                jsonSubArray.put(j, jsonDocumentsArray.get(i + j));
-            }
+    /**
+     * Adds/Replaces documents in the index in batches bounded by a document count and a byte size
+     *
+     * <p>The JSON array is cut in a single pass without being parsed, and every batch holds its
+     * documents as written in the input. Bound the size of the batches below the {@code
+     * http_payload_size_limit} of the Meilisearch instance to avoid 413 responses.
+     *
+     * @param document Documents to add in JSON array format
+     * @param batchSize maximum number of documents of a batch, null for no limit
+     * @param maxBatchBytes maximum size in bytes of a batch, 0 for no limit. A single document
+     *     larger than this limit is sent alone.
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param options Options of every batch call, such as the compression of the request body
+     * @return TaskInfo Meilisearch API responses, one per batch
+     * @throws MeilisearchException if the documents are not a JSON array or an error occurs
+     * @see DocumentBatcher
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] addDocumentsInBatches(
+            String document,
+            Integer batchSize,
+            long maxBatchBytes,
+            String primaryKey,
+            RequestOptions options)
+            throws MeilisearchException {
+        DocumentBatcher batcher =
+                new DocumentBatcher(document, batchSize != null ? batchSize : 0, maxBatchBytes);
+        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
+        while (batcher.hasNext()) {
             arrayResponses.add(
                     this.documents.addDocuments(
-                            this.uid, jsonSubArray.toString(), primaryKey, null));
+                            this.uid,
+                            batcher.next().getDocuments(),
+                            primaryKey,
+                            null,
+                            null,
+                            options));
         }
         return arrayResponses.toArray(new TaskInfo[arrayResponses.size()]);
     }
 
+    /**
+     * Adds/Replaces documents in the index in batches sized to be processed in a target time
+     *
+     * <p>Each batch holds as many documents as Meilisearch indexed per second in the previous
+     * batches, times the target duration, so indexes with costly documents, such as those with
+     * embedders, get smaller batches than plain ones. Sending waits for the oldest enqueued batch
+     * once {@link AdaptiveBatchOptions#getMaxEnqueuedBatches()} batches are enqueued.
+     *
+     * @param document Documents to add in JSON array format
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param options Options of the batch sizing, or null for the defaults
+     * @return TaskInfo Meilisearch API responses, one per batch
+     * @throws MeilisearchException if the documents are not a JSON array, an error occurs, or a
+     *     batch is not processed within the timeout
+     * @see AdaptiveBatchOptions
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] addDocumentsInAdaptiveBatches(
+            String document, String primaryKey, AdaptiveBatchOptions options)
+            throws MeilisearchException {
+        return new AdaptiveBatchUploader(
+                        this.tasksHandler,
+                        options != null ? options : AdaptiveBatchOptions.defaults(),
+                        batch ->
+                                this.documents.addDocuments(
+                                        this.uid, batch, primaryKey, null, null, null))
+                .upload(document);
+    }
+
     /**
      * Adds/Replaces documents in index in batches
      *
@@ -271,6 +448,297 @@ public class Index implements Serializable {
         return this.addDocumentsInBatches(document, 1000, null);
     }
 
+    /**
+     * Adds/Replaces documents in the index in batches uploaded concurrently
+     *
+     * <p>Documents are encoded one at a time and partitioned by the hash of their primary key
+     * into {@link ParallelUploadOptions#getConcurrency()} lanes. The batches of a lane are
+     * uploaded one after another, so the writes to a document are enqueued in order, while the
+     * lanes upload concurrently. This call returns once every document is handed to a lane, and
+     * blocks while the batches not yet enqueued exceed {@link
+     * ParallelUploadOptions#getMaxBytesInFlight()}.
+     *
+     * @param documents Documents to add, or Strings holding a JSON document each, consumed once
+     * @param primaryKeyOf Gets the primary key of a document, or null to spread the batches over
+     *     the lanes without ordering the writes to a document
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param options Options of the upload, or null for the defaults
+     * @return handle tracking the task of every batch
+     * @throws MeilisearchException if a batch fails while the documents are produced
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public <T> BatchUpload addDocumentsInParallel(
+            Iterator<? extends T> documents,
+            Function<? super T, ?> primaryKeyOf,
+            String primaryKey,
+            ParallelUploadOptions options)
+            throws MeilisearchException {
+        return this.uploadInParallel(
+                documents,
+                primaryKeyOf,
+                options,
+                body -> this.documents.addDocumentsAsync(this.uid, body, primaryKey));
+    }
+
+    /**
+     * Adds/Replaces documents in the index in batches uploaded concurrently
+     *
+     * @param documents Documents to add, or Strings holding a JSON document each
+     * @param primaryKeyOf Gets the primary key of a document, or null to spread the batches over
+     *     the lanes without ordering the writes to a document
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param options Options of the upload, or null for the defaults
+     * @return handle tracking the task of every batch
+     * @throws MeilisearchException if a batch fails while the documents are produced
+     * @see #addDocumentsInParallel(Iterator, Function, String, ParallelUploadOptions)
+     */
+    public <T> BatchUpload addDocumentsInParallel(
+            Stream<? extends T> documents,
+            Function<? super T, ?> primaryKeyOf,
+            String primaryKey,
+            ParallelUploadOptions options)
+            throws MeilisearchException {
+        return this.addDocumentsInParallel(
+                documents.iterator(), primaryKeyOf, primaryKey, options);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, streamed as NDJSON from an iterator
+     *
+     * <p>Each document is encoded while the request body is written, so the documents never exist
+     * together in memory. The iterator is consumed once, so the call is never retried.
+     *
+     * @param documents Documents to add, or Strings holding a JSON document each
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public <T> TaskInfo addDocumentsNdjson(Iterator<T> documents) throws MeilisearchException {
+        return this.addDocumentsNdjson(documents, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, streamed as NDJSON from an iterator
+     *
+     * @param documents Documents to add, or Strings holding a JSON document each
+     * @param primaryKey PrimaryKey of the documents to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public <T> TaskInfo addDocumentsNdjson(Iterator<T> documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocumentsNdjson(this.uid, documents, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, streamed as NDJSON from a stream
+     *
+     * @param documents Documents to add, or Strings holding a JSON document each. The stream is
+     *     consumed but not closed.
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public <T> TaskInfo addDocumentsNdjson(Stream<T> documents) throws MeilisearchException {
+        return this.addDocumentsNdjson(documents, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index, streamed as NDJSON from a stream
+     *
+     * @param documents Documents to add, or Strings holding a JSON document each. The stream is
+     *     consumed but not closed.
+     * @param primaryKey PrimaryKey of the documents to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public <T> TaskInfo addDocumentsNdjson(Stream<T> documents, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocumentsNdjson(this.uid, documents.iterator(), primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from an NDJSON file
+     *
+     * @param file File holding one JSON document per line, streamed to Meilisearch
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocumentsNdjson(Path file) throws MeilisearchException {
+        return this.addDocumentsNdjson(file, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from an NDJSON file
+     *
+     * @param file File holding one JSON document per line, streamed to Meilisearch
+     * @param primaryKey PrimaryKey of the documents to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocumentsNdjson(Path file, String primaryKey) throws MeilisearchException {
+        return this.documents.addDocumentsNdjson(this.uid, file, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a file streamed to Meilisearch without being
+     * decoded, so files larger than the heap can be sent
+     *
+     * @param file File holding the documents
+     * @param contentType Media type of the file: {@code application/json}, {@code
+     *     application/x-ndjson} or {@code text/csv}
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocuments(Path file, String contentType) throws MeilisearchException {
+        return this.addDocuments(file, contentType, null);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a file streamed to Meilisearch without being
+     * decoded, so files larger than the heap can be sent
+     *
+     * @param file File holding the documents
+     * @param contentType Media type of the file: {@code application/json}, {@code
+     *     application/x-ndjson} or {@code text/csv}
+     * @param primaryKey PrimaryKey of the documents to add
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocuments(Path file, String contentType, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocuments(this.uid, file, contentType, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a file, in chunks of whole records
+     *
+     * <p>The file is scanned once to find record boundaries without decoding it: lines of NDJSON
+     * and CSV files, and elements of the top-level array of JSON files. Each chunk is then
+     * streamed from the file, wrapped in brackets for JSON and preceded by the header for CSV.
+     *
+     * @param file File holding the documents
+     * @param contentType Media type of the file: {@code application/json}, {@code
+     *     application/x-ndjson} or {@code text/csv}
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger record
+     * @param primaryKey PrimaryKey of the documents to add
+     * @return TaskInfo Meilisearch API responses, one per chunk
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] addDocumentsInBatches(
+            Path file, String contentType, long maxChunkBytes, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.addDocumentsInBatches(
+                this.uid, file, contentType, maxChunkBytes, primaryKey);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a CSV file, streamed as {@code text/csv}
+     *
+     * @param file CSV file starting with its header
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param csvDelimiter CSV delimiter of the file, or null for a comma
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocumentsCsv(Path file, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        return this.documents.addDocumentsCsv(this.uid, file, primaryKey, csvDelimiter);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a CSV input stream, streamed as {@code text/csv}.
+     * The stream is consumed once and not closed, so the call is never retried.
+     *
+     * @param csv CSV stream starting with its header
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param csvDelimiter CSV delimiter of the stream, or null for a comma
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo addDocumentsCsv(InputStream csv, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        return this.documents.addDocumentsCsv(this.uid, csv, primaryKey, csvDelimiter);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a CSV file, in chunks of whole rows
+     *
+     * <p>Every chunk starts with the header of the file and is streamed from the file, so loading
+     * a large export takes constant memory. Rows are never cut, including quoted fields spanning
+     * several lines.
+     *
+     * @param file CSV file starting with its header
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger row
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param csvDelimiter CSV delimiter of the file, or null for a comma
+     * @return TaskInfo Meilisearch API responses, one per chunk
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] addDocumentsCsvInBatches(
+            Path file, long maxChunkBytes, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        return this.documents.addDocumentsCsvInBatches(
+                this.uid, file, maxChunkBytes, primaryKey, csvDelimiter);
+    }
+
+    /**
+     * Adds/Replaces documents in the index from a CSV input stream, in chunks of whole rows. The
+     * stream is not closed.
+     *
+     * @param csv CSV stream starting with its header
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger row
+     * @param primaryKey PrimaryKey of the documents to add
+     * @param csvDelimiter CSV delimiter of the stream, or null for a comma
+     * @return TaskInfo Meilisearch API responses, one per chunk
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] addDocumentsCsvInBatches(
+            InputStream csv, long maxChunkBytes, String primaryKey, String csvDelimiter)
+            throws MeilisearchException {
+        return this.documents.addDocumentsCsvInBatches(
+                this.uid, csv, maxChunkBytes, primaryKey, csvDelimiter);
+    }
+
     /**
      * Updates documents in the index
      *
@@ -338,6 +806,99 @@ public class Index implements Serializable {
                 this.uid, document, primaryKey, csvDelimiter, customMetadata);
     }
 
+    /**
+     * Updates documents in the index
+     *
+     * @param document Document to update in JSON or CSV string format
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter Custom delimiter to use for the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, such as the compression of the request body
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo updateDocuments(
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(
+                this.uid, document, primaryKey, csvDelimiter, customMetadata, options);
+    }
+
+    /**
+     * Asynchronously updates documents in the index
+     *
+     * @param document Document to update in JSON string format
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateDocumentsAsync(String document) {
+        return this.documents.updateDocumentsAsync(this.uid, document, null, null, null);
+    }
+
+    /**
+     * Asynchronously updates documents in the index
+     *
+     * @param document Document to update in JSON string format
+     * @param primaryKey PrimaryKey of the document
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateDocumentsAsync(String document, String primaryKey) {
+        return this.documents.updateDocumentsAsync(this.uid, document, primaryKey, null, null);
+    }
+
+    /**
+     * Asynchronously updates documents in the index
+     *
+     * @param document Document to update in JSON or CSV string format
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter Custom delimiter to use for the document being added
+     * @param customMetadata Custom metadata to attach to the task
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String document, String primaryKey, String csvDelimiter, String customMetadata) {
+        return this.documents.updateDocumentsAsync(
+                this.uid, document, primaryKey, csvDelimiter, customMetadata);
+    }
+
+    /**
+     * Asynchronously updates documents in the index
+     *
+     * @param document Document to update in JSON or CSV string format
+     * @param primaryKey PrimaryKey of the document
+     * @param csvDelimiter Custom delimiter to use for the document
+     * @param customMetadata Custom metadata to attach to the task
+     * @param options Options of the call, such as the compression of the request body
+     * @return future completed with the TaskInfo Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public CompletableFuture<TaskInfo> updateDocumentsAsync(
+            String document,
+            String primaryKey,
+            String csvDelimiter,
+            String customMetadata,
+            RequestOptions options) {
+        return this.documents.updateDocumentsAsync(
+                this.uid, document, primaryKey, csvDelimiter, customMetadata, options);
+    }
+
     /**
      * Updates documents in index in batches
      *
@@ -352,25 +913,102 @@ public class Index implements Serializable {
      */
     public TaskInfo[] updateDocumentsInBatches(
             String document, Integer batchSize, String primaryKey) throws MeilisearchException {
+        return this.updateDocumentsInBatches(document, batchSize, primaryKey, null);
+    }
 
-        JSONArray jsonDocumentsArray = new JSONArray(document);
-        JSONArray jsonSubArray = new JSONArray();
-        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
-
-        batchSize =
-                jsonDocumentsArray.length() < batchSize ? jsonDocumentsArray.length() : batchSize;
+    /**
+     * Updates documents in index in batches
+     *
+     * @param document Document to update in JSON string format
+     * @param batchSize size of the batch of documents
+     * @param primaryKey PrimaryKey of the document to update
+     * @param options Options of every batch call, such as the compression of the request body
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-replace-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] updateDocumentsInBatches(
+            String document, Integer batchSize, String primaryKey, RequestOptions options)
+            throws MeilisearchException {
+        return this.updateDocumentsInBatches(document, batchSize, 0, primaryKey, options);
+    }
 
-        for (int i = 0; i < jsonDocumentsArray.length(); i += batchSize) {
-            for (int j = 0; j < batchSize && j + i < jsonDocumentsArray.length(); j++) {
-                jsonSubArray.put(j, jsonDocumentsArray.get(i + j));
-            }
+    /**
+     * Updates documents in the index in batches bounded by a document count and a byte size
+     *
+     * <p>The JSON array is cut in a single pass without being parsed, and every batch holds its
+     * documents as written in the input. Bound the size of the batches below the {@code
+     * http_payload_size_limit} of the Meilisearch instance to avoid 413 responses.
+     *
+     * @param document Documents to update in JSON array format
+     * @param batchSize maximum number of documents of a batch, null for no limit
+     * @param maxBatchBytes maximum size in bytes of a batch, 0 for no limit. A single document
+     *     larger than this limit is sent alone.
+     * @param primaryKey PrimaryKey of the documents to update
+     * @param options Options of every batch call, such as the compression of the request body
+     * @return TaskInfo Meilisearch API responses, one per batch
+     * @throws MeilisearchException if the documents are not a JSON array or an error occurs
+     * @see DocumentBatcher
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] updateDocumentsInBatches(
+            String document,
+            Integer batchSize,
+            long maxBatchBytes,
+            String primaryKey,
+            RequestOptions options)
+            throws MeilisearchException {
+        DocumentBatcher batcher =
+                new DocumentBatcher(document, batchSize != null ? batchSize : 0, maxBatchBytes);
+        List<TaskInfo> arrayResponses = new ArrayList<TaskInfo>();
+        while (batcher.hasNext()) {
             arrayResponses.add(
                     this.documents.updateDocuments(
-                            this.uid, jsonSubArray.toString(), primaryKey, null));
+                            this.uid,
+                            batcher.next().getDocuments(),
+                            primaryKey,
+                            null,
+                            null,
+                            options));
         }
         return arrayResponses.toArray(new TaskInfo[arrayResponses.size()]);
     }
 
+    /**
+     * Adds/Updates documents in the index in batches sized to be processed in a target time
+     *
+     * <p>Each batch holds as many documents as Meilisearch indexed per second in the previous
+     * batches, times the target duration, so indexes with costly documents, such as those with
+     * embedders, get smaller batches than plain ones. Sending waits for the oldest enqueued batch
+     * once {@link AdaptiveBatchOptions#getMaxEnqueuedBatches()} batches are enqueued.
+     *
+     * @param document Documents to update in JSON array format
+     * @param primaryKey PrimaryKey of the documents to update
+     * @param options Options of the batch sizing, or null for the defaults
+     * @return TaskInfo Meilisearch API responses, one per batch
+     * @throws MeilisearchException if the documents are not a JSON array, an error occurs, or a
+     *     batch is not processed within the timeout
+     * @see AdaptiveBatchOptions
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] updateDocumentsInAdaptiveBatches(
+            String document, String primaryKey, AdaptiveBatchOptions options)
+            throws MeilisearchException {
+        return new AdaptiveBatchUploader(
+                        this.tasksHandler,
+                        options != null ? options : AdaptiveBatchOptions.defaults(),
+                        batch ->
+                                this.documents.updateDocuments(
+                                        this.uid, batch, primaryKey, null, null, null))
+                .upload(document);
+    }
+
     /**
      * Updates documents in index in batches
      *
@@ -385,6 +1023,121 @@ public class Index implements Serializable {
         return this.updateDocumentsInBatches(document, 1000, null);
     }
 
+    /**
+     * Updates documents in the index in batches uploaded concurrently
+     *
+     * <p>Documents are encoded one at a time and partitioned by the hash of their primary key
+     * into {@link ParallelUploadOptions#getConcurrency()} lanes. The batches of a lane are
+     * uploaded one after another, so the writes to a document are enqueued in order, while the
+     * lanes upload concurrently. This call returns once every document is handed to a lane, and
+     * blocks while the batches not yet enqueued exceed {@link
+     * ParallelUploadOptions#getMaxBytesInFlight()}.
+     *
+     * @param documents Documents to update, or Strings holding a JSON document each, consumed once
+     * @param primaryKeyOf Gets the primary key of a document, or null to spread the batches over
+     *     the lanes without ordering the writes to a document
+     * @param primaryKey PrimaryKey of the documents to update
+     * @param options Options of the upload, or null for the defaults
+     * @return handle tracking the task of every batch
+     * @throws MeilisearchException if a batch fails while the documents are produced
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public <T> BatchUpload updateDocumentsInParallel(
+            Iterator<? extends T> documents,
+            Function<? super T, ?> primaryKeyOf,
+            String primaryKey,
+            ParallelUploadOptions options)
+            throws MeilisearchException {
+        return this.uploadInParallel(
+                documents,
+                primaryKeyOf,
+                options,
+                body -> this.documents.updateDocumentsAsync(this.uid, body, primaryKey));
+    }
+
+    /**
+     * Updates documents in the index in batches uploaded concurrently
+     *
+     * @param documents Documents to update, or Strings holding a JSON document each
+     * @param primaryKeyOf Gets the primary key of a document, or null to spread the batches over
+     *     the lanes without ordering the writes to a document
+     * @param primaryKey PrimaryKey of the documents to update
+     * @param options Options of the upload, or null for the defaults
+     * @return handle tracking the task of every batch
+     * @throws MeilisearchException if a batch fails while the documents are produced
+     * @see #updateDocumentsInParallel(Iterator, Function, String, ParallelUploadOptions)
+     */
+    public <T> BatchUpload updateDocumentsInParallel(
+            Stream<? extends T> documents,
+            Function<? super T, ?> primaryKeyOf,
+            String primaryKey,
+            ParallelUploadOptions options)
+            throws MeilisearchException {
+        return this.updateDocumentsInParallel(
+                documents.iterator(), primaryKeyOf, primaryKey, options);
+    }
+
+    /**
+     * Updates documents in the index from a file streamed to Meilisearch without being decoded,
+     * so files larger than the heap can be sent
+     *
+     * @param file File holding the documents
+     * @param contentType Media type of the file: {@code application/json}, {@code
+     *     application/x-ndjson} or {@code text/csv}
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public TaskInfo updateDocuments(Path file, String contentType) throws MeilisearchException {
+        return this.updateDocuments(file, contentType, null);
+    }
+
+    /**
+     * Updates documents in the index from a file streamed to Meilisearch without being decoded,
+     * so files larger than the heap can be sent
+     *
+     * @param file File holding the documents
+     * @param contentType Media type of the file: {@code application/json}, {@code
+     *     application/x-ndjson} or {@code text/csv}
+     * @param primaryKey PrimaryKey of the documents to update
+     * @return TaskInfo Meilisearch API response
+     * @throws MeilisearchException if an error occurs
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public TaskInfo updateDocuments(Path file, String contentType, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocuments(this.uid, file, contentType, primaryKey);
+    }
+
+    /**
+     * Updates documents in the index from a file, in chunks of whole records streamed from the
+     * file
+     *
+     * @param file File holding the documents
+     * @param contentType Media type of the file: {@code application/json}, {@code
+     *     application/x-ndjson} or {@code text/csv}
+     * @param maxChunkBytes Size a chunk does not exceed, unless it holds a single larger record
+     * @param primaryKey PrimaryKey of the documents to update
+     * @return TaskInfo Meilisearch API responses, one per chunk
+     * @throws MeilisearchException if an error occurs
+     * @see #addDocumentsInBatches(Path, String, long, String)
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/documents#add-or-update-documents">API
+     *     specification</a>
+     */
+    public TaskInfo[] updateDocumentsInBatches(
+            Path file, String contentType, long maxChunkBytes, String primaryKey)
+            throws MeilisearchException {
+        return this.documents.updateDocumentsInBatches(
+                this.uid, file, contentType, maxChunkBytes, primaryKey);
+    }
+
     /**
      * Deletes a document from the index
      *
@@ -536,6 +1289,32 @@ public class Index implements Serializable {
         return this.search.search(this.uid, searchRequest);
     }
 
+    /**
+     * Asynchronously searches documents in the index
+     *
+     * @param q Query string
+     * @return future completed with the Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/search#search-in-an-index-with-post">API
+     *     specification</a>
+     */
+    public CompletableFuture<SearchResult> searchAsync(String q) {
+        return this.search.searchAsync(this.uid, q);
+    }
+
+    /**
+     * Asynchronously searches documents in the index
+     *
+     * @param searchRequest SearchRequest SearchRequest
+     * @return future completed with the Meilisearch API response
+     * @see <a
+     *     href="https://www.meilisearch.com/docs/reference/api/search#search-in-an-index-with-post">API
+     *     specification</a>
+     */
+    public CompletableFuture<Searchable> searchAsync(SearchRequest searchRequest) {
+        return this.search.searchAsync(this.uid, searchRequest);
+    }
+
     /**
      * Performs a Facet Search in the index
      *
@@ -1278,6 +2057,18 @@ public class Index implements Serializable {
         return this.tasksHandler.getTask(taskId);
     }
 
+    /**
+     * Asynchronously retrieves an index task by its uid
+     *
+     * @param taskId Identifier of the requested index task
+     * @return future completed with the Task instance
+     * @see <a href="https://www.meilisearch.com/docs/reference/api/tasks#get-one-task">API
+     *     specification</a>
+     */
+    public CompletableFuture<Task> getTaskAsync(int taskId) {
+        return this.tasksHandler.getTaskAsync(taskId);
+    }
+
     /**
      * Retrieves list of tasks of the index
      *
@@ -1392,8 +2183,9 @@ public class Index implements Serializable {
     public SimilarDocumentsResults searchSimilarDocuments(SimilarDocumentRequest query)
             throws MeilisearchException {
         return this.config.httpClient.post(
-                new URLBuilder("/indexes").addSubroute(this.uid).addSubroute("/similar").getURL(),
+                new URLBuilder("/indexes").addSubroute(this.uid).addSubroute("similar").getURL(),
                 query,
+                HttpClient.READ_ONLY,
                 SimilarDocumentsResults.class);
     }
 
@@ -1448,4 +2240,39 @@ public class Index implements Serializable {
                 null,
                 TaskInfo.class);
     }
+
+    /**
+     * Creates a BulkIndexer buffering the writes of single documents to the index and sending
+     * them in bulk. The indexer must be closed once no more documents are written.
+     *
+     * @param primaryKeyOf Gets the primary key of a document
+     * @param primaryKey PrimaryKey of the documents, or null to let Meilisearch infer it
+     * @param options Options of the indexer, or null for the defaults
+     * @return the BulkIndexer of the index
+     */
+    public <T> BulkIndexer<T> bulkIndexer(
+            Function<? super T, ?> primaryKeyOf, String primaryKey, BulkIndexerOptions options) {
+        return new BulkIndexer<>(
+                this.documents,
+                this.uid,
+                this.config.getJsonHandler(),
+                primaryKeyOf,
+                primaryKey,
+                options != null ? options : BulkIndexerOptions.defaults());
+    }
+
+    private <T> BatchUpload uploadInParallel(
+            Iterator<? extends T> documents,
+            Function<? super T, ?> primaryKeyOf,
+            ParallelUploadOptions options,
+            Function<HttpRequestBody, CompletableFuture<TaskInfo>> sender) {
+        BatchUpload upload = new BatchUpload(this.tasksHandler);
+        new ParallelUploader<T>(
+                        this.config.getJsonHandler(),
+                        options != null ? options : ParallelUploadOptions.defaults(),
+                        sender,
+                        upload)
+                .upload(documents, primaryKeyOf);
+        return upload;
+    }
 }
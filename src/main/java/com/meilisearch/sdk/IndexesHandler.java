@@ -6,6 +6,7 @@ import com.meilisearch.sdk.model.IndexesQuery;
 import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.TaskInfo;
 import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class covering the Meilisearch Index API.
@@ -85,6 +86,22 @@ public class IndexesHandler {
                 indexesPath().addQuery(params.toQuery()).getURL(), Results.class, Index.class);
     }
 
+    /**
+     * Asynchronously gets indexes in the current Meilisearch instance
+     *
+     * @param params parameters accepted by the indexes route
+     * @return future completed with the Results containing a list of indexes
+     */
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Results<Index>> getIndexesAsync(IndexesQuery params) {
+        return httpClient
+                .getAsync(
+                        indexesPath().addQuery(params.toQuery()).getURL(),
+                        Results.class,
+                        Index.class)
+                .thenApply(results -> (Results<Index>) results);
+    }
+
     /**
      * Gets indexes in the current Meilisearch instance
      *
@@ -6,6 +6,7 @@ import com.meilisearch.sdk.model.Key;
 import com.meilisearch.sdk.model.KeyUpdate;
 import com.meilisearch.sdk.model.KeysQuery;
 import com.meilisearch.sdk.model.Results;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class covering the Meilisearch Key API
@@ -57,6 +58,19 @@ public class KeysHandler {
                 keysPath().addQuery(params.toQuery()).getURL(), Results.class, Key.class);
     }
 
+    /**
+     * Asynchronously retrieves keys from the client
+     *
+     * @param params accept by the keys route
+     * @return future completed with the Results containing a list of Key instance
+     */
+    @SuppressWarnings("unchecked")
+    CompletableFuture<Results<Key>> getKeysAsync(KeysQuery params) {
+        return httpClient
+                .getAsync(keysPath().addQuery(params.toQuery()).getURL(), Results.class, Key.class)
+                .thenApply(results -> (Results<Key>) results);
+    }
+
     /**
      * Creates a key
      *
@@ -0,0 +1,189 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.model.CursorResults;
+import com.meilisearch.sdk.model.IndexesQuery;
+import com.meilisearch.sdk.model.Key;
+import com.meilisearch.sdk.model.KeysQuery;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.batch.req.BatchesQuery;
+import com.meilisearch.sdk.model.batch.res.Batch;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Lazy streams over every page of the tasks, batches, indexes and keys routes, each page being
+ * requested while the previous one is consumed
+ *
+ * <p>The query given by the caller is never modified: every page is requested with a copy of it
+ * whose limit is the page size and whose cursor is the one of the page.
+ */
+final class PaginatedStreams {
+
+    private PaginatedStreams() {}
+
+    /**
+     * Streams the tasks matching a query, starting from its from parameter if set
+     *
+     * @param tasksHandler handler requesting the pages
+     * @param query filters of the tasks, null for every task
+     * @param pageSize number of tasks requested per page
+     * @return lazy stream of the tasks, in the order of the tasks route
+     */
+    static Stream<Task> tasks(TasksHandler tasksHandler, TasksQuery query, int pageSize) {
+        checkPageSize(pageSize);
+        TasksQuery filters = query != null ? query : new TasksQuery();
+        boolean reverse = Boolean.TRUE.equals(filters.getReverse());
+        return PrefetchingIterator.stream(
+                filters.getFrom() >= 0 ? filters.getFrom() : null,
+                from ->
+                        tasksHandler
+                                .getTasksAsync(copy(filters, from, pageSize))
+                                .thenApply(
+                                        results -> {
+                                            List<Task> tasks = asList(results.getResults());
+                                            return new PrefetchingIterator.Page<>(
+                                                    tasks, nextTask(tasks, pageSize, reverse));
+                                        }));
+    }
+
+    /**
+     * Streams the batches matching a query, starting from its from parameter if set
+     *
+     * @param tasksHandler handler requesting the pages
+     * @param query filters of the batches, null for every batch
+     * @param pageSize number of batches requested per page
+     * @return lazy stream of the batches, in the order of the batches route
+     */
+    static Stream<Batch> batches(TasksHandler tasksHandler, BatchesQuery query, int pageSize) {
+        checkPageSize(pageSize);
+        BatchesQuery filters = query != null ? query : new BatchesQuery();
+        return PrefetchingIterator.stream(
+                filters.getFrom() >= 0 ? filters.getFrom() : null,
+                from ->
+                        tasksHandler
+                                .getAllBatchesAsync(copy(filters, from, pageSize))
+                                .thenApply(PaginatedStreams::batchPage));
+    }
+
+    /**
+     * Streams every index
+     *
+     * @param indexesHandler handler requesting the pages
+     * @param config configuration given to every index
+     * @param pageSize number of indexes requested per page
+     * @return lazy stream of the indexes
+     */
+    static Stream<Index> indexes(IndexesHandler indexesHandler, Config config, int pageSize) {
+        checkPageSize(pageSize);
+        return PrefetchingIterator.stream(
+                0,
+                offset ->
+                        indexesHandler
+                                .getIndexesAsync(
+                                        new IndexesQuery().setOffset(offset).setLimit(pageSize))
+                                .thenApply(
+                                        results -> {
+                                            for (Index index : asList(results.getResults())) {
+                                                index.setConfig(config);
+                                            }
+                                            return offsetPage(results, offset, pageSize);
+                                        }));
+    }
+
+    /**
+     * Streams every key
+     *
+     * @param keysHandler handler requesting the pages
+     * @param pageSize number of keys requested per page
+     * @return lazy stream of the keys
+     */
+    static Stream<Key> keys(KeysHandler keysHandler, int pageSize) {
+        checkPageSize(pageSize);
+        return PrefetchingIterator.stream(
+                0,
+                offset ->
+                        keysHandler
+                                .getKeysAsync(new KeysQuery().setOffset(offset).setLimit(pageSize))
+                                .thenApply(results -> offsetPage(results, offset, pageSize)));
+    }
+
+    private static void checkPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive");
+        }
+    }
+
+    static <T> List<T> asList(T[] results) {
+        return results != null ? Arrays.asList(results) : Collections.emptyList();
+    }
+
+    /**
+     * Tasks are listed by uid, so the page following a full one starts next to its last task. A
+     * shorter page is the last one.
+     */
+    static Integer nextTask(List<Task> tasks, int pageSize, boolean reverse) {
+        if (tasks.size() < pageSize) {
+            return null;
+        }
+        int last = tasks.get(tasks.size() - 1).getUid();
+        if (reverse) {
+            return last + 1;
+        }
+        return last > 0 ? last - 1 : null;
+    }
+
+    private static PrefetchingIterator.Page<Batch> batchPage(CursorResults<Batch> results) {
+        List<Batch> batches =
+                results.getResults() != null ? results.getResults() : Collections.emptyList();
+        return new PrefetchingIterator.Page<>(
+                batches, batches.isEmpty() ? null : results.getNext());
+    }
+
+    private static <T> PrefetchingIterator.Page<T> offsetPage(
+            Results<T> results, int offset, int pageSize) {
+        List<T> page = asList(results.getResults());
+        int next = offset + page.size();
+        boolean last = page.size() < pageSize || next >= results.getTotal();
+        return new PrefetchingIterator.Page<>(page, last ? null : next);
+    }
+
+    static TasksQuery copy(TasksQuery query, Integer from, int limit) {
+        return new TasksQuery()
+                .setUids(query.getUids())
+                .setLimit(limit)
+                .setFrom(from != null ? from : -1)
+                .setStatuses(query.getStatuses())
+                .setTypes(query.getTypes())
+                .setIndexUids(query.getIndexUids())
+                .setCanceledBy(query.getCanceledBy())
+                .setReverse(query.getReverse())
+                .setBeforeEnqueuedAt(query.getBeforeEnqueuedAt())
+                .setAfterEnqueuedAt(query.getAfterEnqueuedAt())
+                .setBeforeStartedAt(query.getBeforeStartedAt())
+                .setAfterStartedAt(query.getAfterStartedAt())
+                .setBeforeFinishedAt(query.getBeforeFinishedAt())
+                .setAfterFinishedAt(query.getAfterFinishedAt());
+    }
+
+    private static BatchesQuery copy(BatchesQuery query, Integer from, int limit) {
+        return new BatchesQuery()
+                .setUids(query.getUids())
+                .setBatchUids(query.getBatchUids())
+                .setTypes(query.getTypes())
+                .setStatuses(query.getStatuses())
+                .setIndexUids(query.getIndexUids())
+                .setCanceledBy(query.getCanceledBy())
+                .setBeforeEnqueuedAt(query.getBeforeEnqueuedAt())
+                .setAfterEnqueuedAt(query.getAfterEnqueuedAt())
+                .setBeforeStartedAt(query.getBeforeStartedAt())
+                .setAfterStartedAt(query.getAfterStartedAt())
+                .setBeforeFinishedAt(query.getBeforeFinishedAt())
+                .setAfterFinishedAt(query.getAfterFinishedAt())
+                .setLimit(limit)
+                .setFrom(from != null ? from : -1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.meilisearch.sdk;
+
+import java.util.concurrent.Executor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a parallel upload of documents
+ *
+ * <p>Documents are partitioned by the hash of their primary key into {@link #concurrency} lanes.
+ * Each lane uploads its batches one after another, so the writes to a document are enqueued in
+ * the order they were given, while the lanes upload concurrently.
+ *
+ * <p>Without an {@link #encoder}, documents are encoded on the producing thread. With one, the
+ * batches are encoded on it while the previous batches upload, and {@link #maxQueuedBatches}
+ * bounds the batches held in memory instead of {@link #maxBytesInFlight}.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class ParallelUploadOptions {
+    /** Number of lanes, each uploading one batch at a time */
+    @Builder.Default private int concurrency = 4;
+
+    /** Maximum number of documents of a batch */
+    @Builder.Default private int batchSize = 1000;
+
+    /** Maximum size in bytes of a batch, 0 for no limit */
+    @Builder.Default private long maxBatchBytes = 0;
+
+    /**
+     * Maximum size in bytes of the batches encoded but not yet enqueued by Meilisearch. Producing
+     * documents blocks while the limit is reached.
+     */
+    @Builder.Default private long maxBytesInFlight = 64L * 1024 * 1024;
+
+    /**
+     * Executor encoding the batches, such as a ForkJoinPool, or null to encode them on the
+     * producing thread
+     */
+    @Builder.Default private Executor encoder = null;
+
+    /**
+     * Maximum number of batches being encoded or not yet enqueued by Meilisearch when an encoder
+     * is set. Producing documents blocks while the limit is reached.
+     */
+    @Builder.Default private int maxQueuedBatches = 16;
+
+    /**
+     * Throttle pausing the upload while Meilisearch has too many tasks queued, or null to upload
+     * at the pace of the transport
+     */
+    @Builder.Default private TaskQueueThrottle throttle = null;
+
+    /**
+     * Creates the default options
+     *
+     * @return ParallelUploadOptions with every option set to its default
+     */
+    public static ParallelUploadOptions defaults() {
+        return ParallelUploadOptions.builder().build();
+    }
+}
@@ -0,0 +1,288 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpRequestBody;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Uploads documents in batches over several lanes, partitioned by the hash of their primary key
+ *
+ * <p>Documents are encoded one at a time on the producing thread into the batch of their lane. A
+ * full batch is chained behind the previous batch of its lane, so the batches of a lane are
+ * enqueued in order while the lanes upload concurrently through the asynchronous transport. The
+ * producing thread blocks while the encoded batches not yet enqueued exceed the ByteBudget, and
+ * while the TaskQueueThrottle of the options, if any, pauses producers.
+ *
+ * <p>With an encoder, the producing thread only collects the documents of each lane. A full batch
+ * is encoded on the encoder as soon as it is collected and sent once its encoding and the previous
+ * batch of its lane are done, so encoding, the next batches and the uploads overlap. The producing
+ * thread then blocks while too many batches are queued between the two stages.
+ */
+class ParallelUploader<T> {
+    private static final byte OPENING_BRACKET = '[';
+    private static final byte COMMA = ',';
+    private static final byte CLOSING_BRACKET = ']';
+
+    private final JsonHandler jsonHandler;
+    private final ParallelUploadOptions options;
+    private final Function<HttpRequestBody, CompletableFuture<TaskInfo>> sender;
+    private final BatchUpload upload;
+    private final List<Lane> lanes = new ArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final ByteBudget budget;
+    private final Semaphore queuedBatches;
+    private int nextLane;
+
+    /**
+     * @param jsonHandler JsonHandler encoding the documents
+     * @param options options of the upload
+     * @param sender sends a batch and completes with the TaskInfo of its task
+     * @param upload handle tracking the tasks of the batches
+     */
+    ParallelUploader(
+            JsonHandler jsonHandler,
+            ParallelUploadOptions options,
+            Function<HttpRequestBody, CompletableFuture<TaskInfo>> sender,
+            BatchUpload upload) {
+        if (options.getConcurrency() <= 0
+                || options.getBatchSize() <= 0
+                || options.getMaxQueuedBatches() <= 0) {
+            throw new IllegalArgumentException(
+                    "concurrency, batchSize and maxQueuedBatches must be positive");
+        }
+        this.jsonHandler = jsonHandler;
+        this.options = options;
+        this.sender = sender;
+        this.upload = upload;
+        this.budget = new ByteBudget(options.getMaxBytesInFlight());
+        this.queuedBatches = new Semaphore(options.getMaxQueuedBatches());
+        for (int i = 0; i < options.getConcurrency(); i++) {
+            lanes.add(options.getEncoder() != null ? new PipelinedLane() : new Lane());
+        }
+    }
+
+    /**
+     * Encodes and uploads every document, returning once the last batch is handed to its lane
+     *
+     * @param documents documents to upload, consumed once
+     * @param primaryKeyOf gets the primary key of a document, or null to spread the batches over
+     *     the lanes without ordering the writes to a document
+     * @throws MeilisearchException if a batch fails while the documents are produced
+     */
+    void upload(Iterator<? extends T> documents, Function<? super T, ?> primaryKeyOf)
+            throws MeilisearchException {
+        try {
+            while (documents.hasNext()) {
+                T document = documents.next();
+                int lane =
+                        primaryKeyOf != null ? partition(primaryKeyOf.apply(document)) : nextLane;
+                lanes.get(lane).add(document);
+            }
+            for (Lane lane : lanes) {
+                lane.flush();
+            }
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+            throw e;
+        } finally {
+            CompletableFuture<?>[] tails = new CompletableFuture<?>[lanes.size()];
+            for (int i = 0; i < lanes.size(); i++) {
+                tails[i] = lanes.get(i).tail;
+            }
+            CompletableFuture.allOf(tails)
+                    .whenComplete((ignored, e) -> upload.complete(failure.get()));
+        }
+    }
+
+    private int partition(Object primaryKey) {
+        return Math.floorMod(String.valueOf(primaryKey).hashCode(), lanes.size());
+    }
+
+    private void throttle() {
+        if (options.getThrottle() != null) options.getThrottle().awaitCapacity();
+    }
+
+    private void checkFailure() {
+        Throwable cause = failure.get();
+        if (cause == null) return;
+        if (cause instanceof MeilisearchException) throw (MeilisearchException) cause;
+        throw new MeilisearchException(cause);
+    }
+
+    /** Sends a batch, unless a previous batch failed */
+    private CompletableFuture<TaskInfo> send(byte[] body) {
+        if (failure.get() != null) return CompletableFuture.completedFuture(null);
+        return sender.apply(HttpRequestBody.of(body));
+    }
+
+    private Void onSent(long bytes, TaskInfo taskInfo, Throwable e) {
+        if (e != null) {
+            fail(e);
+        } else if (taskInfo != null) {
+            upload.onEnqueued(taskInfo);
+        }
+        budget.release(bytes);
+        return null;
+    }
+
+    /** Sends the batches encoded from a collected batch one after another */
+    private CompletableFuture<Void> sendAll(List<byte[]> bodies) {
+        CompletableFuture<Void> sent = CompletableFuture.completedFuture(null);
+        for (byte[] body : bodies) {
+            sent =
+                    sent.thenCompose(ignored -> send(body))
+                            .thenAccept(
+                                    taskInfo -> {
+                                        if (taskInfo != null) upload.onEnqueued(taskInfo);
+                                    });
+        }
+        return sent;
+    }
+
+    private Void onPipelined(Throwable e) {
+        if (e != null) fail(e);
+        queuedBatches.release();
+        return null;
+    }
+
+    private void fail(Throwable e) {
+        if (failure.compareAndSet(null, unwrap(e))) {
+            budget.abort(failure.get());
+            // wakes the producer waiting for a queued batch, which then finds the failure
+            queuedBatches.release(options.getMaxQueuedBatches());
+        }
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+
+    /** Encodes documents into JSON arrays limited by the batch size and maxBatchBytes */
+    private class BatchWriter {
+        private final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream document = new ByteArrayOutputStream();
+        private int count;
+
+        /**
+         * Encodes a document into the batch
+         *
+         * @return the previous batch if the document does not fit in it, or null
+         */
+        byte[] add(T value) {
+            document.reset();
+            try {
+                jsonHandler.encodeTo(value, document);
+            } catch (IOException e) {
+                // never thrown by a ByteArrayOutputStream
+                throw new UncheckedIOException(e);
+            }
+            long maxBytes = options.getMaxBatchBytes();
+            boolean full =
+                    count >= options.getBatchSize()
+                            || maxBytes > 0 && batch.size() + document.size() + 2 > maxBytes;
+            byte[] previous = count > 0 && full ? finish() : null;
+
+            byte[] encoded = document.toByteArray();
+            batch.write(count == 0 ? OPENING_BRACKET : COMMA);
+            batch.write(encoded, 0, encoded.length);
+            count++;
+            return previous;
+        }
+
+        /** Closes the batch, or returns null if it is empty */
+        byte[] finish() {
+            if (count == 0) return null;
+            batch.write(CLOSING_BRACKET);
+            byte[] body = batch.toByteArray();
+            batch.reset();
+            count = 0;
+            return body;
+        }
+    }
+
+    /** Batch being filled and chain of the batches already sent by a lane */
+    private class Lane {
+        private final BatchWriter writer = new BatchWriter();
+        CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+        void add(T value) {
+            byte[] body = writer.add(value);
+            if (body != null) enqueue(body);
+        }
+
+        void flush() {
+            byte[] body = writer.finish();
+            if (body != null) enqueue(body);
+        }
+
+        private void enqueue(byte[] body) {
+            nextLane = (nextLane + 1) % lanes.size();
+            checkFailure();
+            throttle();
+            budget.acquire(body.length);
+            tail =
+                    tail.thenCompose(ignored -> send(body))
+                            .handle((taskInfo, e) -> onSent(body.length, taskInfo, e));
+        }
+    }
+
+    /** Lane collecting its documents and encoding each batch on the encoder */
+    private class PipelinedLane extends Lane {
+        private List<T> batch = new ArrayList<>();
+
+        @Override
+        void add(T value) {
+            batch.add(value);
+            if (batch.size() >= options.getBatchSize()) flush();
+        }
+
+        @Override
+        void flush() {
+            if (batch.isEmpty()) return;
+            List<T> documents = batch;
+            batch = new ArrayList<>();
+            nextLane = (nextLane + 1) % lanes.size();
+
+            checkFailure();
+            throttle();
+            try {
+                queuedBatches.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            }
+            checkFailure();
+            Executor encoder = options.getEncoder();
+            CompletableFuture<List<byte[]>> encoded =
+                    CompletableFuture.supplyAsync(() -> encode(documents), encoder);
+            tail =
+                    tail.thenCompose(ignored -> encoded)
+                            .thenCompose(ParallelUploader.this::sendAll)
+                            .handle((ignored, e) -> onPipelined(e));
+        }
+
+        private List<byte[]> encode(List<T> documents) {
+            BatchWriter writer = new BatchWriter();
+            List<byte[]> bodies = new ArrayList<>();
+            for (T document : documents) {
+                byte[] body = writer.add(document);
+                if (body != null) bodies.add(body);
+            }
+            bodies.add(writer.finish());
+            return bodies;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the pages of a paginated route, requesting the next page as soon as the current
+ * one is received so that it is usually there by the time the current one is consumed
+ *
+ * <p>Nothing is requested before the first call to hasNext, and at most one page is requested
+ * ahead of the one being consumed.
+ *
+ * @param <T> type of the paginated resource
+ */
+class PrefetchingIterator<T> implements Iterator<T> {
+
+    /** Page of results and the cursor of the next one */
+    static class Page<T> {
+        final List<T> results;
+        final Integer next;
+
+        /**
+         * @param results resources of the page
+         * @param next cursor of the next page, or null if this page is the last one
+         */
+        Page(List<T> results, Integer next) {
+            this.results = results;
+            this.next = next;
+        }
+    }
+
+    private final Integer first;
+    private final Function<Integer, CompletableFuture<Page<T>>> fetcher;
+    private CompletableFuture<Page<T>> pending;
+    private Iterator<T> current = Collections.emptyIterator();
+    private boolean started = false;
+
+    /**
+     * @param first cursor of the first page, null to let the route pick it
+     * @param fetcher requests the page at the given cursor
+     */
+    PrefetchingIterator(Integer first, Function<Integer, CompletableFuture<Page<T>>> fetcher) {
+        this.first = first;
+        this.fetcher = fetcher;
+    }
+
+    /**
+     * Creates a lazy sequential stream over the pages
+     *
+     * @param first cursor of the first page, null to let the route pick it
+     * @param fetcher requests the page at the given cursor
+     * @return stream of the resources of every page, in order
+     */
+    static <T> Stream<T> stream(
+            Integer first, Function<Integer, CompletableFuture<Page<T>>> fetcher) {
+        Iterator<T> iterator = new PrefetchingIterator<>(first, fetcher);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    @Override
+    public boolean hasNext() throws MeilisearchException {
+        while (!current.hasNext()) {
+            if (!started) {
+                started = true;
+                pending = fetcher.apply(first);
+            }
+            if (pending == null) {
+                return false;
+            }
+            Page<T> page = join(pending);
+            pending = page.next != null ? fetcher.apply(page.next) : null;
+            current = page.results.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() throws MeilisearchException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    private Page<T> join(CompletableFuture<Page<T>> page) throws MeilisearchException {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            pending = null;
+            if (e.getCause() instanceof MeilisearchException) {
+                throw (MeilisearchException) e.getCause();
+            }
+            throw new MeilisearchException(e.getCause());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.SearchResult;
 import com.meilisearch.sdk.model.SearchResultPaginated;
 import com.meilisearch.sdk.model.Searchable;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class used for searching on Meilisearch indexes
@@ -33,7 +34,7 @@ public class Search {
     String rawSearch(String uid, String q) throws MeilisearchException {
         String requestQuery = "/indexes/" + uid + "/search";
         SearchRequest sr = SearchRequest.builder().q(q).build();
-        return httpClient.post(requestQuery, sr, String.class);
+        return httpClient.post(requestQuery, sr, HttpClient.READ_ONLY, String.class);
     }
 
     /**
@@ -46,7 +47,7 @@ public class Search {
      */
     String rawSearch(String uid, SearchRequest sr) throws MeilisearchException {
         String requestQuery = "/indexes/" + uid + "/search";
-        return httpClient.post(requestQuery, sr.toString(), String.class);
+        return httpClient.post(requestQuery, sr.toString(), HttpClient.READ_ONLY, String.class);
     }
 
     /**
@@ -58,7 +59,9 @@ public class Search {
      * @throws MeilisearchException Search Exception or Client Error
      */
     SearchResult search(String uid, String q) throws MeilisearchException {
-        return httpClient.jsonHandler.decode(rawSearch(uid, q), SearchResult.class);
+        String requestQuery = "/indexes/" + uid + "/search";
+        SearchRequest sr = SearchRequest.builder().q(q).build();
+        return httpClient.post(requestQuery, sr, HttpClient.READ_ONLY, SearchResult.class);
     }
 
     /**
@@ -70,9 +73,48 @@ public class Search {
      * @throws MeilisearchException Search Exception or Client Error
      */
     Searchable search(String uid, SearchRequest sr) throws MeilisearchException {
-        if (sr != null && (sr.getPage() != null || sr.getHitsPerPage() != null)) {
-            return httpClient.jsonHandler.decode(rawSearch(uid, sr), SearchResultPaginated.class);
+        String requestQuery = "/indexes/" + uid + "/search";
+        if (isPaginated(sr)) {
+            return httpClient.post(
+                    requestQuery,
+                    sr.toString(),
+                    HttpClient.READ_ONLY,
+                    SearchResultPaginated.class);
         }
-        return httpClient.jsonHandler.decode(rawSearch(uid, sr), SearchResult.class);
+        return httpClient.post(
+                requestQuery, sr.toString(), HttpClient.READ_ONLY, SearchResult.class);
+    }
+
+    /**
+     * Asynchronously performs a search on a given index with a given query
+     *
+     * @param uid Index identifier
+     * @param q Query to search on index
+     * @return future completed with the search results
+     */
+    CompletableFuture<SearchResult> searchAsync(String uid, String q) {
+        String requestQuery = "/indexes/" + uid + "/search";
+        SearchRequest sr = SearchRequest.builder().q(q).build();
+        return httpClient.postAsync(requestQuery, sr, HttpClient.READ_ONLY, SearchResult.class);
+    }
+
+    /**
+     * Asynchronously performs a search on a given index with a given query
+     *
+     * @param uid Index identifier
+     * @param sr SearchRequest to search on index
+     * @return future completed with the search results
+     */
+    CompletableFuture<Searchable> searchAsync(String uid, SearchRequest sr) {
+        String requestQuery = "/indexes/" + uid + "/search";
+        Class<? extends Searchable> targetClass =
+                isPaginated(sr) ? SearchResultPaginated.class : SearchResult.class;
+        CompletableFuture<? extends Searchable> result =
+                httpClient.postAsync(requestQuery, sr.toString(), HttpClient.READ_ONLY, targetClass);
+        return HttpClient.map(result, r -> r);
+    }
+
+    private boolean isPaginated(SearchRequest sr) {
+        return sr != null && (sr.getPage() != null || sr.getHitsPerPage() != null);
     }
 }
@@ -0,0 +1,38 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a task export, see {@link Client#exportTasks(com.meilisearch.sdk.model.TasksQuery,
+ * TaskExportOptions, java.util.function.Consumer)}
+ *
+ * <p>The enqueued time range of the export is split into {@link #slices} slices of equal length,
+ * at most {@link #parallelism} of them being fetched at once. Slices are never shorter than a
+ * second, the precision of the date filters of the tasks route. At most {@link #parallelism} times
+ * {@link #maxBufferedPages} pages are held in memory at once.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class TaskExportOptions {
+    /** Number of time slices the enqueued time range is split into */
+    @Builder.Default private int slices = 8;
+
+    /** Maximum number of slices fetched at once */
+    @Builder.Default private int parallelism = 4;
+
+    /** Number of tasks requested per page */
+    @Builder.Default private int pageSize = 1000;
+
+    /** Maximum number of pages fetched ahead and buffered per slice, until they are delivered */
+    @Builder.Default private int maxBufferedPages = 4;
+
+    /**
+     * Creates the default options
+     *
+     * @return TaskExportOptions with every option set to its default
+     */
+    public static TaskExportOptions defaults() {
+        return TaskExportOptions.builder().build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TasksQuery;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Exports the tasks enqueued in a time range by fetching slices of that range concurrently
+ *
+ * <p>Task uids grow with their enqueued time, so fetching each slice in ascending uid order and
+ * delivering the slices from the oldest one yields every task in ascending uid order. The date
+ * filters of the tasks route are exclusive and truncated to the second, so every slice starts a
+ * second before the end of the previous one; the tasks of that overlap are delivered once.
+ *
+ * <p>The pages of the oldest slice are delivered as they arrive, while the later slices being
+ * fetched buffer at most {@link TaskExportOptions#getMaxBufferedPages()} pages each, pausing until
+ * their pages are delivered.
+ */
+class TaskExporter {
+    private final TasksHandler tasksHandler;
+    private final TaskExportOptions options;
+
+    TaskExporter(TasksHandler tasksHandler, TaskExportOptions options) {
+        this.tasksHandler = tasksHandler;
+        this.options = options != null ? options : TaskExportOptions.defaults();
+        if (this.options.getSlices() <= 0 || this.options.getParallelism() <= 0) {
+            throw new IllegalArgumentException("slices and parallelism must be positive");
+        }
+        if (this.options.getPageSize() <= 0 || this.options.getMaxBufferedPages() <= 0) {
+            throw new IllegalArgumentException("pageSize and maxBufferedPages must be positive");
+        }
+    }
+
+    /**
+     * Delivers every task matching a query to a consumer, in ascending uid order
+     *
+     * @param query filters of the tasks, whose afterEnqueuedAt is required
+     * @param consumer receives the tasks on the calling thread
+     * @return number of tasks delivered
+     * @throws MeilisearchException if a page could not be fetched
+     */
+    long export(TasksQuery query, Consumer<Task> consumer) throws MeilisearchException {
+        List<TasksQuery> slices = slice(query, new Date());
+        List<SliceFetch> fetches = new ArrayList<>();
+        while (fetches.size() < Math.min(options.getParallelism(), slices.size())) {
+            fetches.add(new SliceFetch(slices.get(fetches.size())));
+        }
+
+        long count = 0;
+        int lastUid = -1;
+        for (int i = 0; i < slices.size(); i++) {
+            SliceFetch fetch = fetches.get(i);
+            fetches.set(i, null);
+            List<Task> page;
+            while ((page = fetch.take()) != null) {
+                for (Task task : page) {
+                    if (task.getUid() > lastUid) {
+                        consumer.accept(task);
+                        lastUid = task.getUid();
+                        count++;
+                    }
+                }
+            }
+            if (fetches.size() < slices.size()) {
+                fetches.add(new SliceFetch(slices.get(fetches.size())));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Splits the enqueued time range of a query into slices of whole seconds, each slice starting
+     * a second before the end of the previous one
+     */
+    List<TasksQuery> slice(TasksQuery query, Date now) {
+        Date after = query.getAfterEnqueuedAt();
+        Date before = query.getBeforeEnqueuedAt();
+        if (after == null) {
+            throw new IllegalArgumentException("afterEnqueuedAt is required to export tasks");
+        }
+        long start = after.getTime();
+        long end = (before != null ? before : now).getTime();
+        int count = (int) Math.max(1, Math.min(options.getSlices(), (end - start) / 1000));
+
+        List<TasksQuery> slices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TasksQuery slice =
+                    PaginatedStreams.copy(query, null, options.getPageSize()).setReverse(true);
+            if (i > 0) {
+                slice.setAfterEnqueuedAt(new Date(boundary(start, end, i, count) - 1000));
+            }
+            if (i < count - 1) {
+                slice.setBeforeEnqueuedAt(new Date(boundary(start, end, i + 1, count)));
+            }
+            slices.add(slice);
+        }
+        return slices;
+    }
+
+    private static long boundary(long start, long end, int i, int count) {
+        long boundary = start + (end - start) * i / count;
+        return boundary - Math.floorMod(boundary, 1000L);
+    }
+
+    /**
+     * Pages of a slice fetched in ascending uid order, the next page being requested once a page
+     * arrives unless the buffered pages are not delivered yet
+     */
+    private class SliceFetch {
+        private final TasksQuery slice;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition arrived = lock.newCondition();
+        private final Queue<List<Task>> pages = new ArrayDeque<>();
+        /** Uid the next page starts from, while fetching it waits for a page to be delivered */
+        private Integer paused;
+        private boolean done;
+        private Throwable failure;
+
+        SliceFetch(TasksQuery slice) {
+            this.slice = slice;
+            fetch(null);
+        }
+
+        /**
+         * Takes the next page of the slice, waiting until it arrives
+         *
+         * @return the next page, or null once every page was taken
+         * @throws MeilisearchException if a page could not be fetched or the thread is
+         *     interrupted
+         */
+        List<Task> take() throws MeilisearchException {
+            Integer resume = null;
+            List<Task> page;
+            lock.lock();
+            try {
+                while (pages.isEmpty() && !done && failure == null) {
+                    arrived.await();
+                }
+                if (failure != null) throw toMeilisearchException(failure);
+                page = pages.poll();
+                if (paused != null) {
+                    resume = paused;
+                    paused = null;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            } finally {
+                lock.unlock();
+            }
+            if (resume != null) fetch(resume);
+            return page;
+        }
+
+        private void fetch(Integer from) {
+            int pageSize = options.getPageSize();
+            tasksHandler
+                    .getTasksAsync(PaginatedStreams.copy(slice, from, pageSize))
+                    .whenComplete(
+                            (results, e) -> {
+                                Integer next = null;
+                                lock.lock();
+                                try {
+                                    if (e != null) {
+                                        failure = e;
+                                        return;
+                                    }
+                                    List<Task> page =
+                                            PaginatedStreams.asList(results.getResults());
+                                    if (!page.isEmpty()) pages.add(page);
+                                    next = PaginatedStreams.nextTask(page, pageSize, true);
+                                    if (next == null) {
+                                        done = true;
+                                    } else if (pages.size() >= options.getMaxBufferedPages()) {
+                                        paused = next;
+                                        next = null;
+                                    }
+                                } finally {
+                                    arrived.signalAll();
+                                    lock.unlock();
+                                }
+                                if (next != null) fetch(next);
+                            });
+        }
+    }
+
+    private static MeilisearchException toMeilisearchException(Throwable failure) {
+        Throwable cause =
+                failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+        if (cause instanceof MeilisearchException) return (MeilisearchException) cause;
+        return new MeilisearchException(cause);
+    }
+}
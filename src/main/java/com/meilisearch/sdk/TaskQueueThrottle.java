@@ -0,0 +1,122 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Slows producers of writes down to the pace at which Meilisearch processes its task queue
+ *
+ * <p>Meilisearch accepts writes much faster than it indexes them, and a long queue of tasks slows
+ * the tasks route and delays the visibility of the writes. The throttle counts the enqueued and
+ * processing tasks at most once per poll interval. Above the high-water mark, every producer
+ * calling {@link #awaitCapacity()} waits until the count drops to the low-water mark, so producers
+ * do not flap around a single threshold. One throttle may be shared by several uploads.
+ */
+public class TaskQueueThrottle {
+    private static final String[] QUEUED_STATUSES = {
+        TaskStatus.ENQUEUED.taskStatus, TaskStatus.PROCESSING.taskStatus
+    };
+
+    private final TasksHandler tasksHandler;
+    private final TaskQueueThrottleOptions options;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile int queuedTasks;
+    private volatile boolean paused;
+    private volatile boolean polled;
+    private volatile long lastPoll;
+
+    TaskQueueThrottle(TasksHandler tasksHandler, TaskQueueThrottleOptions options) {
+        if (options.getLowWaterMark() < 0
+                || options.getHighWaterMark() <= options.getLowWaterMark()) {
+            throw new IllegalArgumentException(
+                    "lowWaterMark must not be negative and highWaterMark must exceed it");
+        }
+        this.tasksHandler = tasksHandler;
+        this.options = options;
+    }
+
+    /**
+     * Waits until producers may send more writes
+     *
+     * <p>Returns at once while the last count is recent and below the high-water mark, without
+     * taking any lock. Otherwise a single producer counts the tasks again, waiting for the queue to
+     * drain if it reached the high-water mark. Other producers keep writing while the last count
+     * was below the high-water mark, and wait with the counting one while the queue drains or
+     * before the first count.
+     *
+     * @throws MeilisearchException if the tasks cannot be counted or the thread is interrupted
+     */
+    public void awaitCapacity() throws MeilisearchException {
+        if (isFresh() && !paused) return;
+        if (polled && !paused) {
+            // another producer is counting the tasks, and the last count still allows writes
+            if (!lock.tryLock()) return;
+        } else {
+            try {
+                lock.lockInterruptibly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MeilisearchException(e);
+            }
+        }
+        try {
+            // the tasks may have been counted while this producer waited for the lock
+            if (isFresh() && !paused) return;
+            poll();
+            while (paused) {
+                TimeUnit.MILLISECONDS.sleep(options.getPollIntervalMs());
+                poll();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MeilisearchException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of enqueued and processing tasks at the last count
+     *
+     * @return number of tasks counted, 0 before the first count
+     */
+    public int getQueuedTasks() {
+        return queuedTasks;
+    }
+
+    /**
+     * Tells whether producers are paused until the queue drains to the low-water mark
+     *
+     * @return true if the last count reached the high-water mark and the queue has not drained yet
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    private boolean isFresh() {
+        long interval = TimeUnit.MILLISECONDS.toNanos(options.getPollIntervalMs());
+        return polled && System.nanoTime() - lastPoll < interval;
+    }
+
+    /** Counts the tasks, with the lock held */
+    private void poll() {
+        TasksQuery query =
+                new TasksQuery()
+                        .setStatuses(QUEUED_STATUSES)
+                        .setIndexUids(options.getIndexUids())
+                        .setLimit(1);
+        int count = tasksHandler.getTasks(query).getTotal();
+        queuedTasks = count;
+        if (count >= options.getHighWaterMark()) {
+            paused = true;
+        } else if (count <= options.getLowWaterMark()) {
+            paused = false;
+        }
+        // published last, so that a fresh count is never read with a stale pause
+        lastPoll = System.nanoTime();
+        polled = true;
+    }
+}
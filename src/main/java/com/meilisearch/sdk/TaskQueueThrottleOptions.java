@@ -0,0 +1,38 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a {@link TaskQueueThrottle}
+ *
+ * <p>Producers pause once {@link #highWaterMark} tasks are enqueued or processing, and resume once
+ * the queue drains to {@link #lowWaterMark} tasks.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class TaskQueueThrottleOptions {
+    /** Number of enqueued and processing tasks at which producers pause */
+    @Builder.Default private int highWaterMark = 10_000;
+
+    /** Number of enqueued and processing tasks at which paused producers resume */
+    @Builder.Default private int lowWaterMark = 1_000;
+
+    /**
+     * Time in milliseconds between two counts of the tasks, both while producers run and while
+     * they are paused
+     */
+    @Builder.Default private long pollIntervalMs = 1000;
+
+    /** Indexes whose tasks are counted, or null to count the tasks of every index */
+    @Builder.Default private String[] indexUids = null;
+
+    /**
+     * Creates the default options
+     *
+     * @return TaskQueueThrottleOptions with every option set to its default
+     */
+    public static TaskQueueThrottleOptions defaults() {
+        return TaskQueueThrottleOptions.builder().build();
+    }
+}
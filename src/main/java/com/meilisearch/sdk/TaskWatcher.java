@@ -0,0 +1,244 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Waits for any number of tasks with a single polling loop instead of one blocked thread each
+ *
+ * <p>Every poll requests the status of all the watched tasks at once, filtering the tasks route by
+ * their uids, and completes the futures of the tasks that are processed. The loop polls again
+ * soon while tasks keep finishing, backs off while the queue is busy with other work, and stops
+ * while no task is watched. The loops of every watcher run on a single daemon thread, and the
+ * futures of the callers are completed on the common ForkJoinPool, so that the work chained to them
+ * never delays the polls.
+ */
+public class TaskWatcher {
+    private static final ScheduledExecutorService SCHEDULER =
+            DaemonSchedulers.newScheduler("meilisearch-task-watcher");
+
+    private final TasksHandler tasksHandler;
+    private final TaskWatcherOptions options;
+    private final Map<Integer, Watch> watched = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private boolean scheduled;
+    private long intervalMs;
+    /** Polls failed in a row, only read and written by the polling thread */
+    private int consecutiveFailures;
+
+    TaskWatcher(TasksHandler tasksHandler, TaskWatcherOptions options) {
+        if (options.getMinIntervalMs() <= 0
+                || options.getMaxIntervalMs() < options.getMinIntervalMs()
+                || options.getMaxTasksPerRequest() <= 0
+                || options.getMaxConsecutiveFailures() <= 0) {
+            throw new IllegalArgumentException(
+                    "minIntervalMs, maxTasksPerRequest and maxConsecutiveFailures must be"
+                            + " positive, and maxIntervalMs at least minIntervalMs");
+        }
+        this.tasksHandler = tasksHandler;
+        this.options = options;
+        this.intervalMs = options.getMinIntervalMs();
+    }
+
+    /**
+     * Watches a task until it is processed
+     *
+     * @param taskUid Identifier of the task
+     * @return future completed with the task once it succeeded, failed or was canceled, or
+     *     exceptionally with a MeilisearchException if the task does not exist or it cannot be
+     *     polled. Every caller gets its own future, and the task stops being polled once the
+     *     futures of all its callers are cancelled.
+     */
+    public CompletableFuture<Task> watch(int taskUid) {
+        CompletableFuture<Task> future = new CompletableFuture<>();
+        Watch watch =
+                watched.compute(
+                        taskUid,
+                        (uid, current) -> {
+                            Watch next =
+                                    current != null && !current.task.isDone()
+                                            ? current
+                                            : new Watch();
+                            next.callers++;
+                            return next;
+                        });
+        watch.task.whenCompleteAsync(
+                (task, e) -> {
+                    if (e != null) {
+                        future.completeExceptionally(e);
+                    } else {
+                        future.complete(task);
+                    }
+                });
+        future.whenComplete((task, e) -> release(taskUid, watch));
+        lock.lock();
+        try {
+            // a new task is likely to finish soon after the ones already watched
+            intervalMs = options.getMinIntervalMs();
+            if (!scheduled) {
+                scheduled = true;
+                SCHEDULER.schedule(this::poll, intervalMs, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return future;
+    }
+
+    /**
+     * Watches a task until it is processed, or until a timeout
+     *
+     * @param taskUid Identifier of the task
+     * @param timeoutMs Time in milliseconds to wait for the task
+     * @return future completed as by {@link #watch(int)}, or exceptionally with a
+     *     TimeoutException if the task is not processed in time, which stops watching it for this
+     *     caller
+     */
+    public CompletableFuture<Task> watch(int taskUid, long timeoutMs) {
+        return watch(taskUid).orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Gets the number of tasks watched and not processed yet
+     *
+     * @return number of watched tasks
+     */
+    public int getWatchedTasks() {
+        return watched.size();
+    }
+
+    /**
+     * Completes the future of a watched task reported as processed by another source than the
+     * polling loop, such as a webhook
+     *
+     * @param task task as reported, ignored unless it is processed
+     */
+    void onProcessed(Task task) {
+        if (!isProcessed(task)) return;
+        Watch watch = watched.remove(task.getUid());
+        if (watch != null) watch.task.complete(task);
+    }
+
+    /** Stops polling a task once the futures of all its callers are done before it is processed */
+    private void release(int taskUid, Watch watch) {
+        if (watch.task.isDone()) return;
+        watched.computeIfPresent(
+                taskUid,
+                (uid, current) -> {
+                    if (current != watch) return current;
+                    current.callers--;
+                    return current.callers > 0 ? current : null;
+                });
+    }
+
+    private void poll() {
+        boolean finished = false;
+        try {
+            List<Integer> uids = new ArrayList<>(watched.keySet());
+            for (int from = 0; from < uids.size(); from += options.getMaxTasksPerRequest()) {
+                List<Integer> chunk =
+                        uids.subList(
+                                from,
+                                Math.min(uids.size(), from + options.getMaxTasksPerRequest()));
+                finished |= pollTasks(chunk);
+            }
+            consecutiveFailures = 0;
+        } catch (MeilisearchApiException e) {
+            if (isRejected(e)) {
+                // a rejected request, such as with an invalid key, fails again on every poll
+                failAll(e);
+            } else {
+                onTransientFailure(e);
+            }
+        } catch (RuntimeException e) {
+            onTransientFailure(e);
+        }
+
+        lock.lock();
+        try {
+            intervalMs =
+                    finished
+                            ? options.getMinIntervalMs()
+                            : Math.min(intervalMs * 2, options.getMaxIntervalMs());
+            scheduled = !watched.isEmpty();
+            if (scheduled) SCHEDULER.schedule(this::poll, intervalMs, TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Keeps the tasks watched, for the next poll to try again, unless too many polls failed */
+    private void onTransientFailure(RuntimeException e) {
+        consecutiveFailures++;
+        if (consecutiveFailures >= options.getMaxConsecutiveFailures()) {
+            consecutiveFailures = 0;
+            failAll(e);
+        }
+    }
+
+    private void failAll(RuntimeException e) {
+        for (Integer uid : new ArrayList<>(watched.keySet())) {
+            Watch watch = watched.remove(uid);
+            if (watch != null) watch.task.completeExceptionally(e);
+        }
+    }
+
+    /** Tells the errors of the request, answered with a 4xx status, from those of the server */
+    private static boolean isRejected(MeilisearchApiException e) {
+        return "invalid_request".equals(e.getType()) || "auth".equals(e.getType());
+    }
+
+    /** Requests the status of some watched tasks, returning true if any of them is processed */
+    private boolean pollTasks(List<Integer> uids) {
+        TasksQuery query =
+                new TasksQuery()
+                        .setUids(uids.stream().mapToInt(Integer::intValue).toArray())
+                        .setLimit(uids.size());
+        Task[] tasks = tasksHandler.getTasks(query).getResults();
+
+        boolean finished = false;
+        Set<Integer> found = new HashSet<>();
+        for (Task task : tasks != null ? tasks : new Task[0]) {
+            found.add(task.getUid());
+            if (!isProcessed(task)) continue;
+            Watch watch = watched.remove(task.getUid());
+            if (watch != null) watch.task.complete(task);
+            finished = true;
+        }
+        for (Integer uid : uids) {
+            if (found.contains(uid)) continue;
+            Watch watch = watched.remove(uid);
+            if (watch != null) {
+                watch.task.completeExceptionally(
+                        new MeilisearchException("Task " + uid + " not found"));
+            }
+            finished = true;
+        }
+        return finished;
+    }
+
+    private static boolean isProcessed(Task task) {
+        TaskStatus status = task.getStatus();
+        return status != null && status != TaskStatus.ENQUEUED && status != TaskStatus.PROCESSING;
+    }
+
+    /** Poll of a task shared by its callers, each completed from it through a future of its own */
+    private static class Watch {
+        private final CompletableFuture<Task> task = new CompletableFuture<>();
+        /** Callers whose future is pending, only updated while computing the entry of the task */
+        private int callers;
+    }
+}
@@ -0,0 +1,37 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a {@link TaskWatcher}
+ *
+ * <p>The watcher polls every {@link #minIntervalMs} while tasks keep finishing, and doubles its
+ * interval up to {@link #maxIntervalMs} while none of the watched tasks finish. The futures of the
+ * watched tasks fail once Meilisearch rejects a poll, or once {@link #maxConsecutiveFailures}
+ * polls failed in a row.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class TaskWatcherOptions {
+    /** Time in milliseconds between two polls while watched tasks keep finishing */
+    @Builder.Default private long minIntervalMs = 50;
+
+    /** Longest time in milliseconds between two polls while the watched tasks stay queued */
+    @Builder.Default private long maxIntervalMs = 2000;
+
+    /** Maximum number of task uids requested at once */
+    @Builder.Default private int maxTasksPerRequest = 500;
+
+    /** Number of failed polls in a row, such as while the host is unreachable, failing the tasks */
+    @Builder.Default private int maxConsecutiveFailures = 5;
+
+    /**
+     * Creates the default options
+     *
+     * @return TaskWatcherOptions with every option set to its default
+     */
+    public static TaskWatcherOptions defaults() {
+        return TaskWatcherOptions.builder().build();
+    }
+}
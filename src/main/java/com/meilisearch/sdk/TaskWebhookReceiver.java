@@ -0,0 +1,222 @@
+package com.meilisearch.sdk;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.CreateUpdateWebhookRequest;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.Webhook;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Embedded HTTP server receiving the tasks Meilisearch pushes to a webhook once they are processed
+ *
+ * <p>Starting the receiver registers a webhook whose URL points at it, with a random bearer token
+ * in its headers that every call must present. Each call carries the processed tasks as NDJSON,
+ * usually gzip-compressed, and completes the futures of the watched tasks at once. The watched
+ * tasks are still polled at a slow pace in case Meilisearch cannot reach the receiver. Closing the
+ * receiver deletes the webhook and stops the server.
+ */
+public class TaskWebhookReceiver implements AutoCloseable {
+    private static final String BEARER = "Bearer ";
+
+    private final WebHooksHandler webHooksHandler;
+    private final JsonHandler jsonHandler;
+    private final TaskWatcher watcher;
+    private final String token;
+    private final byte[] authorization;
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String url;
+    private Webhook webhook;
+
+    private TaskWebhookReceiver(
+            WebHooksHandler webHooksHandler,
+            TasksHandler tasksHandler,
+            JsonHandler jsonHandler,
+            TaskWebhookReceiverOptions options)
+            throws IOException {
+        this.webHooksHandler = webHooksHandler;
+        this.jsonHandler = jsonHandler;
+        this.watcher =
+                new TaskWatcher(
+                        tasksHandler,
+                        TaskWatcherOptions.builder()
+                                .minIntervalMs(options.getFallbackIntervalMs())
+                                .maxIntervalMs(options.getMaxFallbackIntervalMs())
+                                .build());
+
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+        this.authorization = (BEARER + token).getBytes(StandardCharsets.UTF_8);
+
+        this.server = HttpServer.create(bindAddress(options), 0);
+        this.executor =
+                Executors.newSingleThreadExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-task-webhook");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.server.setExecutor(executor);
+        this.server.createContext(options.getPath(), this::handle);
+        this.url =
+                options.getPublicUrl() != null
+                        ? options.getPublicUrl()
+                        : localUrl(server.getAddress(), options.getPath());
+    }
+
+    /**
+     * Starts a receiver and registers its webhook
+     *
+     * @throws MeilisearchException if the server cannot listen or the webhook cannot be created
+     */
+    static TaskWebhookReceiver start(
+            WebHooksHandler webHooksHandler,
+            TasksHandler tasksHandler,
+            JsonHandler jsonHandler,
+            TaskWebhookReceiverOptions options)
+            throws MeilisearchException {
+        TaskWebhookReceiver receiver;
+        try {
+            receiver =
+                    new TaskWebhookReceiver(webHooksHandler, tasksHandler, jsonHandler, options);
+        } catch (IOException e) {
+            throw new MeilisearchException(e);
+        }
+        receiver.server.start();
+
+        HashMap<String, Object> headers = new HashMap<>();
+        headers.put("Authorization", BEARER + receiver.token);
+        try {
+            receiver.webhook =
+                    webHooksHandler.createWebhook(
+                            new CreateUpdateWebhookRequest(receiver.url, headers));
+        } catch (RuntimeException e) {
+            receiver.stop();
+            throw e;
+        }
+        return receiver;
+    }
+
+    /**
+     * Watches a task until it is processed, as pushed by Meilisearch or found by the fallback
+     * polling
+     *
+     * @param taskUid Identifier of the task
+     * @return future completed with the processed task, which may have failed
+     * @see TaskWatcher#watch(int)
+     */
+    public CompletableFuture<Task> watch(int taskUid) {
+        return watcher.watch(taskUid);
+    }
+
+    /**
+     * Gets the URL registered as the webhook
+     *
+     * @return URL at which Meilisearch calls the receiver
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Gets the webhook registered by the receiver
+     *
+     * @return the Webhook created in Meilisearch
+     */
+    public Webhook getWebhook() {
+        return webhook;
+    }
+
+    /**
+     * Deletes the webhook and stops the server. Watched tasks are then only polled.
+     *
+     * @throws MeilisearchException if the webhook cannot be deleted
+     */
+    @Override
+    public void close() throws MeilisearchException {
+        try {
+            webHooksHandler.deleteWebhook(webhook.getUuid());
+        } finally {
+            stop();
+        }
+    }
+
+    private void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            // compared in constant time, not to leak the token through the response time
+            if (authorization == null
+                    || !MessageDigest.isEqual(
+                            this.authorization, authorization.getBytes(StandardCharsets.UTF_8))) {
+                exchange.sendResponseHeaders(401, -1);
+                return;
+            }
+
+            InputStream body = exchange.getRequestBody();
+            String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            if ("gzip".equalsIgnoreCase(encoding)) {
+                body = new GZIPInputStream(body);
+            }
+            try (BufferedReader lines =
+                    new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    if (line.trim().isEmpty()) continue;
+                    watcher.onProcessed(jsonHandler.decode(line, Task.class));
+                }
+            } catch (RuntimeException e) {
+                exchange.sendResponseHeaders(400, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(204, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /** Listens on the loopback address by default, unless Meilisearch reaches a public URL */
+    private static InetSocketAddress bindAddress(TaskWebhookReceiverOptions options) {
+        if (options.getBindAddress() != null) {
+            return new InetSocketAddress(options.getBindAddress(), options.getPort());
+        }
+        if (options.getPublicUrl() != null) {
+            return new InetSocketAddress(options.getPort());
+        }
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), options.getPort());
+    }
+
+    private static String localUrl(InetSocketAddress address, String path) throws IOException {
+        InetAddress host = address.getAddress();
+        if (host.isAnyLocalAddress()) host = InetAddress.getLocalHost();
+        String hostAddress = host.getHostAddress();
+        if (hostAddress.contains(":")) hostAddress = "[" + hostAddress + "]";
+        return "http://" + hostAddress + ":" + address.getPort() + path;
+    }
+}
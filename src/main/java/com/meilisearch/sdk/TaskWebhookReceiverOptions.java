@@ -0,0 +1,51 @@
+package com.meilisearch.sdk;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a {@link TaskWebhookReceiver}
+ *
+ * <p>The receiver listens on {@link #bindAddress} and {@link #port}, and registers {@link
+ * #publicUrl} as the webhook Meilisearch calls. The watched tasks are still polled, every {@link
+ * #fallbackIntervalMs} at first and up to every {@link #maxFallbackIntervalMs}, in case a call is
+ * lost.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class TaskWebhookReceiverOptions {
+    /**
+     * Address the receiver listens on, or null for the loopback address if {@link #publicUrl} is
+     * null, and for every address otherwise. Listening on another address than the loopback one
+     * lets any host that reaches it call the receiver, which only accepts calls presenting the
+     * token of its webhook.
+     */
+    @Builder.Default private String bindAddress = null;
+
+    /** Port the receiver listens on, 0 for any free port */
+    @Builder.Default private int port = 0;
+
+    /** Path of the requests Meilisearch sends to the receiver */
+    @Builder.Default private String path = "/meilisearch/tasks";
+
+    /**
+     * URL at which Meilisearch reaches the receiver, such as the address of a proxy in front of it,
+     * or null for the address and port the receiver listens on
+     */
+    @Builder.Default private String publicUrl = null;
+
+    /** Time in milliseconds between two polls of the watched tasks while they keep finishing */
+    @Builder.Default private long fallbackIntervalMs = 5_000;
+
+    /** Longest time in milliseconds between two polls of the watched tasks */
+    @Builder.Default private long maxFallbackIntervalMs = 30_000;
+
+    /**
+     * Creates the default options
+     *
+     * @return TaskWebhookReceiverOptions with every option set to its default
+     */
+    public static TaskWebhookReceiverOptions defaults() {
+        return TaskWebhookReceiverOptions.builder().build();
+    }
+}
@@ -2,11 +2,13 @@ package com.meilisearch.sdk;
 
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.http.RequestContext;
 import com.meilisearch.sdk.http.URLBuilder;
 import com.meilisearch.sdk.model.*;
 import com.meilisearch.sdk.model.batch.req.BatchesQuery;
 import com.meilisearch.sdk.model.batch.res.Batch;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Class covering the Meilisearch Task API
@@ -39,6 +41,18 @@ public class TasksHandler {
         return httpClient.get(urlPath, Task.class);
     }
 
+    /**
+     * Asynchronously retrieves one task with the specified task uid
+     *
+     * @param taskUid Identifier of the requested Task
+     * @return future completed with the Task instance
+     */
+    CompletableFuture<Task> getTaskAsync(int taskUid) {
+        URLBuilder urlb = new URLBuilder();
+        urlb.addSubroute("tasks").addSubroute(Integer.toString(taskUid));
+        return httpClient.getAsync(urlb.getURL(), Task.class);
+    }
+
     /**
      * Retrieves all tasks from the client
      *
@@ -63,6 +77,17 @@ public class TasksHandler {
         return result;
     }
 
+    /**
+     * Asynchronously retrieves the tasks matching a query
+     *
+     * @param param accept by the tasks route
+     * @return future completed with the TasksResults containing a list of task instance
+     */
+    CompletableFuture<TasksResults> getTasksAsync(TasksQuery param) {
+        return httpClient.getAsync(
+                tasksPath().addQuery(param.toQuery()).getURL(), TasksResults.class);
+    }
+
     /**
      * Retrieves all tasks from specified index uid
      *
@@ -136,7 +161,8 @@ public class TasksHandler {
      * @param taskUid Identifier of the Task
      * @param timeoutInMs number of milliseconds before throwing an Exception
      * @param intervalInMs number of milliseconds before requesting the status again
-     * @throws MeilisearchException if timeout is reached
+     * @throws MeilisearchException if timeout is reached, or if the RequestContext attached to the
+     *     thread is cancelled or reaches its deadline
      */
     void waitForTask(int taskUid, int timeoutInMs, int intervalInMs) throws MeilisearchException {
         Task task;
@@ -144,6 +170,8 @@ public class TasksHandler {
         long startTime = new Date().getTime();
         long elapsedTime = 0;
 
+        RequestContext context = RequestContext.current();
+
         while (status == null
                 || (status.equals(TaskStatus.ENQUEUED) || status.equals(TaskStatus.PROCESSING))) {
             if (elapsedTime >= timeoutInMs) {
@@ -152,7 +180,8 @@ public class TasksHandler {
             task = this.getTask(taskUid);
             status = task.getStatus();
             try {
-                Thread.sleep(intervalInMs);
+                if (context != null) context.sleep(intervalInMs);
+                else Thread.sleep(intervalInMs);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 throw new MeilisearchTimeoutException();
@@ -183,6 +212,20 @@ public class TasksHandler {
         return (CursorResults<Batch>) httpClient.get(urlPath, CursorResults.class, Batch.class);
     }
 
+    /**
+     * Asynchronously retrieves the batches matching the provided query parameters.
+     *
+     * @param batchesQuery An instance of BatchesQuery containing filtering criteria.
+     * @return A future completed with the paginated list of Batch objects.
+     */
+    @SuppressWarnings("unchecked")
+    CompletableFuture<CursorResults<Batch>> getAllBatchesAsync(BatchesQuery batchesQuery) {
+        String urlPath = batchPath().addQuery(batchesQuery.toQuery()).getURL();
+        return httpClient
+                .getAsync(urlPath, CursorResults.class, Batch.class)
+                .thenApply(results -> (CursorResults<Batch>) results);
+    }
+
     /** Creates an URLBuilder for the constant route tasks */
     private URLBuilder tasksPath() {
         return new URLBuilder("/tasks");
@@ -11,19 +11,19 @@ public class MeilisearchApiException extends MeilisearchException {
     }
 
     public String getMessage() {
-        return error.getMessage();
+        return error != null ? error.getMessage() : null;
     }
 
     public String getCode() {
-        return error.getCode();
+        return error != null ? error.getCode() : null;
     }
 
     public String getType() {
-        return error.getType();
+        return error != null ? error.getType() : null;
     }
 
     public String getLink() {
-        return error.getLink();
+        return error != null ? error.getLink() : null;
     }
 
     @Override
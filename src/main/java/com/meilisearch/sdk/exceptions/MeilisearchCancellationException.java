@@ -0,0 +1,24 @@
+package com.meilisearch.sdk.exceptions;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/** Wrapper around MeilisearchExceptions raised when a call is cancelled through its CancellationToken */
+@Getter
+@Setter
+public class MeilisearchCancellationException extends MeilisearchException {
+
+    String error;
+
+    public MeilisearchCancellationException() {}
+
+    public MeilisearchCancellationException(String error) {
+        super(error);
+        this.setError(error);
+    }
+
+    @Override
+    public String toString() {
+        return "Meilisearch CancellationException: {" + "Error=" + this.error + '}';
+    }
+}
@@ -0,0 +1,24 @@
+package com.meilisearch.sdk.exceptions;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/** Wrapper around MeilisearchExceptions raised when the circuit breaker of a host is open */
+@Getter
+@Setter
+public class MeilisearchCircuitOpenException extends MeilisearchException {
+
+    String error;
+
+    public MeilisearchCircuitOpenException() {}
+
+    public MeilisearchCircuitOpenException(String error) {
+        super(error);
+        this.setError(error);
+    }
+
+    @Override
+    public String toString() {
+        return "Meilisearch CircuitOpenException: {" + "Error=" + this.error + '}';
+    }
+}
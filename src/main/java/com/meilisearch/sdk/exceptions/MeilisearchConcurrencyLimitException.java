@@ -0,0 +1,24 @@
+package com.meilisearch.sdk.exceptions;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/** Wrapper around MeilisearchExceptions raised when the client-side concurrency limit is full */
+@Getter
+@Setter
+public class MeilisearchConcurrencyLimitException extends MeilisearchException {
+
+    String error;
+
+    public MeilisearchConcurrencyLimitException() {}
+
+    public MeilisearchConcurrencyLimitException(String error) {
+        super(error);
+        this.setError(error);
+    }
+
+    @Override
+    public String toString() {
+        return "Meilisearch ConcurrencyLimitException: {" + "Error=" + this.error + '}';
+    }
+}
@@ -0,0 +1,178 @@
+package com.meilisearch.sdk.http;
+
+import com.meilisearch.sdk.exceptions.MeilisearchConcurrencyLimitException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Client-side concurrency limiter learning how many requests Meilisearch can serve at once
+ *
+ * <p>Requests past the limit wait in a FIFO queue for up to {@link ConcurrencyLimit#getMaxWaitMs()}
+ * and fail with a MeilisearchConcurrencyLimitException when the queue is full or the wait times
+ * out, so an overloaded server surfaces as backpressure rather than as socket timeouts.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private final ConcurrencyLimit options;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimit options) {
+        this.options = options;
+        this.limit = options.getInitialLimit();
+    }
+
+    /**
+     * @return current concurrency limit
+     */
+    public int getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return number of requests holding a permit
+     */
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit without blocking
+     *
+     * @return future completed once the permit is granted, or exceptionally with a
+     *     MeilisearchConcurrencyLimitException if the request is rejected
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        lock.lock();
+        try {
+            if (inFlight < limit) {
+                inFlight++;
+                waiter.complete(null);
+                return waiter;
+            }
+            if (options.getMaxWaitMs() <= 0 || waiters.size() >= options.getMaxQueueSize()) {
+                waiter.completeExceptionally(
+                        new MeilisearchConcurrencyLimitException(
+                                "Concurrency limit of " + limit + " requests reached"));
+                return waiter;
+            }
+            waiters.addLast(waiter);
+        } finally {
+            lock.unlock();
+        }
+
+        CompletableFuture.delayedExecutor(options.getMaxWaitMs(), TimeUnit.MILLISECONDS)
+                .execute(
+                        () ->
+                                waiter.completeExceptionally(
+                                        new MeilisearchConcurrencyLimitException(
+                                                "Timed out waiting for a concurrency permit")));
+        waiter.whenComplete(
+                (granted, rejection) -> {
+                    if (rejection != null) removeWaiter(waiter);
+                });
+        return waiter;
+    }
+
+    /**
+     * Acquires a permit, blocking the calling thread while the request is queued
+     *
+     * @throws MeilisearchException if the request is rejected or the thread is interrupted
+     */
+    public void acquireBlocking() throws MeilisearchException {
+        CompletableFuture<Void> permit = acquire();
+        try {
+            permit.get();
+        } catch (ExecutionException e) {
+            throw (MeilisearchException) e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (!permit.cancel(false)) cancel();
+            throw new MeilisearchException(e);
+        }
+    }
+
+    /**
+     * Releases a permit and adjusts the limit to the outcome of the request
+     *
+     * @param latencyNanos time the request held the permit
+     * @param overloaded whether the request failed or the server signaled overload
+     */
+    public void release(long latencyNanos, boolean overloaded) {
+        long thresholdMs = options.getLatencyThresholdMs();
+        boolean tooSlow =
+                thresholdMs > 0 && latencyNanos > TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        List<CompletableFuture<Void>> granted;
+        lock.lock();
+        try {
+            if (overloaded || tooSlow) {
+                limit = Math.max(options.getMinLimit(), (int) (limit * options.getBackoffRatio()));
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(options.getMaxLimit(), limit + 1);
+            }
+            inFlight--;
+            granted = grantWaiters();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+    /** Releases a permit that was never used, leaving the limit unchanged */
+    public void cancel() {
+        List<CompletableFuture<Void>> granted;
+        lock.lock();
+        try {
+            inFlight--;
+            granted = grantWaiters();
+        } finally {
+            lock.unlock();
+        }
+        complete(granted);
+    }
+
+    /** Must be called with the lock held; the permits are counted before the waiters resume */
+    private List<CompletableFuture<Void>> grantWaiters() {
+        List<CompletableFuture<Void>> granted = new ArrayList<>();
+        while (inFlight < limit && !waiters.isEmpty()) {
+            granted.add(waiters.pollFirst());
+            inFlight++;
+        }
+        return granted;
+    }
+
+    /** Resumes the waiters outside the lock, giving back the permits of those already gone */
+    private void complete(List<CompletableFuture<Void>> granted) {
+        for (CompletableFuture<Void> waiter : granted) {
+            if (!waiter.complete(null)) cancel();
+        }
+    }
+
+    private void removeWaiter(CompletableFuture<Void> waiter) {
+        lock.lock();
+        try {
+            waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
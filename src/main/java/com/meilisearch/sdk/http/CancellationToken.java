@@ -0,0 +1,114 @@
+package com.meilisearch.sdk.http;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Handle cancelling the calls of a RequestContext
+ *
+ * <p>Cancelling the token cancels the OkHttp calls in flight, wakes up the retry and task polling
+ * waits, and makes every later call of the context fail with a MeilisearchCancellationException.
+ */
+public class CancellationToken {
+    private final CountDownLatch cancelled = new CountDownLatch(1);
+    private final List<Runnable> listeners = new ArrayList<>();
+    /** Tokens cancelled along with this one, guarded by the lock of the listeners */
+    private final List<WeakReference<CancellationToken>> children = new ArrayList<>();
+
+    /** Cancels the token, running its listeners once */
+    public void cancel() {
+        List<Runnable> toRun;
+        List<WeakReference<CancellationToken>> toCancel;
+        synchronized (listeners) {
+            if (isCancelled()) return;
+            cancelled.countDown();
+            toRun = new ArrayList<>(listeners);
+            listeners.clear();
+            toCancel = new ArrayList<>(children);
+            children.clear();
+        }
+        for (Runnable listener : toRun) listener.run();
+        for (WeakReference<CancellationToken> child : toCancel) {
+            CancellationToken token = child.get();
+            if (token != null) token.cancel();
+        }
+    }
+
+    /**
+     * @return whether the token is cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled.getCount() == 0;
+    }
+
+    /**
+     * Registers a listener run when the token is cancelled, or right away if it already is
+     *
+     * @param listener action cancelling an operation
+     * @return registration removing the listener once the operation completed
+     */
+    public Registration onCancel(Runnable listener) {
+        synchronized (listeners) {
+            if (!isCancelled()) {
+                listeners.add(listener);
+                return () -> {
+                    synchronized (listeners) {
+                        listeners.remove(listener);
+                    }
+                };
+            }
+        }
+        listener.run();
+        return () -> {};
+    }
+
+    /**
+     * Cancels another token along with this one, or right away if this one already is. This token
+     * only keeps a weak reference to the other one, and forgets it once it is cancelled or
+     * collected, so a long-lived token does not retain the tokens derived from it.
+     *
+     * @param child token to cancel along with this one
+     */
+    void propagateTo(CancellationToken child) {
+        WeakReference<CancellationToken> reference = new WeakReference<>(child);
+        synchronized (listeners) {
+            if (!isCancelled()) {
+                children.removeIf(other -> other.get() == null);
+                children.add(reference);
+            }
+        }
+        if (isCancelled()) {
+            child.cancel();
+            return;
+        }
+        child.onCancel(
+                () -> {
+                    synchronized (listeners) {
+                        children.remove(reference);
+                    }
+                });
+    }
+
+    /**
+     * Waits until the token is cancelled or the timeout elapses
+     *
+     * @param timeout maximum time to wait
+     * @param unit unit of the timeout
+     * @return true if the token is cancelled
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+        return cancelled.await(timeout, unit);
+    }
+
+    /** Listener registered on a CancellationToken */
+    @FunctionalInterface
+    public interface Registration extends AutoCloseable {
+        /** Removes the listener */
+        @Override
+        void close();
+    }
+}
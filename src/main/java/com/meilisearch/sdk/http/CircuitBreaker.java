@@ -0,0 +1,84 @@
+package com.meilisearch.sdk.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a single Meilisearch host
+ *
+ * <p>Every request asks {@link #tryAcquire()} before it is sent and reports its outcome with
+ * {@link #onSuccess()}, {@link #onFailure()} or, if it was abandoned, {@link #cancel()}.
+ */
+public class CircuitBreaker {
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerPolicy policy;
+    private final LongSupplier nanoTime;
+    private State state = State.CLOSED;
+    private int failures;
+    private long openedAt;
+    private boolean probing;
+
+    public CircuitBreaker(CircuitBreakerPolicy policy) {
+        this(policy, System::nanoTime);
+    }
+
+    CircuitBreaker(CircuitBreakerPolicy policy, LongSupplier nanoTime) {
+        this.policy = policy;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @return current state of the circuit
+     */
+    public synchronized State getState() {
+        if (state == State.OPEN && isCooledDown()) return State.HALF_OPEN;
+        return state;
+    }
+
+    /**
+     * Asks whether a request may be sent to the host
+     *
+     * @return true if the circuit is closed, or if it lets this request through as a probe
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.CLOSED) return true;
+        if (state == State.OPEN) {
+            if (!isCooledDown()) return false;
+            state = State.HALF_OPEN;
+        }
+        if (probing) return false;
+        probing = true;
+        return true;
+    }
+
+    /** Records a request answered by the host, closing the circuit */
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        probing = false;
+    }
+
+    /** Records a failed request, opening the circuit past the failure threshold */
+    public synchronized void onFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= policy.getFailureThreshold()) {
+            state = State.OPEN;
+            openedAt = nanoTime.getAsLong();
+        }
+        probing = false;
+    }
+
+    /** Records a request abandoned before it completed, leaving the state unchanged */
+    public synchronized void cancel() {
+        probing = false;
+    }
+
+    private boolean isCooledDown() {
+        return nanoTime.getAsLong() - openedAt >= TimeUnit.MILLISECONDS.toNanos(policy.getOpenMs());
+    }
+}
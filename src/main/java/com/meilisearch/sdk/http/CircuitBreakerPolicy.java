@@ -0,0 +1,31 @@
+package com.meilisearch.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of the circuit breaker guarding each Meilisearch host
+ *
+ * <p>The circuit opens after {@link #failureThreshold} consecutive failures: connectivity problems
+ * and 5xx responses. While it is open, requests to the host fail immediately with a
+ * MeilisearchCircuitOpenException. After {@link #openMs} a single probe request is let through,
+ * closing the circuit if it succeeds and opening it again otherwise.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class CircuitBreakerPolicy {
+    /** Number of consecutive failures opening the circuit */
+    @Builder.Default private int failureThreshold = 5;
+
+    /** Time in milliseconds the circuit stays open before a probe request is let through */
+    @Builder.Default private long openMs = 10_000;
+
+    /**
+     * Creates the default circuit breaker policy
+     *
+     * @return CircuitBreakerPolicy with every option set to its default
+     */
+    public static CircuitBreakerPolicy defaults() {
+        return CircuitBreakerPolicy.builder().build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.meilisearch.sdk.http;
+
+/** Content-Encoding applied to request bodies sent to Meilisearch */
+public enum Compression {
+    NONE(null),
+    GZIP("gzip"),
+    DEFLATE("deflate");
+
+    public final String contentEncoding;
+
+    private Compression(String contentEncoding) {
+        this.contentEncoding = contentEncoding;
+    }
+}
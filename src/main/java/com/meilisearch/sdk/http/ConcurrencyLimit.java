@@ -0,0 +1,37 @@
+package com.meilisearch.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of an adaptive concurrency limit
+ *
+ * <p>The limit follows an additive-increase/multiplicative-decrease scheme: it grows by one for
+ * every request completing while the limit is nearly used, and shrinks by {@link #backoffRatio}
+ * whenever a request fails, is rejected by an overloaded server (429, 502, 503, 504) or exceeds
+ * {@link #latencyThresholdMs}.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class ConcurrencyLimit {
+    /** Limit used before any request completes */
+    @Builder.Default private int initialLimit = 20;
+
+    /** Lowest value the limit can shrink to */
+    @Builder.Default private int minLimit = 1;
+
+    /** Highest value the limit can grow to */
+    @Builder.Default private int maxLimit = 200;
+
+    /** Factor applied to the limit when a request signals overload */
+    @Builder.Default private double backoffRatio = 0.9;
+
+    /** Latency in milliseconds above which a request signals overload, 0 disables the check */
+    @Builder.Default private long latencyThresholdMs = 0;
+
+    /** Maximum number of requests waiting for a permit, past which requests fail fast */
+    @Builder.Default private int maxQueueSize = 1000;
+
+    /** Maximum time in milliseconds a request waits for a permit, 0 to fail fast at the limit */
+    @Builder.Default private long maxWaitMs = 10_000;
+}
@@ -1,23 +1,49 @@
 package com.meilisearch.sdk.http;
 
 import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchCircuitOpenException;
 import com.meilisearch.sdk.exceptions.MeilisearchCommunicationException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
+import com.meilisearch.sdk.http.request.HttpRequestBody;
+import com.meilisearch.sdk.http.request.RequestOptions;
 import com.meilisearch.sdk.http.response.HttpResponse;
+import com.meilisearch.sdk.http.response.ResponseBodyDecoder;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.MalformedURLException;
 import java.net.SocketTimeoutException;
 import java.net.URL;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.Deflater;
 import okhttp3.*;
+import okio.BufferedSink;
+import okio.DeflaterSink;
+import okio.GzipSink;
+import okio.Okio;
 
 public class CustomOkHttpClient {
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
     private static final RequestBody EMPTY_REQUEST_BODY = RequestBody.create("".getBytes());
+
+    /**
+     * Fails the asynchronous calls reaching the deadline of their context. Cancelled deadlines are
+     * removed from the queue right away, so completed calls are not kept until their deadline.
+     */
+    private static final ScheduledThreadPoolExecutor DEADLINES = createDeadlineExecutor();
     private final OkHttpClient client;
     protected final Config config;
 
@@ -28,27 +54,409 @@ public class CustomOkHttpClient {
 
     public CustomOkHttpClient(Config config) {
         this.config = config;
-        this.client = new OkHttpClient();
+        this.client = config.getTransportOptions().okHttpClient();
     }
 
     public <T> HttpResponse<T> execute(HttpRequest request) throws MeilisearchException {
+        return execute(request, null);
+    }
+
+    /**
+     * Sends the request and decodes the response body while it is read from the connection, so
+     * the body is never held in memory as a String
+     *
+     * <p>Idempotent requests failing on a transient error are retried according to the
+     * RetryPolicy of the TransportOptions. Searches are hedged when the TransportOptions have a
+     * HedgingPolicy. The RequestContext attached to the calling thread bounds the call with its
+     * deadline and cancellation token.
+     *
+     * @param request request to send
+     * @param decoder decoder of the response body, or null to read it as a String
+     * @return the response with its decoded content
+     * @throws MeilisearchException if the request fails or the decoder rejects the response
+     */
+    public <T> HttpResponse<T> execute(HttpRequest request, ResponseBodyDecoder<T> decoder)
+            throws MeilisearchException {
+        if (getHedgingPolicy(request) != null) return await(executeAsync(request, decoder));
+
+        RequestContext context = RequestContext.current();
         try {
             Request okRequest = buildRequest(request);
-            Response response = client.newCall(okRequest).execute();
+            RetryPolicy retryPolicy = getRetryPolicy(request);
+            AdaptiveConcurrencyLimiter limiter = getLimiter(request);
+            Response response;
+            for (int retry = 0; ; retry++) {
+                if (context != null) context.check();
+                try {
+                    response = send(okRequest, request.getPath(), limiter, context);
+                } catch (IOException e) {
+                    if (!canRetry(retryPolicy, retry, e)) throw e;
+                    sleep(retryPolicy.backoffMs(retry), context);
+                    continue;
+                }
+                long delay = getRetryDelay(retryPolicy, retry, response);
+                if (delay < 0) break;
+                response.close();
+                sleep(delay, context);
+            }
 
-            return buildResponse(response);
+            return decoder == null ? buildResponse(response) : buildResponse(response, decoder);
+        } catch (IOException e) {
+            throw toMeilisearchException(e, context);
+        }
+    }
+
+    /**
+     * Enqueues the request on the OkHttp dispatcher instead of blocking the calling thread
+     *
+     * <p>Cancelling the returned future cancels the underlying OkHttp call.
+     *
+     * @param request request to send
+     * @return future completed with the response, or exceptionally with a MeilisearchException
+     */
+    public <T> CompletableFuture<HttpResponse<T>> executeAsync(HttpRequest request) {
+        return executeAsync(request, null);
+    }
+
+    /**
+     * Enqueues the request on the OkHttp dispatcher and decodes the response body on the
+     * dispatcher thread while it is read from the connection
+     *
+     * <p>Retries are scheduled without blocking any thread. Cancelling the returned future cancels
+     * the OkHttp call in flight, and so do the deadline and the cancellation token of the
+     * RequestContext attached to the calling thread.
+     *
+     * @param request request to send
+     * @param decoder decoder of the response body, or null to read it as a String
+     * @return future completed with the response, or exceptionally with a MeilisearchException
+     */
+    public <T> CompletableFuture<HttpResponse<T>> executeAsync(
+            HttpRequest request, ResponseBodyDecoder<T> decoder) {
+        Request okRequest;
+        try {
+            okRequest = buildRequest(request);
         } catch (MalformedURLException e) {
+            CompletableFuture<HttpResponse<T>> future = new CompletableFuture<>();
+            future.completeExceptionally(toMeilisearchException(e));
+            return future;
+        }
+
+        RequestContext context = RequestContext.current();
+        HedgingPolicy hedgingPolicy = getHedgingPolicy(request);
+        if (hedgingPolicy != null) {
+            return hedge(request, okRequest, decoder, hedgingPolicy, context);
+        }
+        return startExchange(request, okRequest, decoder, context).future;
+    }
+
+    private <T> AsyncExchange<T> startExchange(
+            HttpRequest request,
+            Request okRequest,
+            ResponseBodyDecoder<T> decoder,
+            RequestContext context) {
+        AsyncExchange<T> exchange =
+                new AsyncExchange<>(
+                        okRequest,
+                        request.getPath(),
+                        getRetryPolicy(request),
+                        getLimiter(request),
+                        decoder,
+                        context);
+        exchange.send();
+        return exchange;
+    }
+
+    /**
+     * Sends the request, then a duplicate of it if no response arrived within the hedging delay,
+     * and completes with the first response. Connectivity failures of one exchange are only
+     * reported once the other one failed too.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> hedge(
+            HttpRequest request,
+            Request okRequest,
+            ResponseBodyDecoder<T> decoder,
+            HedgingPolicy hedgingPolicy,
+            RequestContext context) {
+        LatencyTracker latencies =
+                this.config.getTransportOptions().latencyTracker(RequestRoute.SEARCH);
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        List<AsyncExchange<T>> exchanges = new CopyOnWriteArrayList<>();
+
+        Runnable start =
+                () -> {
+                    long startedAt = System.nanoTime();
+                    AsyncExchange<T> exchange =
+                            startExchange(request, okRequest, decoder, context);
+                    exchanges.add(exchange);
+                    exchange.future.whenComplete(
+                            (response, failure) -> {
+                                if (failure == null) {
+                                    latencies.record(System.nanoTime() - startedAt);
+                                    result.complete(response);
+                                } else if (pending.decrementAndGet() == 0
+                                        || failure instanceof MeilisearchApiException) {
+                                    result.completeExceptionally(failure);
+                                }
+                            });
+                    if (result.isDone()) exchange.future.cancel(false);
+                };
+        result.whenComplete(
+                (response, failure) -> exchanges.forEach(e -> e.future.cancel(false)));
+
+        start.run();
+        CompletableFuture.delayedExecutor(
+                        latencies.hedgeDelayMs(hedgingPolicy), TimeUnit.MILLISECONDS)
+                .execute(
+                        () -> {
+                            if (result.isDone()) return;
+                            pending.incrementAndGet();
+                            start.run();
+                        });
+        return result;
+    }
+
+    /** Waits for an asynchronous exchange on behalf of a synchronous call */
+    private static <T> HttpResponse<T> await(CompletableFuture<HttpResponse<T>> future)
+            throws MeilisearchException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof MeilisearchException) {
+                throw (MeilisearchException) e.getCause();
+            }
+            throw new MeilisearchException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
             throw new MeilisearchException(e);
-        } catch (SocketTimeoutException e) {
-            throw new MeilisearchTimeoutException(e);
-        } catch (IOException e) {
-            throw new MeilisearchCommunicationException(e);
         }
     }
 
-    private RequestBody getBodyFromRequest(HttpRequest request) {
-        if (request.hasContent()) return RequestBody.create(request.getContentAsBytes(), JSON);
-        return EMPTY_REQUEST_BODY;
+    /**
+     * Sends one attempt of a request to a host of the HostPool, holding a permit of the
+     * concurrency limiter if any
+     *
+     * @throws MeilisearchException if the concurrency limiter rejects the request or the circuit of
+     *     the selected host is open
+     */
+    private Response send(
+            Request okRequest,
+            String path,
+            AdaptiveConcurrencyLimiter limiter,
+            RequestContext context)
+            throws IOException {
+        if (limiter != null) limiter.acquireBlocking();
+        Attempt attempt = startAttempt(okRequest, path, limiter);
+        Call call = newCall(attempt.okRequest, context);
+        int statusCode = -1;
+        try (CancellationToken.Registration cancellation = cancelOnToken(call, context)) {
+            Response response = call.execute();
+            statusCode = response.code();
+            return response;
+        } finally {
+            if (call.isCanceled()) attempt.abandon();
+            else attempt.complete(statusCode);
+        }
+    }
+
+    /** Creates a call whose timeout is bounded by the deadline of the context */
+    private Call newCall(Request okRequest, RequestContext context) {
+        Call call = client.newCall(okRequest);
+        if (context != null && context.hasDeadline()) {
+            long timeout = Math.max(1, context.remainingNanos());
+            long callTimeout = TimeUnit.MILLISECONDS.toNanos(client.callTimeoutMillis());
+            if (callTimeout > 0) timeout = Math.min(timeout, callTimeout);
+            call.timeout().timeout(timeout, TimeUnit.NANOSECONDS);
+        }
+        return call;
+    }
+
+    private static CancellationToken.Registration cancelOnToken(
+            Call call, RequestContext context) {
+        CancellationToken token = context == null ? null : context.getCancellationToken();
+        return token == null ? () -> {} : token.onCancel(call::cancel);
+    }
+
+    /**
+     * Selects the host of an attempt, once its concurrency permit is held. The permit is given
+     * back if the attempt cannot start.
+     *
+     * @throws MeilisearchCircuitOpenException if the circuit of the selected host is open
+     */
+    private Attempt startAttempt(
+            Request okRequest, String path, AdaptiveConcurrencyLimiter limiter)
+            throws MalformedURLException {
+        HostPool hostPool = this.config.getHostPool();
+        HostPool.Host host = hostPool.select(this::isAvailable);
+        CircuitBreaker breaker = getCircuitBreaker(host);
+        boolean started = false;
+        try {
+            Request routed =
+                    host.getUrl().equals(this.config.getHostUrl())
+                            ? okRequest
+                            : okRequest.newBuilder().url(new URL(host.getUrl() + path)).build();
+            if (breaker != null && !breaker.tryAcquire()) throw circuitOpen(host);
+            started = true;
+            return new Attempt(routed, host, breaker, limiter);
+        } finally {
+            if (!started) {
+                hostPool.cancel(host);
+                if (limiter != null) limiter.cancel();
+            }
+        }
+    }
+
+    private boolean isAvailable(HostPool.Host host) {
+        CircuitBreaker breaker = getCircuitBreaker(host);
+        return breaker == null || breaker.getState() != CircuitBreaker.State.OPEN;
+    }
+
+    private AdaptiveConcurrencyLimiter getLimiter(HttpRequest request) {
+        RequestRoute route = RequestRoute.of(request.getMethod(), request.getPath());
+        return this.config.getTransportOptions().limiter(route);
+    }
+
+    private CircuitBreaker getCircuitBreaker(HostPool.Host host) {
+        return this.config.getTransportOptions().circuitBreaker(host.getUrl());
+    }
+
+    private static MeilisearchCircuitOpenException circuitOpen(HostPool.Host host) {
+        return new MeilisearchCircuitOpenException("Circuit breaker of " + host + " is open");
+    }
+
+    private static boolean isOverloaded(int statusCode) {
+        return statusCode == 429 || (statusCode >= 502 && statusCode <= 504);
+    }
+
+    /**
+     * Resolves the retry policy of a request
+     *
+     * @return the RetryPolicy of the TransportOptions, or null if the request must not be retried
+     */
+    private RetryPolicy getRetryPolicy(HttpRequest request) {
+        RetryPolicy retryPolicy = this.config.getTransportOptions().getRetryPolicy();
+        if (retryPolicy == null || retryPolicy.getMaxRetries() <= 0) return null;
+        return isReplayable(request) ? retryPolicy : null;
+    }
+
+    /**
+     * Resolves the hedging policy of a request. Only searches are hedged, since a duplicate write
+     * would enqueue the same task twice.
+     *
+     * @return the HedgingPolicy of the TransportOptions, or null if the request must not be hedged
+     */
+    private HedgingPolicy getHedgingPolicy(HttpRequest request) {
+        HedgingPolicy hedgingPolicy = this.config.getTransportOptions().getHedgingPolicy();
+        if (hedgingPolicy == null) return null;
+        if (RequestRoute.of(request.getMethod(), request.getPath()) != RequestRoute.SEARCH) {
+            return null;
+        }
+        return isReplayable(request) ? hedgingPolicy : null;
+    }
+
+    /** Whether the request is idempotent and its body can be sent more than once */
+    private static boolean isReplayable(HttpRequest request) {
+        if (request.getBody() != null && request.getBody().isOneShot()) return false;
+
+        RequestOptions options = request.getOptions();
+        return options != null && options.getIdempotent() != null
+                ? options.getIdempotent()
+                : request.getMethod() == HttpMethod.GET || request.getMethod() == HttpMethod.HEAD;
+    }
+
+    private static ScheduledThreadPoolExecutor createDeadlineExecutor() {
+        ScheduledThreadPoolExecutor executor =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "meilisearch-deadlines");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private boolean canRetry(RetryPolicy retryPolicy, int retry, IOException e) {
+        return retryPolicy != null
+                && retry < retryPolicy.getMaxRetries()
+                && retryPolicy.isRetryOnIOException()
+                && !(e instanceof BodyWriteException);
+    }
+
+    /**
+     * Computes the delay before retrying a response
+     *
+     * @return delay in milliseconds, or -1 if the response must be returned to the caller
+     */
+    private long getRetryDelay(RetryPolicy retryPolicy, int retry, Response response) {
+        if (retryPolicy == null
+                || retry >= retryPolicy.getMaxRetries()
+                || !retryPolicy.isRetryableStatus(response.code())) {
+            return -1;
+        }
+
+        long retryAfter = RetryPolicy.parseRetryAfterMs(response.header("Retry-After"));
+        if (retryAfter > retryPolicy.getMaxRetryAfterMs()) return -1;
+        return retryAfter >= 0 ? retryAfter : retryPolicy.backoffMs(retry);
+    }
+
+    private static void sleep(long delayMs, RequestContext context) throws IOException {
+        try {
+            if (context != null) context.sleep(delayMs);
+            else Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to retry the request");
+        }
+    }
+
+    /** Reports a failure caused by the cancellation or the deadline of the context as such */
+    private MeilisearchException toMeilisearchException(IOException e, RequestContext context) {
+        MeilisearchException failure = context == null ? null : context.failure(e);
+        return failure != null ? failure : toMeilisearchException(e);
+    }
+
+    private MeilisearchException toMeilisearchException(IOException e) {
+        if (e instanceof BodyWriteException) return (MeilisearchException) e.getCause();
+        if (e instanceof MalformedURLException) return new MeilisearchException(e);
+        if (e instanceof SocketTimeoutException) return new MeilisearchTimeoutException(e);
+        return new MeilisearchCommunicationException(e);
+    }
+
+    private RequestBody getBodyFromRequest(HttpRequest request, Request.Builder builder) {
+        RequestBody body;
+        long contentLength;
+        if (request.getBody() != null) {
+            body = new StreamingRequestBody(request.getBody());
+            contentLength = request.getBody().contentLength();
+        } else if (request.hasContent()) {
+            byte[] content = request.getContentAsBytes();
+            body = RequestBody.create(content, JSON);
+            contentLength = content.length;
+        } else {
+            return EMPTY_REQUEST_BODY;
+        }
+
+        Compression compression = getCompression(request, contentLength);
+        if (compression == Compression.NONE) return body;
+
+        builder.header("Content-Encoding", compression.contentEncoding);
+        return new CompressedRequestBody(body, compression);
+    }
+
+    /**
+     * Resolves the compression of a request body. Bodies of unknown length are compressed since
+     * they are typically large streamed payloads.
+     */
+    private Compression getCompression(HttpRequest request, long contentLength) {
+        RequestOptions options = request.getOptions();
+        if (options == null || options.getCompression() == null) return Compression.NONE;
+
+        long threshold = this.config.getTransportOptions().getCompressionThresholdBytes();
+        if (contentLength >= 0 && contentLength < threshold) return Compression.NONE;
+        return options.getCompression();
     }
 
     private Request buildRequest(HttpRequest request) throws MalformedURLException {
@@ -68,16 +476,16 @@ public class CustomOkHttpClient {
                 builder.get();
                 break;
             case POST:
-                builder.post(getBodyFromRequest(request));
+                builder.post(getBodyFromRequest(request, builder));
                 break;
             case PUT:
-                builder.put(getBodyFromRequest(request));
+                builder.put(getBodyFromRequest(request, builder));
                 break;
             case PATCH:
-                builder.patch(getBodyFromRequest(request));
+                builder.patch(getBodyFromRequest(request, builder));
                 break;
             case DELETE:
-                if (request.hasContent()) builder.delete(getBodyFromRequest(request));
+                if (request.hasContent()) builder.delete(getBodyFromRequest(request, builder));
                 else builder.delete();
                 break;
             default:
@@ -96,6 +504,19 @@ public class CustomOkHttpClient {
                 parseHeaders(response.headers().toMultimap()), response.code(), (T) body);
     }
 
+    private <T> HttpResponse<T> buildResponse(Response response, ResponseBodyDecoder<T> decoder)
+            throws IOException {
+        try (ResponseBody responseBody = response.body()) {
+            T content =
+                    responseBody == null
+                            ? null
+                            : decoder.decode(response.code(), responseBody.charStream());
+
+            return new HttpResponse<T>(
+                    parseHeaders(response.headers().toMultimap()), response.code(), content);
+        }
+    }
+
     private Map<String, String> parseHeaders(Map<String, List<String>> headers) {
         HashMap<String, String> headerMap = new HashMap<>();
         for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
@@ -123,4 +544,269 @@ public class CustomOkHttpClient {
     public <T> HttpResponse<T> delete(HttpRequest request) throws MeilisearchException {
         return execute(request);
     }
+
+    /** Asynchronous exchange with Meilisearch, enqueuing a new OkHttp call for every retry */
+    private class AsyncExchange<T> implements Callback {
+        private final Request okRequest;
+        private final String path;
+        private final RetryPolicy retryPolicy;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final ResponseBodyDecoder<T> decoder;
+        private final CompletableFuture<HttpResponse<T>> future = new CompletableFuture<>();
+        private final AtomicReference<Call> call = new AtomicReference<>();
+        private final RequestContext context;
+        private volatile int retry = 0;
+        private volatile Attempt attempt;
+
+        AsyncExchange(
+                Request okRequest,
+                String path,
+                RetryPolicy retryPolicy,
+                AdaptiveConcurrencyLimiter limiter,
+                ResponseBodyDecoder<T> decoder,
+                RequestContext context) {
+            this.okRequest = okRequest;
+            this.path = path;
+            this.retryPolicy = retryPolicy;
+            this.limiter = limiter;
+            this.decoder = decoder;
+            this.context = context;
+            future.whenComplete(
+                    (response, throwable) -> {
+                        Call inFlight = call.get();
+                        if (throwable != null && inFlight != null) inFlight.cancel();
+                    });
+            if (context != null) bindContext();
+        }
+
+        /** Fails the exchange when the context is cancelled or reaches its deadline */
+        private void bindContext() {
+            CancellationToken token = context.getCancellationToken();
+            if (token != null) {
+                CancellationToken.Registration registration =
+                        token.onCancel(() -> future.completeExceptionally(context.failure(null)));
+                future.whenComplete((response, throwable) -> registration.close());
+            }
+            if (context.hasDeadline()) {
+                ScheduledFuture<?> deadline =
+                        DEADLINES.schedule(
+                                () ->
+                                        future.completeExceptionally(
+                                                new MeilisearchTimeoutException(
+                                                        RequestContext.DEADLINE_EXCEEDED)),
+                                Math.max(0, context.remainingNanos()),
+                                TimeUnit.NANOSECONDS);
+                future.whenComplete((response, throwable) -> deadline.cancel(false));
+            }
+        }
+
+        void send() {
+            if (future.isDone()) return;
+            if (limiter == null) {
+                enqueue();
+                return;
+            }
+            limiter.acquire()
+                    .whenComplete(
+                            (granted, rejection) -> {
+                                if (rejection != null) {
+                                    future.completeExceptionally(rejection);
+                                } else if (future.isDone()) {
+                                    limiter.cancel();
+                                } else {
+                                    enqueue();
+                                }
+                            });
+        }
+
+        private void enqueue() {
+            try {
+                attempt = startAttempt(okRequest, path, limiter);
+            } catch (MalformedURLException e) {
+                future.completeExceptionally(toMeilisearchException(e));
+                return;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                return;
+            }
+            Call next = newCall(attempt.okRequest, context);
+            call.set(next);
+            next.enqueue(this);
+        }
+
+        private void sendAfter(long delayMs) {
+            retry++;
+            CompletableFuture.runAsync(
+                    this::send, CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public void onFailure(Call call, IOException e) {
+            if (call.isCanceled()) {
+                attempt.abandon();
+                future.completeExceptionally(toMeilisearchException(e, context));
+                return;
+            }
+            attempt.complete(-1);
+            if (!future.isDone() && canRetry(retryPolicy, retry, e)) {
+                sendAfter(retryPolicy.backoffMs(retry));
+            } else {
+                future.completeExceptionally(toMeilisearchException(e, context));
+            }
+        }
+
+        @Override
+        public void onResponse(Call call, Response response) {
+            attempt.complete(response.code());
+            long delay = getRetryDelay(retryPolicy, retry, response);
+            if (delay >= 0) {
+                response.close();
+                sendAfter(delay);
+                return;
+            }
+            try {
+                future.complete(
+                        decoder == null
+                                ? CustomOkHttpClient.this.<T>buildResponse(response)
+                                : buildResponse(response, decoder));
+            } catch (IOException e) {
+                future.completeExceptionally(toMeilisearchException(e, context));
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /** Attempt of a request on a host, holding its permits until it completes */
+    private class Attempt {
+        private final Request okRequest;
+        private final HostPool.Host host;
+        private final CircuitBreaker breaker;
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final long start = System.nanoTime();
+
+        Attempt(
+                Request okRequest,
+                HostPool.Host host,
+                CircuitBreaker breaker,
+                AdaptiveConcurrencyLimiter limiter) {
+            this.okRequest = okRequest;
+            this.host = host;
+            this.breaker = breaker;
+            this.limiter = limiter;
+        }
+
+        /**
+         * Reports the outcome of the attempt to the host pool, the concurrency limiter and the
+         * circuit breaker
+         *
+         * @param statusCode status code of the response, or -1 if the attempt failed
+         */
+        void complete(int statusCode) {
+            long latency = System.nanoTime() - start;
+            boolean failed = statusCode < 0 || statusCode >= 500;
+            config.getHostPool().onComplete(host, latency, failed);
+            if (limiter != null) {
+                limiter.release(latency, statusCode < 0 || isOverloaded(statusCode));
+            }
+            if (breaker != null) {
+                if (failed) breaker.onFailure();
+                else breaker.onSuccess();
+            }
+        }
+
+        /** Gives back the permits of an attempt cancelled before it completed */
+        void abandon() {
+            config.getHostPool().cancel(host);
+            if (limiter != null) limiter.cancel();
+            if (breaker != null) breaker.cancel();
+        }
+    }
+
+    /** Writes an HttpRequestBody straight into the OkHttp sink of the connection */
+    private static class StreamingRequestBody extends RequestBody {
+        private final HttpRequestBody body;
+
+        StreamingRequestBody(HttpRequestBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return body.contentType() == null ? JSON : MediaType.get(body.contentType());
+        }
+
+        @Override
+        public long contentLength() {
+            return body.contentLength();
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return body.isOneShot();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            try {
+                body.writeTo(sink.outputStream());
+            } catch (MeilisearchException e) {
+                throw new BodyWriteException(e);
+            }
+        }
+    }
+
+    /** Compresses another RequestBody while it is written to the connection */
+    private static class CompressedRequestBody extends RequestBody {
+        private final RequestBody body;
+        private final Compression compression;
+
+        CompressedRequestBody(RequestBody body, Compression compression) {
+            this.body = body;
+            this.compression = compression;
+        }
+
+        @Override
+        public MediaType contentType() {
+            return body.contentType();
+        }
+
+        @Override
+        public long contentLength() {
+            return -1;
+        }
+
+        @Override
+        public boolean isOneShot() {
+            return body.isOneShot();
+        }
+
+        @Override
+        public void writeTo(BufferedSink sink) throws IOException {
+            if (compression == Compression.GZIP) {
+                // GzipSink ends its own Deflater when closed
+                try (BufferedSink compressed = Okio.buffer(new GzipSink(sink))) {
+                    body.writeTo(compressed);
+                }
+                return;
+            }
+            Deflater deflater = new Deflater();
+            try (BufferedSink compressed = Okio.buffer(new DeflaterSink(sink, deflater))) {
+                body.writeTo(compressed);
+            } finally {
+                // DeflaterSink leaves the native memory of a Deflater it was given to the GC
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * Carries an encoding failure through OkHttp, which only propagates IOExceptions raised while
+     * the request body is written
+     */
+    private static class BodyWriteException extends IOException {
+        BodyWriteException(MeilisearchException cause) {
+            super(cause);
+        }
+    }
 }
@@ -0,0 +1,40 @@
+package com.meilisearch.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of hedged search requests
+ *
+ * <p>When a search gets no response within the {@link #percentile} of recent search latencies, a
+ * duplicate request is sent and the first response wins, the other call being cancelled. This
+ * trims the tail latency caused by an occasional slow response at the cost of a few extra
+ * requests.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class HedgingPolicy {
+    /** Percentile of recent latencies after which the duplicate request is sent, in (0, 100] */
+    @Builder.Default private double percentile = 95;
+
+    /** Lowest delay in milliseconds before the duplicate request is sent */
+    @Builder.Default private long minDelayMs = 10;
+
+    /** Highest delay in milliseconds, also used until enough latencies are recorded */
+    @Builder.Default private long maxDelayMs = 1_000;
+
+    /** Number of recent latencies the percentile is computed from */
+    @Builder.Default private int windowSize = 1_000;
+
+    /** Number of latencies recorded before the percentile is trusted */
+    @Builder.Default private int minSamples = 20;
+
+    /**
+     * Creates the default hedging policy
+     *
+     * @return HedgingPolicy with every option set to its default
+     */
+    public static HedgingPolicy defaults() {
+        return HedgingPolicy.builder().build();
+    }
+}
@@ -0,0 +1,170 @@
+package com.meilisearch.sdk.http;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Hosts of a Config, picked for every request with power-of-two-choices on their latency
+ *
+ * <p>When every host is ejected or unavailable, requests are still spread across all of them
+ * rather than failing without being sent.
+ */
+public class HostPool {
+    private final List<Host> hosts;
+    private final LoadBalancingPolicy policy;
+
+    public HostPool(List<String> urls, LoadBalancingPolicy policy) {
+        if (urls == null || urls.isEmpty()) {
+            throw new IllegalArgumentException("At least one host URL is required");
+        }
+        List<Host> list = new ArrayList<>();
+        for (String url : urls) list.add(new Host(url));
+        this.hosts = Collections.unmodifiableList(list);
+        this.policy = policy;
+    }
+
+    /**
+     * @return the hosts of the pool, in the order of the Config
+     */
+    public List<Host> getHosts() {
+        return hosts;
+    }
+
+    /**
+     * Picks the host of the next request attempt and counts the attempt as in flight
+     *
+     * @param available filter of the hosts able to take requests, on top of their health
+     * @return the selected host, to report to {@link #onComplete} or {@link #cancel}
+     */
+    public Host select(Predicate<Host> available) {
+        Host host;
+        if (hosts.size() == 1) {
+            host = hosts.get(0);
+        } else {
+            List<Host> candidates = new ArrayList<>(hosts.size());
+            for (Host h : hosts) {
+                if (h.healthy && available.test(h)) candidates.add(h);
+            }
+            host = pickTwo(candidates.isEmpty() ? hosts : candidates);
+        }
+        host.inFlight.incrementAndGet();
+        return host;
+    }
+
+    /**
+     * Records the outcome of a request attempt sent to a host
+     *
+     * @param host host returned by {@link #select}
+     * @param latencyNanos latency of the attempt
+     * @param failed whether the attempt failed or got a 5xx response
+     */
+    public void onComplete(Host host, long latencyNanos, boolean failed) {
+        host.inFlight.decrementAndGet();
+        long penalty = TimeUnit.MILLISECONDS.toNanos(policy.getFailurePenaltyMs());
+        long latency = failed ? Math.max(latencyNanos, penalty) : latencyNanos;
+        synchronized (host) {
+            host.ewmaNanos =
+                    host.samples == 0
+                            ? latency
+                            : host.ewmaNanos + policy.getEwmaWeight() * (latency - host.ewmaNanos);
+            host.samples++;
+            if (!failed) {
+                host.consecutiveFailures = 0;
+            } else if (policy.getEjectAfterFailures() > 0
+                    && ++host.consecutiveFailures >= policy.getEjectAfterFailures()) {
+                host.healthy = false;
+            }
+        }
+    }
+
+    /**
+     * Records a request attempt abandoned before it was sent or completed
+     *
+     * @param host host returned by {@link #select}
+     */
+    public void cancel(Host host) {
+        host.inFlight.decrementAndGet();
+    }
+
+    /**
+     * Ejects or re-admits a host after a health check
+     *
+     * @param host host of the pool
+     * @param healthy result of the health check
+     */
+    public void setHealthy(Host host, boolean healthy) {
+        synchronized (host) {
+            host.healthy = healthy;
+            if (healthy) host.consecutiveFailures = 0;
+        }
+    }
+
+    private static Host pickTwo(List<Host> candidates) {
+        int size = candidates.size();
+        if (size == 1) return candidates.get(0);
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) second++;
+        Host a = candidates.get(first);
+        Host b = candidates.get(second);
+        return a.cost() <= b.cost() ? a : b;
+    }
+
+    /** Meilisearch host of a pool */
+    public static class Host {
+        private final String url;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean healthy = true;
+        private volatile double ewmaNanos;
+        private long samples;
+        private int consecutiveFailures;
+
+        Host(String url) {
+            this.url = url;
+        }
+
+        /**
+         * @return URL of the host
+         */
+        public String getUrl() {
+            return url;
+        }
+
+        /**
+         * @return whether the host takes requests
+         */
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * @return moving average of the latency of the host in milliseconds
+         */
+        public double getEwmaMs() {
+            return ewmaNanos / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * @return number of request attempts in flight on the host
+         */
+        public int getInFlight() {
+            return inFlight.get();
+        }
+
+        private double cost() {
+            return ewmaNanos * (inFlight.get() + 1);
+        }
+
+        @Override
+        public String toString() {
+            return url;
+        }
+    }
+}
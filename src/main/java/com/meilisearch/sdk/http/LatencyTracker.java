@@ -0,0 +1,63 @@
+package com.meilisearch.sdk.http;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/** Ring buffer of the most recent request latencies, answering percentile queries */
+public class LatencyTracker {
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    public LatencyTracker(int windowSize) {
+        this.samples = new long[Math.max(1, windowSize)];
+    }
+
+    /**
+     * Records the latency of a request, evicting the oldest one once the window is full
+     *
+     * @param latencyNanos latency of the request in nanoseconds
+     */
+    public synchronized void record(long latencyNanos) {
+        samples[next] = latencyNanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) count++;
+    }
+
+    /**
+     * @return number of latencies in the window
+     */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Computes a percentile of the latencies in the window
+     *
+     * @param percentile percentile to compute, in (0, 100]
+     * @return the percentile in milliseconds, or -1 if no latency was recorded
+     */
+    public long percentileMs(double percentile) {
+        long[] sorted;
+        synchronized (this) {
+            if (count == 0) return -1;
+            sorted = Arrays.copyOf(samples, count);
+        }
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        rank = Math.max(0, Math.min(sorted.length - 1, rank));
+        return TimeUnit.NANOSECONDS.toMillis(sorted[rank]);
+    }
+
+    /**
+     * Computes the delay after which a request is hedged
+     *
+     * @param policy hedging policy
+     * @return delay in milliseconds, bounded by the policy
+     */
+    public long hedgeDelayMs(HedgingPolicy policy) {
+        if (size() < policy.getMinSamples()) return policy.getMaxDelayMs();
+        long delay = percentileMs(policy.getPercentile());
+        return Math.max(policy.getMinDelayMs(), Math.min(policy.getMaxDelayMs(), delay));
+    }
+}
@@ -0,0 +1,40 @@
+package com.meilisearch.sdk.http;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of the load balancing across the hosts of a multi-host Config
+ *
+ * <p>Every attempt of a request picks two healthy hosts at random and is sent to the one with the
+ * lowest latency average weighted by its requests in flight. Hosts failing {@link
+ * #ejectAfterFailures} requests in a row, or failing a health check, are ejected until a health
+ * check succeeds again.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class LoadBalancingPolicy {
+    /** Weight of the latest latency in the exponentially weighted moving average, in (0, 1] */
+    @Builder.Default private double ewmaWeight = 0.3;
+
+    /** Latency in milliseconds recorded for a failed request */
+    @Builder.Default private long failurePenaltyMs = 1_000;
+
+    /** Number of consecutive failed requests ejecting a host, 0 to only rely on health checks */
+    @Builder.Default private int ejectAfterFailures = 3;
+
+    /** Delay in milliseconds between two health checks of every host */
+    @Builder.Default private long healthCheckIntervalMs = 5_000;
+
+    /** Timeout in milliseconds of a health check */
+    @Builder.Default private long healthCheckTimeoutMs = 2_000;
+
+    /**
+     * Creates the default load balancing policy
+     *
+     * @return LoadBalancingPolicy with every option set to its default
+     */
+    public static LoadBalancingPolicy defaults() {
+        return LoadBalancingPolicy.builder().build();
+    }
+}
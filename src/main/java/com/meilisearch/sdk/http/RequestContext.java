@@ -0,0 +1,173 @@
+package com.meilisearch.sdk.http;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCancellationException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deadline and cancellation token applied to every call made while the context is attached
+ *
+ * <p>A context is attached to the current thread, so it covers every call of an Index or Client
+ * operation, including multi-step helpers such as adding documents then waiting for their task.
+ * Asynchronous calls keep the context that was attached when they were issued.
+ *
+ * <pre>{@code
+ * CancellationToken token = new CancellationToken();
+ * RequestContext context = RequestContext.create().withTimeout(500).withCancellationToken(token);
+ * try (RequestContext.Scope scope = context.attach()) {
+ *     index.waitForTask(index.addDocuments(documents).getTaskUid());
+ * }
+ * }</pre>
+ *
+ * <p>The remaining time bounds the OkHttp call timeout of every request, and cancelling the token
+ * cancels the OkHttp calls in flight.
+ */
+public final class RequestContext {
+    private static final ThreadLocal<RequestContext> CURRENT = new ThreadLocal<>();
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    static final String DEADLINE_EXCEEDED = "The deadline of the call was exceeded";
+
+    private final long deadlineNanos;
+    private final CancellationToken cancellationToken;
+
+    private RequestContext(long deadlineNanos, CancellationToken cancellationToken) {
+        this.deadlineNanos = deadlineNanos;
+        this.cancellationToken = cancellationToken;
+    }
+
+    /**
+     * Gets the context attached to the current thread
+     *
+     * @return the current context, or null if none is attached
+     */
+    public static RequestContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Creates a context inheriting the deadline and cancellation token of the current context
+     *
+     * @return a new context, without deadline nor token if no context is attached
+     */
+    public static RequestContext create() {
+        RequestContext current = current();
+        return current != null ? current : new RequestContext(NO_DEADLINE, null);
+    }
+
+    /**
+     * Derives a context whose calls must complete within a time budget. The budget never extends
+     * the deadline of this context.
+     *
+     * @param timeoutMs time budget in milliseconds from now
+     * @return a new context with the earliest of both deadlines
+     */
+    public RequestContext withTimeout(long timeoutMs) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        if (hasDeadline() && deadlineNanos - deadline < 0) deadline = deadlineNanos;
+        return new RequestContext(deadline, cancellationToken);
+    }
+
+    /**
+     * Derives a context cancelled by a token, as well as by the token of this context if any
+     *
+     * @param token token cancelling the calls of the context
+     * @return a new context with the given token
+     */
+    public RequestContext withCancellationToken(CancellationToken token) {
+        if (cancellationToken != null && cancellationToken != token) {
+            cancellationToken.propagateTo(token);
+        }
+        return new RequestContext(deadlineNanos, token);
+    }
+
+    /**
+     * Attaches the context to the current thread until the returned scope is closed
+     *
+     * @return scope restoring the previous context when closed
+     */
+    public Scope attach() {
+        RequestContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        };
+    }
+
+    /**
+     * @return the cancellation token of the context, or null if it has none
+     */
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * @return whether the context has a deadline
+     */
+    public boolean hasDeadline() {
+        return deadlineNanos != NO_DEADLINE;
+    }
+
+    /**
+     * @return nanoseconds left before the deadline, or Long.MAX_VALUE if the context has none
+     */
+    public long remainingNanos() {
+        return hasDeadline() ? deadlineNanos - System.nanoTime() : Long.MAX_VALUE;
+    }
+
+    /**
+     * Fails if the context is cancelled or past its deadline
+     *
+     * @throws MeilisearchException if no further call may be made in this context
+     */
+    public void check() throws MeilisearchException {
+        MeilisearchException failure = failure(null);
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Gets the exception ending the calls of the context
+     *
+     * @param cause failure of the call interrupted by the context, or null
+     * @return a MeilisearchCancellationException or a MeilisearchTimeoutException, or null if the
+     *     context is neither cancelled nor past its deadline
+     */
+    public MeilisearchException failure(Throwable cause) {
+        MeilisearchException failure;
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            failure = new MeilisearchCancellationException("The call was cancelled");
+        } else if (hasDeadline() && remainingNanos() <= 0) {
+            failure = new MeilisearchTimeoutException(DEADLINE_EXCEEDED);
+        } else {
+            return null;
+        }
+        if (cause != null) failure.initCause(cause);
+        return failure;
+    }
+
+    /**
+     * Sleeps the current thread, waking up early if the context is cancelled or reaches its
+     * deadline
+     *
+     * @param delayMs time to sleep in milliseconds
+     * @throws MeilisearchException if the context is cancelled or reaches its deadline
+     * @throws InterruptedException if the thread is interrupted while sleeping
+     */
+    public void sleep(long delayMs) throws InterruptedException {
+        long delay = Math.min(TimeUnit.MILLISECONDS.toNanos(delayMs), remainingNanos());
+        if (delay > 0) {
+            if (cancellationToken != null) cancellationToken.await(delay, TimeUnit.NANOSECONDS);
+            else TimeUnit.NANOSECONDS.sleep(delay);
+        }
+        check();
+    }
+
+    /** Attachment of a context to a thread */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        /** Restores the context attached before */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,37 @@
+package com.meilisearch.sdk.http;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import java.util.regex.Pattern;
+
+/** Group of Meilisearch routes sharing a concurrency budget */
+public enum RequestRoute {
+    /** Searches, facet searches, similar-document searches and multi-searches */
+    SEARCH,
+    /** Document additions, updates and deletions */
+    DOCUMENTS,
+    /** Every other route */
+    DEFAULT;
+
+    private static final Pattern SEARCH_PATH =
+            Pattern.compile("^/indexes/[^/]+/(search|facet-search|similar)$|^/multi-search$");
+    private static final Pattern REPEATED_SLASHES = Pattern.compile("/{2,}");
+    private static final Pattern DOCUMENTS_PATH =
+            Pattern.compile("^/indexes/[^/]+/documents(/(?!fetch$)[^/]+)*$");
+
+    /**
+     * Classifies a request
+     *
+     * @param method HTTP method of the request
+     * @param path path of the request, query string included, where repeated slashes are
+     *     read as one like Meilisearch does
+     * @return the route group of the request
+     */
+    public static RequestRoute of(HttpMethod method, String path) {
+        int query = path.indexOf('?');
+        String route = query < 0 ? path : path.substring(0, query);
+        route = REPEATED_SLASHES.matcher(route).replaceAll("/");
+        if (SEARCH_PATH.matcher(route).matches()) return SEARCH;
+        if (method != HttpMethod.GET && DOCUMENTS_PATH.matcher(route).matches()) return DOCUMENTS;
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,111 @@
+package com.meilisearch.sdk.http;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Policy retrying idempotent requests that failed on a transient error
+ *
+ * <p>A request is retried when the connection fails or Meilisearch, or a proxy in front of it,
+ * answers with one of the retryable status codes. GET requests, searches and multi-searches are
+ * idempotent; other writes are only retried when their RequestOptions mark them as idempotent.
+ *
+ * <p>Retries wait for an exponential backoff with full jitter, or for the delay of the
+ * Retry-After header when the response carries one.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class RetryPolicy {
+    /** Maximum number of retries after the first attempt, 0 disables retries */
+    @Builder.Default private int maxRetries = 3;
+
+    /** Upper bound in milliseconds of the delay before the first retry */
+    @Builder.Default private long initialBackoffMs = 100;
+
+    /** Upper bound in milliseconds of the delay before any retry */
+    @Builder.Default private long maxBackoffMs = 5_000;
+
+    /** Growth factor of the backoff between two retries */
+    @Builder.Default private double multiplier = 2;
+
+    /** Response status codes worth retrying */
+    @Builder.Default
+    private Set<Integer> retryableStatusCodes = new HashSet<>(Arrays.asList(429, 502, 503, 504));
+
+    /** Whether requests failing on a connectivity problem or a timeout are retried */
+    @Builder.Default private boolean retryOnIOException = true;
+
+    /**
+     * Longest Retry-After delay honoured, in milliseconds. Responses asking to wait longer are
+     * returned to the caller instead of being retried.
+     */
+    @Builder.Default private long maxRetryAfterMs = 30_000;
+
+    /**
+     * Creates the default retry policy
+     *
+     * @return RetryPolicy retrying idempotent requests up to 3 times
+     */
+    public static RetryPolicy defaults() {
+        return RetryPolicy.builder().build();
+    }
+
+    /**
+     * Creates a retry policy never retrying
+     *
+     * @return RetryPolicy with retries disabled
+     */
+    public static RetryPolicy none() {
+        return RetryPolicy.builder().maxRetries(0).build();
+    }
+
+    /**
+     * @param statusCode HTTP status code of a response
+     * @return true if the response is worth retrying
+     */
+    public boolean isRetryableStatus(int statusCode) {
+        return retryableStatusCodes.contains(statusCode);
+    }
+
+    /**
+     * Computes the delay before a retry, drawn uniformly between 0 and the exponential backoff so
+     * that clients failing together do not retry together
+     *
+     * @param retry number of retries already made
+     * @return delay in milliseconds
+     */
+    public long backoffMs(int retry) {
+        double ceiling = Math.min(maxBackoffMs, initialBackoffMs * Math.pow(multiplier, retry));
+        return (long) (ThreadLocalRandom.current().nextDouble() * ceiling);
+    }
+
+    /**
+     * Parses a Retry-After header, given either in seconds or as an HTTP date
+     *
+     * @param retryAfter value of the header, may be null
+     * @return delay in milliseconds, or -1 if the header is missing or malformed
+     */
+    static long parseRetryAfterMs(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) return -1;
+        String value = retryAfter.trim();
+        try {
+            return Math.max(0, Long.parseLong(value) * 1000);
+        } catch (NumberFormatException e) {
+            // not a number of seconds, try an HTTP date
+        }
+        try {
+            ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(), date).toMillis());
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.meilisearch.sdk.http;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Options of the OkHttp transport used to reach Meilisearch
+ *
+ * <p>The defaults are tuned for a client issuing many concurrent requests against a single
+ * Meilisearch host: OkHttp's own defaults cap the dispatcher at 5 concurrent requests per host,
+ * which throttles asynchronous searches long before the server is busy.
+ *
+ * <p>The OkHttpClient is built once per TransportOptions instance, so every Config created with
+ * the same instance shares one connection pool and one dispatcher.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class TransportOptions {
+    /** Maximum number of idle connections kept in the pool */
+    @Builder.Default private int maxIdleConnections = 64;
+
+    /** Time in milliseconds an idle connection is kept alive in the pool */
+    @Builder.Default private long keepAliveMs = TimeUnit.MINUTES.toMillis(5);
+
+    /** Maximum number of requests executed concurrently by the dispatcher */
+    @Builder.Default private int maxRequests = 256;
+
+    /** Maximum number of requests executed concurrently against a single host */
+    @Builder.Default private int maxRequestsPerHost = 128;
+
+    /** Connect timeout in milliseconds, 0 means no timeout */
+    @Builder.Default private long connectTimeoutMs = 10_000;
+
+    /** Read timeout in milliseconds, 0 means no timeout */
+    @Builder.Default private long readTimeoutMs = 30_000;
+
+    /** Write timeout in milliseconds, 0 means no timeout */
+    @Builder.Default private long writeTimeoutMs = 30_000;
+
+    /** Timeout in milliseconds of a complete call, 0 means no timeout */
+    @Builder.Default private long callTimeoutMs = 0;
+
+    /**
+     * Protocols to negotiate, in order of preference. HTTP/2 is only negotiated over TLS unless
+     * {@link Protocol#H2_PRIOR_KNOWLEDGE} is the sole protocol.
+     */
+    @Builder.Default
+    private List<Protocol> protocols = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+
+    /** Whether OkHttp silently retries requests on connectivity problems */
+    @Builder.Default private boolean retryOnConnectionFailure = true;
+
+    /**
+     * Whether the dispatcher runs asynchronous calls on virtual threads instead of a pool of
+     * platform threads. Only effective on Java 21 and later, and ignored when a base client is set.
+     */
+    @Builder.Default private boolean virtualThreads = false;
+
+    /**
+     * Compression of the bodies sent to the document ingestion routes. Meilisearch decompresses
+     * them before indexing, so this trades CPU for bandwidth on large payloads.
+     */
+    @Builder.Default private Compression compression = Compression.NONE;
+
+    /** Bodies smaller than this number of bytes are sent uncompressed */
+    @Builder.Default private long compressionThresholdBytes = 1024;
+
+    /** Policy retrying idempotent requests failing on a transient error */
+    @Builder.Default private RetryPolicy retryPolicy = RetryPolicy.defaults();
+
+    /**
+     * Adaptive concurrency limits of each route group. Every group has its own budget, and groups
+     * without a limit are not limited.
+     */
+    @Builder.Default
+    private Map<RequestRoute, ConcurrencyLimit> concurrencyLimits = Collections.emptyMap();
+
+    /** Policy hedging slow searches with a duplicate request, null to disable hedging */
+    private HedgingPolicy hedgingPolicy;
+
+    /** Policy of the circuit breaker guarding each host, null to disable the circuit breaker */
+    private CircuitBreakerPolicy circuitBreakerPolicy;
+
+    /** Load balancing and health checks across the hosts of a multi-host Config */
+    @Builder.Default
+    private LoadBalancingPolicy loadBalancingPolicy = LoadBalancingPolicy.defaults();
+
+    /**
+     * OkHttpClient to derive the transport from. Its connection pool and dispatcher are shared,
+     * so the pool and dispatcher options above are ignored when it is set.
+     */
+    private OkHttpClient baseClient;
+
+    @Getter(AccessLevel.NONE)
+    private final AtomicReference<OkHttpClient> okHttpClient = new AtomicReference<>();
+
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock okHttpClientLock = new ReentrantLock();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<RequestRoute, AdaptiveConcurrencyLimiter> limiters =
+            new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<RequestRoute, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the default transport options
+     *
+     * @return TransportOptions with every option set to its default
+     */
+    public static TransportOptions defaults() {
+        return TransportOptions.builder().build();
+    }
+
+    /**
+     * Gets the OkHttpClient described by these options, building it on first use
+     *
+     * @return the OkHttpClient shared by every user of these options
+     */
+    public OkHttpClient okHttpClient() {
+        OkHttpClient client = this.okHttpClient.get();
+        if (client == null) {
+            okHttpClientLock.lock();
+            try {
+                client = this.okHttpClient.get();
+                if (client == null) {
+                    client = buildClient();
+                    this.okHttpClient.set(client);
+                }
+            } finally {
+                okHttpClientLock.unlock();
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Gets the concurrency limiter of a route group, shared by every user of these options
+     *
+     * @param route route group of a request
+     * @return the limiter of the group, or null if the group is not limited
+     */
+    public AdaptiveConcurrencyLimiter limiter(RequestRoute route) {
+        ConcurrencyLimit limit = concurrencyLimits.get(route);
+        if (limit == null) return null;
+        return limiters.computeIfAbsent(route, r -> new AdaptiveConcurrencyLimiter(limit));
+    }
+
+    /**
+     * Gets the latency window of a route group, used to compute the delay of hedged requests
+     *
+     * @param route route group of a request
+     * @return the latency window of the group, or null if hedging is disabled
+     */
+    public LatencyTracker latencyTracker(RequestRoute route) {
+        if (hedgingPolicy == null) return null;
+        return latencyTrackers.computeIfAbsent(
+                route, r -> new LatencyTracker(hedgingPolicy.getWindowSize()));
+    }
+
+    /**
+     * Gets the circuit breaker of a host, shared by every user of these options
+     *
+     * @param host host and port of a Meilisearch instance
+     * @return the circuit breaker of the host, or null if the circuit breaker is disabled
+     */
+    public CircuitBreaker circuitBreaker(String host) {
+        if (circuitBreakerPolicy == null) return null;
+        return circuitBreakers.computeIfAbsent(host, h -> new CircuitBreaker(circuitBreakerPolicy));
+    }
+
+    private OkHttpClient buildClient() {
+        OkHttpClient.Builder builder;
+        if (baseClient != null) {
+            builder = baseClient.newBuilder();
+        } else {
+            ExecutorService executor = virtualThreads ? VirtualThreads.newExecutor() : null;
+            Dispatcher dispatcher = executor != null ? new Dispatcher(executor) : new Dispatcher();
+            dispatcher.setMaxRequests(maxRequests);
+            dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+            builder =
+                    new OkHttpClient.Builder()
+                            .dispatcher(dispatcher)
+                            .connectionPool(
+                                    new ConnectionPool(
+                                            maxIdleConnections,
+                                            keepAliveMs,
+                                            TimeUnit.MILLISECONDS));
+        }
+
+        return builder.connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .writeTimeout(writeTimeoutMs, TimeUnit.MILLISECONDS)
+                .callTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .protocols(protocols)
+                .retryOnConnectionFailure(retryOnConnectionFailure)
+                .build();
+    }
+}
@@ -12,14 +12,15 @@ public class BasicRequest {
 
     public <T> HttpRequest create(
             HttpMethod method, String path, Map<String, String> headers, T content) {
-        try {
-            return new HttpRequest(
-                    method,
-                    path,
-                    headers,
-                    content == null ? null : this.jsonHandler.encode(content));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        if (content == null || content instanceof String) {
+            return new HttpRequest(method, path, headers, (String) content);
         }
+        HttpRequest request = new HttpRequest(method, path, headers, null);
+        if (content instanceof HttpRequestBody) {
+            request.setBody((HttpRequestBody) content);
+            return request;
+        }
+        request.setBody(out -> this.jsonHandler.encodeTo(content, out));
+        return request;
     }
 }
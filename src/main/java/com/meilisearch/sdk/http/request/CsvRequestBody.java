@@ -0,0 +1,102 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * CSV body, sent as {@code text/csv} so Meilisearch parses it with the CSV delimiter of the request
+ *
+ * <p>Files and streams are copied to the connection while the request is written, so they are
+ * never held in memory.
+ */
+public abstract class CsvRequestBody implements HttpRequestBody {
+    public static final String CONTENT_TYPE = "text/csv";
+
+    /**
+     * Creates a body holding CSV rows already in memory
+     *
+     * @param csv CSV header and rows
+     * @return the CSV body
+     */
+    public static CsvRequestBody of(String csv) {
+        return of(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a body holding CSV rows already in memory
+     *
+     * @param csv UTF-8 encoded CSV header and rows
+     * @return the CSV body
+     */
+    public static CsvRequestBody of(byte[] csv) {
+        return new CsvRequestBody() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(csv);
+            }
+
+            @Override
+            public long contentLength() {
+                return csv.length;
+            }
+        };
+    }
+
+    /**
+     * Creates a body streaming a CSV file
+     *
+     * @param file CSV file to send
+     * @return the CSV body
+     */
+    public static CsvRequestBody of(Path file) {
+        return new CsvRequestBody() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                Files.copy(file, out);
+            }
+
+            @Override
+            public long contentLength() {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    return -1;
+                }
+            }
+        };
+    }
+
+    /**
+     * Creates a body streaming CSV rows from an input stream. The stream is consumed once and not
+     * closed, so the request is never retried.
+     *
+     * @param csv stream of the CSV header and rows
+     * @return the CSV body
+     */
+    public static CsvRequestBody of(InputStream csv) {
+        return new CsvRequestBody() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = csv.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+}
@@ -0,0 +1,108 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Body copying a region of a file to the connection while the request is written, optionally
+ * surrounded by a few bytes such as the brackets of a JSON array or the header of a CSV file
+ *
+ * <p>The file is read through a FileChannel and never decoded, so files larger than the heap are
+ * sent in constant memory. The region is read again whenever the request is retried.
+ */
+public class FileRequestBody implements HttpRequestBody {
+    private static final byte[] NONE = new byte[0];
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final long position;
+    private final long count;
+    private final byte[] prefix;
+    private final byte[] suffix;
+    private final String contentType;
+
+    private FileRequestBody(
+            Path file,
+            long position,
+            long count,
+            byte[] prefix,
+            byte[] suffix,
+            String contentType) {
+        this.file = file;
+        this.position = position;
+        this.count = count;
+        this.prefix = prefix != null ? prefix : NONE;
+        this.suffix = suffix != null ? suffix : NONE;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Creates a body sending a whole file
+     *
+     * @param file file to send
+     * @param contentType media type of the file
+     * @return the file body
+     * @throws IOException if the size of the file cannot be read
+     */
+    public static FileRequestBody of(Path file, String contentType) throws IOException {
+        return of(file, 0, Files.size(file), null, null, contentType);
+    }
+
+    /**
+     * Creates a body sending a region of a file between a prefix and a suffix
+     *
+     * @param file file to read the region from
+     * @param position offset of the first byte of the region
+     * @param count number of bytes of the region
+     * @param prefix bytes sent before the region, or null
+     * @param suffix bytes sent after the region, or null
+     * @param contentType media type of the body
+     * @return the file body
+     */
+    public static FileRequestBody of(
+            Path file,
+            long position,
+            long count,
+            byte[] prefix,
+            byte[] suffix,
+            String contentType) {
+        return new FileRequestBody(file, position, count, prefix, suffix, contentType);
+    }
+
+    @Override
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(prefix);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(BUFFER_SIZE, count + 1));
+            long remaining = count;
+            long offset = position;
+            while (remaining > 0) {
+                buffer.clear();
+                if (remaining < buffer.capacity()) buffer.limit((int) remaining);
+                int read = channel.read(buffer, offset);
+                if (read == -1) {
+                    throw new IOException("File " + file + " ended before the region to send");
+                }
+                out.write(buffer.array(), 0, read);
+                offset += read;
+                remaining -= read;
+            }
+        }
+        out.write(suffix);
+    }
+
+    @Override
+    public long contentLength() {
+        return prefix.length + count + suffix.length;
+    }
+
+    @Override
+    public String contentType() {
+        return contentType;
+    }
+}
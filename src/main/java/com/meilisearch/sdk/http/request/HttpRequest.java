@@ -1,5 +1,8 @@
 package com.meilisearch.sdk.http.request;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import lombok.Getter;
@@ -13,6 +16,12 @@ public class HttpRequest {
     @Getter private Map<String, String> headers;
     private String content;
 
+    /** Body streamed to the connection when the request is sent, in place of the content */
+    private HttpRequestBody body;
+
+    /** Options of the call, only set by routes honouring them */
+    private RequestOptions options;
+
     public HttpRequest() {}
 
     public HttpRequest(
@@ -24,10 +33,31 @@ public class HttpRequest {
     }
 
     public boolean hasContent() {
-        return content != null;
+        return content != null || body != null;
+    }
+
+    /**
+     * Gets the content of the request, encoding the streamed body if the request has one
+     *
+     * @return the content as a String, or null if the request has no content
+     */
+    public String getContent() {
+        if (content == null && body != null) {
+            return new String(getContentAsBytes(), StandardCharsets.UTF_8);
+        }
+        return content;
     }
 
     public byte[] getContentAsBytes() {
+        if (content == null && body != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                body.writeTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
         return content.getBytes(StandardCharsets.UTF_8);
     }
 }
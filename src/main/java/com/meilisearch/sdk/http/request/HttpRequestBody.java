@@ -0,0 +1,61 @@
+package com.meilisearch.sdk.http.request;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Body of an HTTP request written straight to the connection when the request is sent, so large
+ * payloads are never held in memory as a String or a byte array
+ */
+@FunctionalInterface
+public interface HttpRequestBody {
+    /**
+     * Creates a body holding JSON already encoded in memory
+     *
+     * @param json UTF-8 encoded JSON
+     * @return the JSON body, which can be written any number of times
+     */
+    static HttpRequestBody of(byte[] json) {
+        return new HttpRequestBody() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                out.write(json);
+            }
+
+            @Override
+            public long contentLength() {
+                return json.length;
+            }
+        };
+    }
+
+    /**
+     * Writes the body to the connection. The stream must not be closed by the implementation.
+     *
+     * @param out stream of the request body
+     * @throws IOException if writing to the connection fails
+     */
+    void writeTo(OutputStream out) throws IOException;
+
+    /**
+     * @return number of bytes written by {@link #writeTo(OutputStream)}, or -1 if unknown
+     */
+    default long contentLength() {
+        return -1;
+    }
+
+    /**
+     * @return true if the body can only be written once, which prevents the request from being
+     *     retried
+     */
+    default boolean isOneShot() {
+        return false;
+    }
+
+    /**
+     * @return media type of the body, or null for JSON
+     */
+    default String contentType() {
+        return null;
+    }
+}
@@ -0,0 +1,98 @@
+package com.meilisearch.sdk.http.request;
+
+import com.meilisearch.sdk.json.JsonHandler;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * Newline-delimited JSON body, encoding one document per line while the request is written
+ *
+ * <p>Documents are pulled from their source only as the connection accepts bytes, so ingesting a
+ * database cursor or a large file takes constant memory. Strings are sent as already encoded
+ * lines.
+ */
+public abstract class NdjsonRequestBody implements HttpRequestBody {
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private static final byte NEWLINE = '\n';
+
+    /**
+     * Creates a body encoding the documents of an iterator. The iterator is consumed once, so the
+     * request is never retried.
+     *
+     * @param documents documents to send
+     * @param jsonHandler JsonHandler encoding each document
+     * @return the NDJSON body
+     */
+    public static <T> NdjsonRequestBody of(Iterator<T> documents, JsonHandler jsonHandler) {
+        return new NdjsonRequestBody() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                OutputStream lines = new UnflushedOutputStream(out);
+                while (documents.hasNext()) {
+                    jsonHandler.encodeTo(documents.next(), lines);
+                    lines.write(NEWLINE);
+                }
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Creates a body streaming a file holding one JSON document per line
+     *
+     * @param file NDJSON file to send
+     * @return the NDJSON body
+     */
+    public static NdjsonRequestBody of(Path file) {
+        return new NdjsonRequestBody() {
+            @Override
+            public void writeTo(OutputStream out) throws IOException {
+                Files.copy(file, out);
+            }
+
+            @Override
+            public long contentLength() {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    return -1;
+                }
+            }
+        };
+    }
+
+    @Override
+    public String contentType() {
+        return CONTENT_TYPE;
+    }
+
+    /**
+     * Keeps the JsonHandler from flushing the connection after every document, leaving the
+     * transport free to send full segments
+     */
+    private static class UnflushedOutputStream extends FilterOutputStream {
+        UnflushedOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
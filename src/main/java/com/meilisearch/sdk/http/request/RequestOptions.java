@@ -0,0 +1,23 @@
+package com.meilisearch.sdk.http.request;
+
+import com.meilisearch.sdk.http.Compression;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Options of a single call, overriding the defaults of the TransportOptions of the Config
+ *
+ * <p>Options left unset fall back to the TransportOptions.
+ */
+@Builder(toBuilder = true)
+@Getter
+public class RequestOptions {
+    /** Compression of the request body, only applied to document ingestion routes */
+    private Compression compression;
+
+    /**
+     * Whether the call can safely be sent again after a transient failure. Defaults to true for
+     * reads and searches and to false for writes, which may enqueue the same task twice.
+     */
+    private Boolean idempotent;
+}
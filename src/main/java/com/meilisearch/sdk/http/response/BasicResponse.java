@@ -1,6 +1,7 @@
 package com.meilisearch.sdk.http.response;
 
 import com.meilisearch.sdk.json.JsonHandler;
+import java.io.Reader;
 
 public class BasicResponse {
     private final JsonHandler jsonHandler;
@@ -22,4 +23,8 @@ public class BasicResponse {
             throw new RuntimeException(e);
         }
     }
+
+    public <R> R decode(Reader body, Class<R> targetClass, Class<?>... parameters) {
+        return this.jsonHandler.decode(body, targetClass, parameters);
+    }
 }
@@ -0,0 +1,16 @@
+package com.meilisearch.sdk.http.response;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.io.Reader;
+
+/** Decodes the body of an HTTP response while it is read from the connection */
+@FunctionalInterface
+public interface ResponseBodyDecoder<T> {
+    /**
+     * @param statusCode HTTP status code of the response
+     * @param body character stream of the response body, closed once this method returns
+     * @return the decoded content
+     * @throws MeilisearchException if the body cannot be decoded or describes an API error
+     */
+    T decode(int statusCode, Reader body) throws MeilisearchException;
+}
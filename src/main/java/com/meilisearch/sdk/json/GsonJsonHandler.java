@@ -2,6 +2,7 @@ package com.meilisearch.sdk.json;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 import com.meilisearch.sdk.exceptions.JsonDecodingException;
@@ -9,6 +10,13 @@ import com.meilisearch.sdk.exceptions.JsonEncodingException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.FilterableAttributesConfig;
 import com.meilisearch.sdk.model.Key;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 public class GsonJsonHandler implements JsonHandler {
 
@@ -36,6 +44,25 @@ public class GsonJsonHandler implements JsonHandler {
         }
     }
 
+    @Override
+    public void encodeTo(Object o, OutputStream out) throws MeilisearchException, IOException {
+        SinkOutputStream sink = new SinkOutputStream(out);
+        try {
+            Writer writer =
+                    new BufferedWriter(new OutputStreamWriter(sink, StandardCharsets.UTF_8));
+            if (o != null && o.getClass() == String.class) {
+                writer.write((String) o);
+            } else {
+                gson.toJson(o, writer);
+            }
+            writer.flush();
+        } catch (IOException | RuntimeException e) {
+            // Gson wraps the failures of the writer in a JsonIOException
+            if (sink.getFailure() != null) throw sink.getFailure();
+            throw new JsonEncodingException(e);
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T decode(Object o, Class<T> targetClass, Class<?>... parameters)
@@ -57,4 +84,22 @@ public class GsonJsonHandler implements JsonHandler {
             throw new JsonDecodingException(e);
         }
     }
+
+    @Override
+    public <T> T decode(Reader reader, Class<T> targetClass, Class<?>... parameters)
+            throws MeilisearchException {
+        if (reader == null || targetClass == String.class) {
+            return JsonHandler.super.decode(reader, targetClass, parameters);
+        }
+        try {
+            if (parameters == null || parameters.length == 0) {
+                return gson.fromJson(reader, targetClass);
+            } else {
+                TypeToken<?> parameterized = TypeToken.getParameterized(targetClass, parameters);
+                return gson.fromJson(reader, parameterized.getType());
+            }
+        } catch (JsonSyntaxException | JsonIOException e) {
+            throw new JsonDecodingException(e);
+        }
+    }
 }
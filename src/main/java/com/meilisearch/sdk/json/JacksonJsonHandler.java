@@ -1,6 +1,7 @@
 package com.meilisearch.sdk.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +13,9 @@ import com.meilisearch.sdk.exceptions.JsonEncodingException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.FilterableAttributesConfig;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 public class JacksonJsonHandler implements JsonHandler {
 
@@ -49,6 +53,24 @@ public class JacksonJsonHandler implements JsonHandler {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void encodeTo(Object o, OutputStream out) throws MeilisearchException, IOException {
+        if (o != null && o.getClass() == String.class) {
+            out.write(((String) o).getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        SinkOutputStream sink = new SinkOutputStream(out);
+        try {
+            this.mapper.setSerializationInclusion(Include.NON_NULL);
+            mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(sink, o);
+        } catch (IOException e) {
+            // a serializer may wrap the failure of the stream in a JsonMappingException
+            if (sink.getFailure() != null) throw sink.getFailure();
+            throw new JsonEncodingException(e);
+        }
+    }
+
     /** {@inheritDoc} */
     @SuppressWarnings("unchecked")
     @Override
@@ -73,6 +95,26 @@ public class JacksonJsonHandler implements JsonHandler {
         }
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public <T> T decode(Reader reader, Class<T> targetClass, Class<?>... parameters)
+            throws MeilisearchException {
+        if (reader == null || targetClass == String.class) {
+            return JsonHandler.super.decode(reader, targetClass, parameters);
+        }
+        try {
+            if (parameters == null || parameters.length == 0) {
+                return mapper.readValue(reader, targetClass);
+            } else {
+                return mapper.readValue(
+                        reader,
+                        mapper.getTypeFactory().constructParametricType(targetClass, parameters));
+            }
+        } catch (IOException e) {
+            throw new JsonDecodingException(e);
+        }
+    }
+
     private void registerFilterableAttributesModule(ObjectMapper mapper) {
         SimpleModule filterableModule = new SimpleModule();
         filterableModule.addSerializer(
@@ -1,6 +1,11 @@
 package com.meilisearch.sdk.json;
 
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 
 public interface JsonHandler {
     /**
@@ -10,6 +15,22 @@ public interface JsonHandler {
      */
     String encode(Object o) throws MeilisearchException;
 
+    /**
+     * Serializes an object as UTF-8 JSON into a stream, typically the body of an HTTP request
+     * written straight to the connection. The stream is left open.
+     *
+     * <p>The default implementation encodes the object to a String first; implementations backed
+     * by a streaming generator should override it.
+     *
+     * @param o Object to serialize
+     * @param out stream the JSON is written to
+     * @throws MeilisearchException wrapped exceptions of the used json library
+     * @throws IOException if writing to the stream fails, which is not an encoding failure
+     */
+    default void encodeTo(Object o, OutputStream out) throws MeilisearchException, IOException {
+        out.write(encode(o).getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * @param o Object to deserialize, most of the time this is a string
      * @param targetClass return type
@@ -21,4 +42,38 @@ public interface JsonHandler {
      */
     <T> T decode(Object o, Class<T> targetClass, Class<?>... parameters)
             throws MeilisearchException;
+
+    /**
+     * Deserializes a character stream, typically the body of an HTTP response read straight from
+     * the connection, without materializing it as a String first.
+     *
+     * <p>The default implementation reads the whole stream and delegates to {@link
+     * #decode(Object, Class, Class[])}; implementations backed by a streaming parser should
+     * override it.
+     *
+     * @param reader character stream to deserialize
+     * @param targetClass return type
+     * @param parameters in case the return type is a generic class, this is a list of types to use
+     *     with that generic.
+     * @param <T> Abstract type to deserialize
+     * @return the deserialized object
+     * @throws MeilisearchException wrapped exceptions of the used json library
+     */
+    default <T> T decode(Reader reader, Class<T> targetClass, Class<?>... parameters)
+            throws MeilisearchException {
+        if (reader == null) {
+            throw new JsonDecodingException("Response to deserialize is null");
+        }
+        StringBuilder content = new StringBuilder();
+        char[] buffer = new char[8192];
+        try {
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                content.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new JsonDecodingException(e);
+        }
+        return decode(content.toString(), targetClass, parameters);
+    }
 }
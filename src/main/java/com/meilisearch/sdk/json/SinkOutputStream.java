@@ -0,0 +1,60 @@
+package com.meilisearch.sdk.json;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Stream remembering the IOException raised by the stream it writes to, so that the failures of
+ * the connection or file written are told apart from those of the serializer, which may wrap them
+ */
+final class SinkOutputStream extends FilterOutputStream {
+    private IOException failure;
+
+    SinkOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    /**
+     * @return the IOException raised by the underlying stream, or null if it never failed
+     */
+    IOException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        try {
+            out.write(b);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        try {
+            out.write(b, off, len);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+    }
+
+    /** Leaves the underlying stream open, as encoders must */
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
@@ -12,6 +12,7 @@ import lombok.Getter;
 public class Task {
     protected TaskStatus status = null;
     protected int uid = 0;
+    protected Integer batchUid = null;
     protected String indexUid = "";
     protected String type = null;
     protected String duration = "";
@@ -3,8 +3,14 @@ package com.meilisearch.sdk.model.batch.res;
 import java.util.List;
 import lombok.Data;
 
+/**
+ * Progress of a batch being processed, absent once the batch is finished
+ *
+ * @see <a href="https://www.meilisearch.com/docs/reference/api/batches#progress">API
+ *     specification</a>
+ */
 @Data
-class BatchProgress {
+public class BatchProgress {
     private List<StepDetails> steps;
-    private int percentage;
+    private float percentage;
 }
@@ -11,4 +11,5 @@ public class StatDetails {
     private Map<TaskStatus, Integer> status;
     private Map<OperationType, Integer> types;
     private Map<String, Integer> indexUids;
+    private Map<String, String> progressTrace;
 }
@@ -2,8 +2,9 @@ package com.meilisearch.sdk.model.batch.res;
 
 import lombok.Data;
 
+/** Step of a batch being processed, with the number of units of work finished in that step */
 @Data
-class StepDetails {
+public class StepDetails {
     private String currentStep;
     private int finished;
     private int total;
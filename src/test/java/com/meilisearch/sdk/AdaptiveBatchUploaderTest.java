@@ -0,0 +1,125 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.model.TaskInfo;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveBatchUploaderTest {
+
+    private static final AdaptiveBatchOptions OPTIONS =
+            AdaptiveBatchOptions.builder()
+                    .targetBatchDurationMs(1000)
+                    .initialBatchSize(1000)
+                    .minBatchSize(100)
+                    .maxBatchSize(100_000)
+                    .maxBatchBytes(20_000)
+                    .build();
+
+    private static AdaptiveBatchUploader uploader(AdaptiveBatchOptions options) {
+        return new AdaptiveBatchUploader(null, options, null);
+    }
+
+    @Test
+    void sizesBatchesFromTheSmoothedThroughput() {
+        AdaptiveBatchUploader uploader = uploader(OPTIONS);
+
+        uploader.onProcessed(1000, 500);
+        assertThat(uploader.getBatchSize(), equalTo(2000));
+
+        // 500 documents per second, averaged with the previous 2000
+        uploader.onProcessed(2000, 4000);
+        assertThat(uploader.getBatchSize(), equalTo(1250));
+    }
+
+    @Test
+    void growsAtMostTwofoldPerMeasure() {
+        AdaptiveBatchUploader uploader = uploader(OPTIONS);
+
+        uploader.onProcessed(1_000_000, 1000);
+
+        assertThat(uploader.getBatchSize(), equalTo(2000));
+    }
+
+    @Test
+    void keepsTheBatchSizeWithinItsBounds() {
+        AdaptiveBatchUploader uploader = uploader(OPTIONS);
+
+        uploader.onProcessed(10, 1000);
+
+        assertThat(uploader.getBatchSize(), equalTo(100));
+    }
+
+    @Test
+    void boundsThePayloadByTheAverageDocumentSize() {
+        AdaptiveBatchUploader uploader = uploader(OPTIONS);
+        assertThat(uploader.getBatchBytes(), equalTo(20_000L));
+
+        uploader.onSent(100, 1000);
+        uploader.onProcessed(1000, 1000);
+        assertThat(uploader.getBatchBytes(), equalTo(10_000L));
+
+        uploader.onSent(100, 100_000);
+        assertThat(uploader.getBatchBytes(), equalTo(20_000L));
+    }
+
+    @Test
+    void indexSizesEachBatchFromTheProcessedOnes() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            String autobatched =
+                    "{\"uid\":1,\"batchUid\":7,\"status\":\"succeeded\","
+                            + "\"details\":{\"indexedDocuments\":1},\"duration\":\"PT1S\"}";
+            String alone =
+                    "{\"uid\":2,\"status\":\"succeeded\","
+                            + "\"details\":{\"indexedDocuments\":2},\"duration\":\"PT0.5S\"}";
+            server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+            server.enqueue(new MockResponse().setBody(autobatched));
+            server.enqueue(new MockResponse().setBody(autobatched));
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"uid\":7,\"details\":{\"indexedDocuments\":2},"
+                                            + "\"duration\":\"PT1S\"}"));
+            server.enqueue(new MockResponse().setBody("{\"taskUid\":2}").setResponseCode(202));
+            server.enqueue(new MockResponse().setBody(alone));
+            server.enqueue(new MockResponse().setBody(alone));
+            server.enqueue(new MockResponse().setBody("{\"taskUid\":3}").setResponseCode(202));
+            server.enqueue(new MockResponse().setBody(alone));
+            server.enqueue(new MockResponse().setBody(alone));
+            Index index =
+                    new Client(new Config(server.url("/").toString(), "masterKey"))
+                            .index("movies");
+            AdaptiveBatchOptions options =
+                    AdaptiveBatchOptions.builder()
+                            .targetBatchDurationMs(1000)
+                            .initialBatchSize(1)
+                            .minBatchSize(1)
+                            .maxEnqueuedBatches(1)
+                            .taskIntervalMs(1)
+                            .build();
+
+            TaskInfo[] tasks =
+                    index.addDocumentsInAdaptiveBatches(
+                            "[{\"id\":1},{\"id\":2},{\"id\":3},{\"id\":4}]", "id", options);
+
+            assertThat(tasks.length, equalTo(3));
+            RecordedRequest first = server.takeRequest();
+            assertThat(first.getBody().readUtf8(), equalTo("[{\"id\":1}]"));
+            server.takeRequest();
+            server.takeRequest();
+            // the task shares its Meilisearch batch with another one: 2 documents per second
+            assertThat(server.takeRequest().getPath(), equalTo("//batches/7"));
+            assertThat(
+                    server.takeRequest().getBody().readUtf8(),
+                    equalTo("[{\"id\":2},{\"id\":3}]"));
+            server.takeRequest();
+            server.takeRequest();
+            assertThat(server.takeRequest().getBody().readUtf8(), equalTo("[{\"id\":4}]"));
+        }
+    }
+}
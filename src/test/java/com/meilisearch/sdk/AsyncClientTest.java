@@ -0,0 +1,117 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.model.MultiSearchResult;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncClientTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        client = new Client(new Config(server.url("/").toString(), "masterKey"));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    void searchAsync() throws Exception {
+        server.enqueue(
+                new MockResponse()
+                        .setBody("{\"hits\":[{\"id\":1}],\"query\":\"batman\",\"limit\":20}")
+                        .setResponseCode(200));
+
+        CompletableFuture<SearchResult> future = client.index("movies").searchAsync("batman");
+        SearchResult result = future.join();
+
+        assertThat(result.getQuery(), equalTo("batman"));
+        assertThat(result.getHits(), hasSize(1));
+
+        RecordedRequest req = server.takeRequest();
+        assertThat(req.getMethod(), equalTo("POST"));
+        assertThat(req.getPath(), equalTo("//indexes/movies/search"));
+        assertThat(req.getBody().readUtf8(), containsString("\"q\":\"batman\""));
+    }
+
+    @Test
+    void addDocumentsAsync() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":42}").setResponseCode(202));
+
+        TaskInfo task = client.index("movies").addDocumentsAsync("[{\"id\":1}]", "id").join();
+
+        assertThat(task.getTaskUid(), equalTo(42));
+
+        RecordedRequest req = server.takeRequest();
+        assertThat(req.getMethod(), equalTo("POST"));
+        assertThat(req.getPath(), equalTo("//indexes/movies/documents?primaryKey=id"));
+        assertThat(req.getBody().readUtf8(), equalTo("[{\"id\":1}]"));
+    }
+
+    @Test
+    void getTaskAsync() throws Exception {
+        server.enqueue(
+                new MockResponse()
+                        .setBody("{\"uid\":7,\"status\":\"succeeded\"}")
+                        .setResponseCode(200));
+
+        Task task = client.getTaskAsync(7).join();
+
+        assertThat(task.getUid(), equalTo(7));
+        assertThat(server.takeRequest().getPath(), equalTo("//tasks/7"));
+    }
+
+    @Test
+    void multiSearchAsync() throws Exception {
+        server.enqueue(
+                new MockResponse()
+                        .setBody("{\"results\":[{\"indexUid\":\"movies\",\"hits\":[]}]}")
+                        .setResponseCode(200));
+
+        MultiSearchRequest request =
+                new MultiSearchRequest().addQuery(new IndexSearchRequest("movies").setQuery("a"));
+        Results<MultiSearchResult> results = client.multiSearchAsync(request).join();
+
+        assertThat(results.getResults(), arrayWithSize(1));
+        assertThat(results.getResults()[0].getIndexUid(), equalTo("movies"));
+    }
+
+    @Test
+    void apiErrorCompletesExceptionally() {
+        server.enqueue(
+                new MockResponse()
+                        .setBody(
+                                "{\"message\":\"Index `movies` not found.\",\"code\":\"index_not_found\",\"type\":\"invalid_request\",\"link\":\"\"}")
+                        .setResponseCode(404));
+
+        CompletionException e =
+                assertThrows(
+                        CompletionException.class,
+                        () -> client.index("movies").searchAsync("batman").join());
+
+        assertThat(e.getCause(), instanceOf(MeilisearchApiException.class));
+        assertThat(((MeilisearchApiException) e.getCause()).getCode(), equalTo("index_not_found"));
+    }
+}
@@ -0,0 +1,156 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.batch.res.Batch;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+class BatchProgressMonitorTest {
+
+    private static final String PROCESSING =
+            "{\"uid\":7,\"details\":{\"receivedDocuments\":1000},"
+                    + "\"progress\":{\"steps\":[{\"currentStep\":\"processing tasks\","
+                    + "\"finished\":0,\"total\":2}],\"percentage\":25.0},"
+                    + "\"startedAt\":\"1970-01-01T00:00:01Z\"}";
+
+    private static final String FINISHED =
+            "{\"uid\":7,\"details\":{\"receivedDocuments\":1000,\"indexedDocuments\":1000},"
+                    + "\"stats\":{\"totalNbTasks\":1,\"progressTrace\":{"
+                    + "\"processing tasks > indexing\":\"1.50s\","
+                    + "\"processing tasks > writing\":\"250.00µs\"}},"
+                    + "\"duration\":\"PT2S\",\"startedAt\":\"1970-01-01T00:00:01Z\","
+                    + "\"finishedAt\":\"1970-01-01T00:00:03Z\"}";
+
+    private static Batch batch(String json) {
+        return new GsonJsonHandler().decode(json, Batch.class);
+    }
+
+    @Test
+    void estimatesTheProgressOfAProcessingBatch() {
+        BatchProgressUpdate update = new BatchProgressUpdate(batch(PROCESSING), 5000);
+
+        assertThat(update.isFinished(), is(false));
+        assertThat(update.getPercentage(), equalTo(25f));
+        assertThat(update.getSteps().get(0).getCurrentStep(), equalTo("processing tasks"));
+        assertThat(update.getElapsedMs(), equalTo(4000L));
+        assertThat(update.getProcessedDocuments(), equalTo(250L));
+        assertThat(update.getDocumentsPerSecond(), equalTo(62.5));
+        assertThat(update.getEtaMs(), equalTo(12_000L));
+    }
+
+    @Test
+    void measuresAFinishedBatch() {
+        BatchProgressUpdate update = new BatchProgressUpdate(batch(FINISHED), 60_000);
+
+        assertThat(update.isFinished(), is(true));
+        assertThat(update.getPercentage(), equalTo(100f));
+        assertThat(update.getElapsedMs(), equalTo(2000L));
+        assertThat(update.getDocumentsPerSecond(), equalTo(500.0));
+        assertThat(update.getEtaMs(), equalTo(0L));
+        assertThat(
+                update.getStepDurationsMs(),
+                allOf(
+                        hasEntry("processing tasks > indexing", 1500.0),
+                        hasEntry("processing tasks > writing", 0.25)));
+    }
+
+    @Test
+    void followsTheBatchOfATaskUntilItIsProcessed() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"results\":[{\"uid\":1,\"batchUid\":7,"
+                                            + "\"status\":\"processing\"}]}"));
+            server.enqueue(new MockResponse().setBody("{\"results\":[" + PROCESSING + "]}"));
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"results\":[{\"uid\":1,\"batchUid\":7,"
+                                            + "\"status\":\"succeeded\"}]}"));
+            server.enqueue(new MockResponse().setBody("{\"results\":[" + FINISHED + "]}"));
+            Client client = new Client(new Config(server.url("/").toString(), "masterKey"));
+            List<BatchProgressUpdate> updates = new CopyOnWriteArrayList<>();
+            CountDownLatch finished = new CountDownLatch(1);
+
+            BatchProgressMonitor monitor =
+                    client.batchProgressMonitor(
+                            BatchProgressMonitorOptions.builder().pollIntervalMs(10).build());
+            monitor.addListener(
+                    new BatchProgressMonitor.Listener() {
+                        @Override
+                        public void onProgress(BatchProgressUpdate update) {
+                            updates.add(update);
+                            if (update.isFinished()) finished.countDown();
+                        }
+                    });
+            monitor.follow(1);
+
+            assertThat(finished.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(updates, hasSize(2));
+            assertThat(updates.get(0).getPercentage(), equalTo(25f));
+            assertThat(server.takeRequest().getPath(), equalTo("//tasks?limit=1&uids=1"));
+            assertThat(server.takeRequest().getPath(), equalTo("//batches?batchUids=7&limit=1"));
+            assertThat(monitor.getProcessedDocuments(), equalTo(1000L));
+            assertThat(monitor.getDocumentsPerSecond(), equalTo(500.0));
+            assertThat(
+                    monitor.getStepDurationsMs(),
+                    hasEntry("processing tasks > indexing", 1500.0));
+            monitor.close();
+        }
+    }
+
+    @Test
+    void keepsPollingWhenAListenerThrows() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(new MockResponse().setResponseCode(500));
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"results\":[{\"uid\":1,\"batchUid\":7,"
+                                            + "\"status\":\"succeeded\"}]}"));
+            server.enqueue(new MockResponse().setBody("{\"results\":[" + FINISHED + "]}"));
+            Client client = new Client(new Config(server.url("/").toString(), "masterKey"));
+            CountDownLatch finished = new CountDownLatch(1);
+
+            BatchProgressMonitor monitor =
+                    client.batchProgressMonitor(
+                            BatchProgressMonitorOptions.builder().pollIntervalMs(10).build());
+            monitor.addListener(
+                    new BatchProgressMonitor.Listener() {
+                        @Override
+                        public void onProgress(BatchProgressUpdate update) {
+                            throw new IllegalStateException("progress");
+                        }
+
+                        @Override
+                        public void onFailure(Throwable failure) {
+                            throw new IllegalStateException("failure");
+                        }
+                    });
+            monitor.addListener(
+                    new BatchProgressMonitor.Listener() {
+                        @Override
+                        public void onProgress(BatchProgressUpdate update) {
+                            if (update.isFinished()) finished.countDown();
+                        }
+                    });
+            monitor.follow(1);
+
+            // the failed first poll was followed by another one
+            assertThat(finished.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(server.getRequestCount(), equalTo(3));
+            monitor.close();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.TaskInfo;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+class BulkIndexerTest {
+
+    private static final BulkIndexerOptions UNTIMED =
+            BulkIndexerOptions.builder().stripes(1).flushIntervalMs(0).build();
+
+    private static MockResponse enqueued() {
+        return new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202);
+    }
+
+    private static BulkIndexer<String> indexer(MockWebServer server, BulkIndexerOptions options) {
+        Index index =
+                new Client(new Config(server.url("/").toString(), "masterKey")).index("movies");
+        return index.bulkIndexer(BulkIndexerTest::id, "id", options);
+    }
+
+    private static String id(String document) {
+        return document.substring(document.indexOf(':') + 1, document.indexOf(','));
+    }
+
+    /** Takes the requests sent so far, keyed by method and path */
+    private static Map<String, String> takeRequests(MockWebServer server, int count)
+            throws InterruptedException {
+        Map<String, String> requests = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+            requests.put(
+                    request.getMethod() + " " + request.getPath(), request.getBody().readUtf8());
+        }
+        return requests;
+    }
+
+    @Test
+    void keepsTheLastWriteToEachDocument() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(enqueued());
+            }
+
+            try (BulkIndexer<String> indexer = indexer(server, UNTIMED)) {
+                indexer.add("{\"id\":1,\"v\":1}");
+                indexer.add("{\"id\":1,\"v\":2}");
+                indexer.update("{\"id\":2,\"v\":1}");
+                indexer.add("{\"id\":2,\"v\":2}");
+                indexer.add("{\"id\":3,\"v\":1}");
+                indexer.delete(3);
+                indexer.delete("a\"b");
+            }
+
+            assertThat(server.getRequestCount(), equalTo(2));
+            Map<String, String> requests = takeRequests(server, 2);
+            assertThat(
+                    requests,
+                    allOf(
+                            hasEntry(
+                                    "POST //indexes/movies/documents?primaryKey=id",
+                                    "[{\"id\":1,\"v\":2},{\"id\":2,\"v\":2}]"),
+                            hasEntry(
+                                    "POST //indexes/movies/documents/delete-batch",
+                                    "[3,\"a\\\"b\"]")));
+        }
+    }
+
+    @Test
+    void keepsTheFieldsOfTheWritesPrecedingAPartialUpdate() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(enqueued());
+            }
+
+            try (BulkIndexer<String> indexer = indexer(server, UNTIMED)) {
+                indexer.add("{\"id\":1,\"title\":\"Carol\"}");
+                indexer.update("{\"id\":1,\"genre\":\"drama\"}");
+                indexer.update("{\"id\":1,\"year\":2015}");
+            }
+
+            assertThat(server.getRequestCount(), equalTo(3));
+            RecordedRequest addition = server.takeRequest(5, TimeUnit.SECONDS);
+            assertThat(addition.getMethod(), equalTo("POST"));
+            assertThat(
+                    addition.getBody().readUtf8(), equalTo("[{\"id\":1,\"title\":\"Carol\"}]"));
+            RecordedRequest genre = server.takeRequest(5, TimeUnit.SECONDS);
+            assertThat(genre.getMethod(), equalTo("PUT"));
+            assertThat(genre.getBody().readUtf8(), equalTo("[{\"id\":1,\"genre\":\"drama\"}]"));
+            RecordedRequest year = server.takeRequest(5, TimeUnit.SECONDS);
+            assertThat(year.getMethod(), equalTo("PUT"));
+            assertThat(year.getBody().readUtf8(), equalTo("[{\"id\":1,\"year\":2015}]"));
+        }
+    }
+
+    @Test
+    void sendsTheDeletionPrecedingAPartialUpdate() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(enqueued());
+            server.enqueue(enqueued());
+
+            try (BulkIndexer<String> indexer = indexer(server, UNTIMED)) {
+                indexer.delete(1);
+                indexer.update("{\"id\":1,\"genre\":\"drama\"}");
+            }
+
+            assertThat(server.getRequestCount(), equalTo(2));
+            RecordedRequest deletion = server.takeRequest(5, TimeUnit.SECONDS);
+            assertThat(deletion.getPath(), equalTo("//indexes/movies/documents/delete-batch"));
+            assertThat(deletion.getBody().readUtf8(), equalTo("[1]"));
+            RecordedRequest update = server.takeRequest(5, TimeUnit.SECONDS);
+            assertThat(update.getMethod(), equalTo("PUT"));
+            assertThat(update.getBody().readUtf8(), equalTo("[{\"id\":1,\"genre\":\"drama\"}]"));
+        }
+    }
+
+    @Test
+    void flushesAStripeOnceItHoldsMaxDocuments() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(enqueued());
+            server.enqueue(enqueued());
+            BulkIndexerOptions options = UNTIMED.toBuilder().maxDocuments(2).build();
+
+            try (BulkIndexer<String> indexer = indexer(server, options)) {
+                indexer.add("{\"id\":1,\"v\":1}");
+                indexer.add("{\"id\":2,\"v\":1}");
+
+                RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+                assertThat(
+                        request.getBody().readUtf8(),
+                        equalTo("[{\"id\":1,\"v\":1},{\"id\":2,\"v\":1}]"));
+
+                indexer.add("{\"id\":3,\"v\":1}");
+            }
+
+            assertThat(server.getRequestCount(), equalTo(2));
+        }
+    }
+
+    @Test
+    void flushesPeriodically() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(enqueued());
+            BulkIndexerOptions options = UNTIMED.toBuilder().flushIntervalMs(50).build();
+
+            try (BulkIndexer<String> indexer = indexer(server, options)) {
+                indexer.add("{\"id\":1,\"v\":1}");
+
+                RecordedRequest request = server.takeRequest(5, TimeUnit.SECONDS);
+                assertThat(request, notNullValue());
+                assertThat(request.getBody().readUtf8(), equalTo("[{\"id\":1,\"v\":1}]"));
+            }
+        }
+    }
+
+    @Test
+    void reportsFlushesToTheListeners() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(enqueued());
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"message\":\"bad\",\"code\":\"bad_request\","
+                                            + "\"type\":\"invalid_request\",\"link\":\"\"}")
+                            .setResponseCode(400));
+            List<String> events = Collections.synchronizedList(new ArrayList<>());
+            BulkIndexer<String> indexer = indexer(server, UNTIMED);
+            indexer.addListener(
+                    new BulkIndexer.Listener() {
+                        @Override
+                        public void beforeFlush(long flushId, int documentCount) {
+                            events.add("before " + flushId + " " + documentCount);
+                        }
+
+                        @Override
+                        public void afterFlush(
+                                long flushId, int documentCount, List<TaskInfo> tasks) {
+                            events.add("after " + flushId + " " + tasks.size());
+                        }
+
+                        @Override
+                        public void onFailure(long flushId, int documentCount, Throwable failure) {
+                            String name = failure.getClass().getSimpleName();
+                            events.add("failure " + flushId + " " + name);
+                        }
+                    });
+
+            indexer.add("{\"id\":1,\"v\":1}");
+            indexer.add("{\"id\":2,\"v\":1}");
+            indexer.flush().join();
+            indexer.add("{\"id\":3,\"v\":1}");
+
+            assertThrows(MeilisearchApiException.class, indexer::close);
+            assertThat(
+                    events,
+                    contains(
+                            "before 1 2",
+                            "after 1 1",
+                            "before 2 1",
+                            "failure 2 MeilisearchApiException"));
+            assertThrows(MeilisearchException.class, () -> indexer.add("{\"id\":4,\"v\":1}"));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CsvChunkerTest {
+
+    private static List<String> chunks(String csv, long maxChunkBytes) throws Exception {
+        CsvChunker chunker =
+                new CsvChunker(
+                        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                        maxChunkBytes);
+        List<String> chunks = new ArrayList<>();
+        byte[] chunk;
+        while ((chunk = chunker.nextChunk()) != null) {
+            chunks.add(new String(chunk, StandardCharsets.UTF_8));
+        }
+        return chunks;
+    }
+
+    @Test
+    void repeatsTheHeaderInEveryChunk() throws Exception {
+        List<String> chunks = chunks("id,title\n1,Carol\n2,Wall-E\n3,Moana\n", 26);
+
+        assertThat(chunks, contains("id,title\n1,Carol\n2,Wall-E\n", "id,title\n3,Moana\n"));
+    }
+
+    @Test
+    void keepsQuotedLineFeedsInsideTheirRow() throws Exception {
+        String row = "1,\"multi\nline \"\"quoted\"\" title\"\n";
+
+        List<String> chunks = chunks("id,title\n" + row + "2,Moana\n", 1);
+
+        assertThat(chunks, contains("id,title\n" + row, "id,title\n2,Moana\n"));
+    }
+
+    @Test
+    void sendsRowsLargerThanTheLimitAlone() throws Exception {
+        List<String> chunks = chunks("id,title\n1,A very long title\n2,B\n", 16);
+
+        assertThat(chunks, contains("id,title\n1,A very long title\n", "id,title\n2,B\n"));
+    }
+
+    @Test
+    void terminatesTheLastRow() throws Exception {
+        assertThat(chunks("id\r\n1\r\n2", 1024), contains("id\r\n1\r\n2\n"));
+    }
+
+    @Test
+    void emptyOrHeaderOnlyStreamHasNoChunk() throws Exception {
+        assertThat(chunks("", 1024), is(empty()));
+        assertThat(chunks("id,title\n", 1024), is(empty()));
+    }
+
+    @Test
+    void rejectsNonPositiveLimit() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new CsvChunker(new ByteArrayInputStream(new byte[0]), 0));
+    }
+}
@@ -0,0 +1,99 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.model.TaskInfo;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CsvIngestionTest {
+
+    private MockWebServer server;
+    private Index index;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        index = new Client(new Config(server.url("/").toString(), "masterKey")).index("movies");
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueueTask() {
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+    }
+
+    @Test
+    void fileIsStreamedAsCsv() throws Exception {
+        enqueueTask();
+        String content = "id;title\n1;Carol\n";
+        Path file = Files.createTempFile("movies", ".csv");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+            index.addDocumentsCsv(file, "id", ";");
+        } finally {
+            Files.delete(file);
+        }
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(
+                request.getPath(),
+                equalTo("//indexes/movies/documents?primaryKey=id&csvDelimiter=;"));
+        assertThat(request.getHeader("Content-Type"), startsWith("text/csv"));
+        assertThat(request.getHeader("Content-Length"), equalTo(String.valueOf(content.length())));
+        assertThat(request.getBody().readUtf8(), equalTo(content));
+    }
+
+    @Test
+    void inputStreamIsSplitIntoChunksWithTheHeader() throws Exception {
+        enqueueTask();
+        enqueueTask();
+        String csv = "id,title\n1,Carol\n2,Wall-E\n3,Moana\n";
+
+        TaskInfo[] tasks =
+                index.addDocumentsCsvInBatches(
+                        new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                        26,
+                        null,
+                        null);
+
+        assertThat(tasks.length, equalTo(2));
+        RecordedRequest first = server.takeRequest();
+        assertThat(first.getHeader("Content-Type"), startsWith("text/csv"));
+        assertThat(first.getBody().readUtf8(), equalTo("id,title\n1,Carol\n2,Wall-E\n"));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("id,title\n3,Moana\n"));
+    }
+
+    @Test
+    void stringWithDelimiterIsSentAsCsv() throws Exception {
+        enqueueTask();
+
+        index.addDocuments("id|title\n1|Carol\n", null, "|");
+
+        assertThat(server.takeRequest().getHeader("Content-Type"), startsWith("text/csv"));
+    }
+
+    @Test
+    void stringWithoutDelimiterIsSentAsJson() throws Exception {
+        enqueueTask();
+
+        index.addDocuments("[{\"id\":1}]");
+
+        assertThat(
+                server.takeRequest().getHeader("Content-Type"), startsWith("application/json"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCancellationException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import com.meilisearch.sdk.http.CancellationToken;
+import com.meilisearch.sdk.http.RequestContext;
+import com.meilisearch.sdk.model.SearchResult;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DeadlineTest {
+
+    private static final String PROCESSING = "{\"uid\":1,\"status\":\"processing\"}";
+
+    private MockWebServer server;
+    private Client client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = new Client(new Config(server.url("/").toString(), "masterKey"));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private MockResponse slowResponse() {
+        return new MockResponse().setBody("{\"hits\":[]}").setHeadersDelay(2, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void deadlineBoundsASynchronousCall() {
+        server.enqueue(slowResponse());
+
+        long start = System.nanoTime();
+        try (RequestContext.Scope scope = RequestContext.create().withTimeout(100).attach()) {
+            assertThrows(
+                    MeilisearchTimeoutException.class, () -> client.index("movies").search("a"));
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1_500L));
+    }
+
+    @Test
+    void deadlineBoundsAnAsynchronousCall() {
+        server.enqueue(slowResponse());
+
+        CompletableFuture<SearchResult> future;
+        try (RequestContext.Scope scope = RequestContext.create().withTimeout(100).attach()) {
+            future = client.index("movies").searchAsync("a");
+        }
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertThat(e.getCause(), instanceOf(MeilisearchTimeoutException.class));
+    }
+
+    @Test
+    void tokenCancelsAnAsynchronousCall() {
+        server.enqueue(slowResponse());
+        CancellationToken token = new CancellationToken();
+
+        CompletableFuture<SearchResult> future;
+        try (RequestContext.Scope scope =
+                RequestContext.create().withCancellationToken(token).attach()) {
+            future = client.index("movies").searchAsync("a");
+        }
+        token.cancel();
+
+        CompletionException e = assertThrows(CompletionException.class, future::join);
+        assertThat(e.getCause(), instanceOf(MeilisearchCancellationException.class));
+    }
+
+    @Test
+    void deadlinePropagatesToWaitForTask() {
+        for (int i = 0; i < 20; i++) server.enqueue(new MockResponse().setBody(PROCESSING));
+
+        long start = System.nanoTime();
+        try (RequestContext.Scope scope = RequestContext.create().withTimeout(200).attach()) {
+            assertThrows(
+                    MeilisearchTimeoutException.class,
+                    () -> client.index("movies").waitForTask(1, 60_000, 50));
+        }
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(1_500L));
+    }
+
+    @Test
+    void tokenCancelledBeforeTheCallFailsFast() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+
+        try (RequestContext.Scope scope =
+                RequestContext.create().withCancellationToken(token).attach()) {
+            assertThrows(MeilisearchCancellationException.class, () -> client.getTask(1));
+        }
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+}
@@ -0,0 +1,103 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class DocumentBatcherTest {
+
+    private static List<DocumentBatch> batches(String json, int maxDocuments, long maxBytes) {
+        DocumentBatcher batcher = new DocumentBatcher(json, maxDocuments, maxBytes);
+        List<DocumentBatch> batches = new ArrayList<>();
+        while (batcher.hasNext()) {
+            batches.add(batcher.next());
+        }
+        return batches;
+    }
+
+    private static List<String> documents(List<DocumentBatch> batches) {
+        List<String> documents = new ArrayList<>();
+        for (DocumentBatch batch : batches) {
+            documents.add(batch.getDocuments());
+        }
+        return documents;
+    }
+
+    @Test
+    void cutsByDocumentCount() {
+        List<DocumentBatch> batches = batches("[{\"id\":1},{\"id\":2},{\"id\":3}]", 2, 0);
+
+        assertThat(documents(batches), contains("[{\"id\":1},{\"id\":2}]", "[{\"id\":3}]"));
+        assertThat(batches.get(0).getDocumentCount(), equalTo(2));
+        assertThat(batches.get(1).getDocumentCount(), equalTo(1));
+    }
+
+    @Test
+    void cutsByUtf8Size() {
+        String json = "[{\"t\":\"é\"},{\"t\":\"😀\"},{\"t\":\"a\"}]";
+
+        List<DocumentBatch> batches = batches(json, 0, 24);
+
+        assertThat(
+                documents(batches), contains("[{\"t\":\"é\"}]", "[{\"t\":\"😀\"},{\"t\":\"a\"}]"));
+        for (DocumentBatch batch : batches) {
+            assertThat(
+                    batch.getByteSize(),
+                    equalTo((long) batch.getDocuments().getBytes(StandardCharsets.UTF_8).length));
+        }
+    }
+
+    @Test
+    void reportsByteRangeOfEachBatch() {
+        String json = " [ {\"id\":\"é\"} , {\"id\":2} ]";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        List<DocumentBatch> batches = batches(json, 1, 0);
+
+        assertThat(batches, hasSize(2));
+        for (DocumentBatch batch : batches) {
+            String range =
+                    new String(
+                            bytes,
+                            (int) batch.getStartByte(),
+                            (int) (batch.getEndByte() - batch.getStartByte()),
+                            StandardCharsets.UTF_8);
+            assertThat("[" + range + "]", equalTo(batch.getDocuments()));
+        }
+    }
+
+    @Test
+    void skipsStringsAndNestedValues() {
+        String first = "{\"t\":\"a,]}\\\"b\",\"g\":[1,{\"x\":[2]}]}";
+
+        assertThat(
+                documents(batches("[" + first + ",{\"id\":2}]", 1, 0)),
+                contains("[" + first + "]", "[{\"id\":2}]"));
+    }
+
+    @Test
+    void sendsLargeDocumentAlone() {
+        assertThat(
+                documents(batches("[{\"id\":1,\"title\":\"long\"},{\"id\":2}]", 0, 10)),
+                contains("[{\"id\":1,\"title\":\"long\"}]", "[{\"id\":2}]"));
+    }
+
+    @Test
+    void emptyArrayHasNoBatch() {
+        assertThat(batches(" [ ] ", 1, 0), is(empty()));
+    }
+
+    @Test
+    void rejectsInvalidArrays() {
+        assertThrows(MeilisearchException.class, () -> batches("{\"id\":1}", 1, 0));
+        assertThrows(MeilisearchException.class, () -> batches("[{\"id\":1}", 1, 0));
+        assertThrows(MeilisearchException.class, () -> batches("[1,,2]", 1, 0));
+        assertThrows(MeilisearchException.class, () -> batches("[1] 2", 1, 0));
+    }
+}
@@ -0,0 +1,86 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.FileRequestBody;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DocumentFileSplitterTest {
+
+    private Path file;
+
+    @BeforeEach
+    void setup() throws Exception {
+        file = Files.createTempFile("documents", null);
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        Files.delete(file);
+    }
+
+    private List<String> split(String content, String contentType, long maxChunkBytes)
+            throws Exception {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        List<String> chunks = new ArrayList<>();
+        for (FileRequestBody chunk : DocumentFileSplitter.split(file, contentType, maxChunkBytes)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            chunk.writeTo(out);
+            assertThat(chunk.contentLength(), equalTo((long) out.size()));
+            assertThat(chunk.contentType(), equalTo(contentType));
+            chunks.add(out.toString("UTF-8"));
+        }
+        return chunks;
+    }
+
+    @Test
+    void splitsJsonArrayBetweenElements() throws Exception {
+        String json = "[{\"id\":1,\"title\":\"a,]\\\"b\"},{\"id\":2,\"genres\":[1,2]},{\"id\":3}]";
+
+        assertThat(
+                split(json, "application/json", 30),
+                contains(
+                        "[{\"id\":1,\"title\":\"a,]\\\"b\"}]",
+                        "[{\"id\":2,\"genres\":[1,2]}]",
+                        "[{\"id\":3}]"));
+        assertThat(split(json, "application/json", 1024), contains(json));
+    }
+
+    @Test
+    void sendsJsonObjectWhole() throws Exception {
+        assertThat(split("{\"id\":1}", "application/json", 1), contains("{\"id\":1}"));
+        assertThat(split("[ ]", "application/json", 1), is(empty()));
+    }
+
+    @Test
+    void splitsNdjsonOnLines() throws Exception {
+        assertThat(
+                split("{\"id\":1}\n{\"id\":2}\n{\"id\":3}", "application/x-ndjson", 20),
+                contains("{\"id\":1}\n{\"id\":2}\n", "{\"id\":3}"));
+    }
+
+    @Test
+    void splitsCsvOnRowsWithTheHeader() throws Exception {
+        assertThat(
+                split("id,title\n1,\"a\nb\"\n2,c\n3,d\n", "text/csv", 20),
+                contains("id,title\n1,\"a\nb\"\n", "id,title\n2,c\n3,d\n"));
+    }
+
+    @Test
+    void rejectsUnsupportedContentType() {
+        assertThrows(
+                MeilisearchException.class,
+                () -> DocumentFileSplitter.checkContentType("application/xml"));
+    }
+}
@@ -0,0 +1,60 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.model.TaskInfo;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DocumentsBatchesTest {
+
+    private MockWebServer server;
+    private Index index;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        index = new Client(new Config(server.url("/").toString(), "masterKey")).index("movies");
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueueTasks(int count) {
+        for (int i = 0; i < count; i++) {
+            server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+        }
+    }
+
+    @Test
+    void lastBatchOnlyHoldsItsOwnDocuments() throws Exception {
+        enqueueTasks(2);
+
+        TaskInfo[] tasks =
+                index.addDocumentsInBatches("[{\"id\":1},{\"id\":2},{\"id\":3}]", 2, null);
+
+        assertThat(tasks.length, equalTo(2));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("[{\"id\":1},{\"id\":2}]"));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("[{\"id\":3}]"));
+    }
+
+    @Test
+    void batchesAreBoundedInBytes() throws Exception {
+        enqueueTasks(2);
+
+        TaskInfo[] tasks =
+                index.updateDocumentsInBatches(
+                        "[{\"id\":1},{\"id\":2},{\"id\":3}]", null, 20, "id", null);
+
+        assertThat(tasks.length, equalTo(2));
+        assertThat(server.takeRequest().getMethod(), equalTo("PUT"));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("[{\"id\":3}]"));
+    }
+}
@@ -0,0 +1,115 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.http.Compression;
+import com.meilisearch.sdk.http.TransportOptions;
+import com.meilisearch.sdk.http.request.RequestOptions;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DocumentsCompressionTest {
+
+    private static final String DOCUMENTS = "[{\"id\":1,\"title\":\"Carol\"}]";
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private Index index(Compression compression, long threshold) {
+        TransportOptions options =
+                TransportOptions.builder()
+                        .compression(compression)
+                        .compressionThresholdBytes(threshold)
+                        .build();
+        return new Client(new Config(server.url("/").toString(), "masterKey", options))
+                .index("movies");
+    }
+
+    private void enqueueTask() {
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+    }
+
+    private static String read(InputStream in) throws Exception {
+        try (InputStream stream = in) {
+            return new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void addDocumentsIsGzippedWhenConfigured() throws Exception {
+        enqueueTask();
+
+        index(Compression.GZIP, 0).addDocuments(DOCUMENTS);
+
+        RecordedRequest req = server.takeRequest();
+        assertThat(req.getHeader("Content-Encoding"), equalTo("gzip"));
+        assertThat(read(new GZIPInputStream(req.getBody().inputStream())), equalTo(DOCUMENTS));
+    }
+
+    @Test
+    void bodyBelowThresholdIsNotCompressed() throws Exception {
+        enqueueTask();
+
+        index(Compression.GZIP, 1024).updateDocuments(DOCUMENTS);
+
+        RecordedRequest req = server.takeRequest();
+        assertThat(req.getHeader("Content-Encoding"), is(nullValue()));
+        assertThat(req.getBody().readUtf8(), equalTo(DOCUMENTS));
+    }
+
+    @Test
+    void requestOptionsOverrideConfig() throws Exception {
+        enqueueTask();
+
+        index(Compression.NONE, 0)
+                .addDocuments(
+                        DOCUMENTS,
+                        "id",
+                        null,
+                        null,
+                        RequestOptions.builder().compression(Compression.DEFLATE).build());
+
+        RecordedRequest req = server.takeRequest();
+        assertThat(req.getHeader("Content-Encoding"), equalTo("deflate"));
+        assertThat(read(new InflaterInputStream(req.getBody().inputStream())), equalTo(DOCUMENTS));
+    }
+
+    @Test
+    void batchesAreCompressed() throws Exception {
+        enqueueTask();
+        enqueueTask();
+
+        index(Compression.GZIP, 0).addDocumentsInBatches("[{\"id\":1},{\"id\":2}]", 1, "id");
+
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), equalTo("gzip"));
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), equalTo("gzip"));
+    }
+
+    @Test
+    void searchIsNeverCompressed() throws Exception {
+        server.enqueue(new MockResponse().setBody("{\"hits\":[]}").setResponseCode(200));
+
+        index(Compression.GZIP, 0).search("carol");
+
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is(nullValue()));
+    }
+}
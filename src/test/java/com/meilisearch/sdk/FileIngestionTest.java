@@ -0,0 +1,72 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.model.TaskInfo;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FileIngestionTest {
+
+    private MockWebServer server;
+    private Index index;
+    private Path file;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        index = new Client(new Config(server.url("/").toString(), "masterKey")).index("movies");
+        file = Files.createTempFile("movies", ".json");
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+        Files.delete(file);
+    }
+
+    private void enqueueTask() {
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+    }
+
+    @Test
+    void addsFileWithItsContentType() throws Exception {
+        enqueueTask();
+        String json = "[{\"id\":1},{\"id\":2}]";
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+
+        index.addDocuments(file, "application/json", "id");
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getMethod(), equalTo("POST"));
+        assertThat(request.getPath(), equalTo("//indexes/movies/documents?primaryKey=id"));
+        assertThat(request.getHeader("Content-Type"), startsWith("application/json"));
+        assertThat(request.getHeader("Content-Length"), equalTo(String.valueOf(json.length())));
+        assertThat(request.getBody().readUtf8(), equalTo(json));
+    }
+
+    @Test
+    void updatesFileInChunks() throws Exception {
+        enqueueTask();
+        enqueueTask();
+        Files.write(file, "{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+
+        TaskInfo[] tasks = index.updateDocumentsInBatches(file, "application/x-ndjson", 10, null);
+
+        assertThat(tasks.length, equalTo(2));
+        RecordedRequest first = server.takeRequest();
+        assertThat(first.getMethod(), equalTo("PUT"));
+        assertThat(first.getHeader("Content-Type"), startsWith("application/x-ndjson"));
+        assertThat(first.getBody().readUtf8(), equalTo("{\"id\":1}\n"));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("{\"id\":2}\n"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchCircuitOpenException;
+import com.meilisearch.sdk.http.CircuitBreakerPolicy;
+import com.meilisearch.sdk.http.HedgingPolicy;
+import com.meilisearch.sdk.http.RetryPolicy;
+import com.meilisearch.sdk.http.TransportOptions;
+import com.meilisearch.sdk.model.SearchResult;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgingTest {
+
+    private static final String INTERNAL =
+            "{\"message\":\"internal\",\"code\":\"internal\","
+                    + "\"type\":\"internal\",\"link\":\"\"}";
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private Client client(TransportOptions options) {
+        return new Client(new Config(server.url("/").toString(), "masterKey", options));
+    }
+
+    @Test
+    void slowSearchIsHedged() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder().minDelayMs(20).maxDelayMs(20).build();
+        Client client = client(TransportOptions.builder().hedgingPolicy(hedgingPolicy).build());
+        server.enqueue(
+                new MockResponse()
+                        .setBody("{\"hits\":[],\"query\":\"slow\"}")
+                        .setHeadersDelay(3, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setBody("{\"hits\":[],\"query\":\"fast\"}"));
+
+        long start = System.nanoTime();
+        SearchResult result = client.index("movies").search("carol");
+
+        assertThat(result.getQuery(), equalTo("fast"));
+        assertThat(server.getRequestCount(), equalTo(2));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(3_000L));
+    }
+
+    @Test
+    void fastSearchIsNotHedged() throws Exception {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder().minDelayMs(500).build();
+        Client client = client(TransportOptions.builder().hedgingPolicy(hedgingPolicy).build());
+        server.enqueue(new MockResponse().setBody("{\"hits\":[]}"));
+
+        client.index("movies").search("carol");
+        Thread.sleep(600);
+
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    void apiErrorIsNotHedged() {
+        HedgingPolicy hedgingPolicy = HedgingPolicy.builder().minDelayMs(500).build();
+        Client client =
+                client(
+                        TransportOptions.builder()
+                                .hedgingPolicy(hedgingPolicy)
+                                .retryPolicy(RetryPolicy.none())
+                                .build());
+        server.enqueue(new MockResponse().setBody(INTERNAL).setResponseCode(400));
+
+        assertThrows(MeilisearchApiException.class, () -> client.index("movies").search("carol"));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailures() {
+        Client client =
+                client(
+                        TransportOptions.builder()
+                                .retryPolicy(RetryPolicy.none())
+                                .circuitBreakerPolicy(
+                                        CircuitBreakerPolicy.builder().failureThreshold(2).build())
+                                .build());
+        server.enqueue(new MockResponse().setBody(INTERNAL).setResponseCode(500));
+        server.enqueue(new MockResponse().setBody(INTERNAL).setResponseCode(500));
+
+        assertThrows(MeilisearchApiException.class, () -> client.getTask(1));
+        assertThrows(MeilisearchApiException.class, () -> client.getTask(1));
+        assertThrows(MeilisearchCircuitOpenException.class, () -> client.getTask(1));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+}
@@ -0,0 +1,94 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.meilisearch.sdk.http.HostPool;
+import com.meilisearch.sdk.http.LoadBalancingPolicy;
+import com.meilisearch.sdk.http.RetryPolicy;
+import com.meilisearch.sdk.http.TransportOptions;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.Task;
+import java.util.Arrays;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MultiHostTest {
+
+    private MockWebServer first;
+    private MockWebServer second;
+
+    @BeforeEach
+    void setup() throws Exception {
+        first = new MockWebServer();
+        first.start();
+        second = new MockWebServer();
+        second.start();
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        first.shutdown();
+        second.shutdown();
+    }
+
+    private Config config() {
+        TransportOptions options =
+                TransportOptions.builder()
+                        .retryPolicy(
+                                RetryPolicy.builder().maxRetries(2).initialBackoffMs(1).build())
+                        .loadBalancingPolicy(
+                                LoadBalancingPolicy.builder()
+                                        .healthCheckIntervalMs(60_000)
+                                        .build())
+                        .build();
+        return new Config(
+                Arrays.asList(first.url("/").toString(), second.url("/").toString()),
+                "masterKey",
+                new GsonJsonHandler(),
+                new String[0],
+                options);
+    }
+
+    @Test
+    void firstHostIsTheDefaultHostUrl() {
+        Config config = config();
+
+        assertThat(config.getHostUrl(), equalTo(first.url("/").toString()));
+        assertThat(config.getHostUrls(), hasSize(2));
+    }
+
+    @Test
+    void retriesFailOverToAnotherHost() throws Exception {
+        first.shutdown();
+        for (int i = 0; i < 4; i++) second.enqueue(new MockResponse().setBody("{\"uid\":7}"));
+        Client client = new Client(config());
+
+        for (int i = 0; i < 4; i++) {
+            Task task = client.getTask(7);
+            assertThat(task.getUid(), equalTo(7));
+        }
+        assertThat(second.getRequestCount(), equalTo(4));
+    }
+
+    @Test
+    void healthCheckEjectsAndReadmitsHosts() {
+        Config config = config();
+        HostHealthChecker checker = new HostHealthChecker(config);
+        HostPool.Host host = config.getHostPool().getHosts().get(0);
+        first.enqueue(new MockResponse().setResponseCode(503).setBody("{}"));
+        second.enqueue(new MockResponse().setBody("{\"status\":\"available\"}"));
+
+        checker.run();
+        assertThat(host.isHealthy(), is(false));
+
+        first.enqueue(new MockResponse().setBody("{\"status\":\"available\"}"));
+        second.enqueue(new MockResponse().setBody("{\"status\":\"available\"}"));
+        checker.run();
+        assertThat(host.isHealthy(), is(true));
+        assertThat(config.getHostPool().getHosts().get(1).isHealthy(), is(true));
+    }
+}
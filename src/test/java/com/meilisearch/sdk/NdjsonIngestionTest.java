@@ -0,0 +1,111 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.utils.Movie;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NdjsonIngestionTest {
+
+    private MockWebServer server;
+    private Index index;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        index = new Client(new Config(server.url("/").toString(), "masterKey")).index("movies");
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueueTask() {
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+    }
+
+    private static Movie movie(String id, String title) {
+        Movie movie = new Movie();
+        movie.setId(id);
+        movie.setTitle(title);
+        return movie;
+    }
+
+    @Test
+    void iteratorIsEncodedOneDocumentPerLine() throws Exception {
+        enqueueTask();
+
+        TaskInfo task =
+                index.addDocumentsNdjson(
+                        Arrays.asList(movie("1", "Carol"), movie("2", "Wall-E")).iterator(), "id");
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(task.getTaskUid(), equalTo(1));
+        assertThat(request.getPath(), equalTo("//indexes/movies/documents?primaryKey=id"));
+        assertThat(request.getHeader("Content-Type"), startsWith("application/x-ndjson"));
+        assertThat(request.getHeader("Transfer-Encoding"), equalTo("chunked"));
+        assertThat(
+                request.getBody().readUtf8(),
+                equalTo(
+                        "{\"id\":\"1\",\"title\":\"Carol\"}\n"
+                                + "{\"id\":\"2\",\"title\":\"Wall-E\"}\n"));
+    }
+
+    @Test
+    void streamOfEncodedLinesIsSentAsIs() throws Exception {
+        enqueueTask();
+
+        index.addDocumentsNdjson(Stream.of("{\"id\":1}", "{\"id\":2}"));
+
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    void fileIsStreamedWithItsLength() throws Exception {
+        enqueueTask();
+        String content = "{\"id\":1}\n{\"id\":2}\n";
+        Path file = Files.createTempFile("movies", ".ndjson");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+
+            index.addDocumentsNdjson(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        RecordedRequest request = server.takeRequest();
+        assertThat(request.getHeader("Content-Length"), equalTo(String.valueOf(content.length())));
+        assertThat(request.getBody().readUtf8(), equalTo(content));
+    }
+
+    @Test
+    void iteratorIsNeverSentTwice() {
+        server.enqueue(
+                new MockResponse()
+                        .setResponseCode(503)
+                        .setBody(
+                                "{\"message\":\"unavailable\",\"code\":\"unavailable\","
+                                        + "\"type\":\"system\",\"link\":\"\"}"));
+
+        assertThrows(
+                MeilisearchApiException.class,
+                () -> index.addDocumentsNdjson(Stream.of("{\"id\":1}").iterator()));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+}
@@ -0,0 +1,102 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.batch.res.Batch;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PaginatedStreamsTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = new Client(new Config(server.url("/").toString(), "masterKey"));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueue(String body) {
+        server.enqueue(new MockResponse().setBody(body));
+    }
+
+    @Test
+    void streamsTasksFromTheUidFollowingEachPage() throws Exception {
+        enqueue("{\"results\":[{\"uid\":5},{\"uid\":4}],\"next\":3}");
+        enqueue("{\"results\":[{\"uid\":3}],\"next\":null}");
+        TasksQuery query = new TasksQuery().setStatuses(new String[] {"succeeded"});
+
+        Stream<Task> tasks = client.streamTasks(query, 2);
+
+        assertThat(server.getRequestCount(), equalTo(0));
+        List<Integer> uids = tasks.map(Task::getUid).collect(Collectors.toList());
+        assertThat(uids, contains(5, 4, 3));
+        assertThat(server.takeRequest().getPath(), equalTo("//tasks?limit=2&statuses=succeeded"));
+        assertThat(
+                server.takeRequest().getPath(),
+                equalTo("//tasks?limit=2&from=3&statuses=succeeded"));
+        assertThat(query.getLimit(), equalTo(-1));
+    }
+
+    @Test
+    void requestsTheNextPageBeforeTheCurrentOneIsConsumed() throws Exception {
+        enqueue("{\"results\":[{\"uid\":9},{\"uid\":8}],\"next\":7}");
+        enqueue("{\"results\":[{\"uid\":7}],\"next\":null}");
+
+        Iterator<Batch> batches = client.streamBatches(null, 2).iterator();
+
+        assertThat(batches.next().getUid(), equalTo(9));
+        RecordedRequest first = server.takeRequest(5, TimeUnit.SECONDS);
+        RecordedRequest second = server.takeRequest(5, TimeUnit.SECONDS);
+        assertThat(first.getPath(), equalTo("//batches?limit=2"));
+        assertThat(second.getPath(), equalTo("//batches?limit=2&from=7"));
+        assertThat(batches.next().getUid(), equalTo(8));
+        assertThat(batches.next().getUid(), equalTo(7));
+        assertThat(batches.hasNext(), is(false));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    void streamsIndexesUntilTheTotalIsReached() throws Exception {
+        enqueue("{\"results\":[{\"uid\":\"a\"},{\"uid\":\"b\"}],\"limit\":2,\"total\":3}");
+        enqueue("{\"results\":[{\"uid\":\"c\"}],\"offset\":2,\"limit\":2,\"total\":3}");
+
+        List<String> uids =
+                client.streamIndexes(2).map(Index::getUid).collect(Collectors.toList());
+
+        assertThat(uids, contains("a", "b", "c"));
+        assertThat(server.takeRequest().getPath(), equalTo("//indexes?limit=2&offset=0"));
+        assertThat(server.takeRequest().getPath(), equalTo("//indexes?limit=2&offset=2"));
+    }
+
+    @Test
+    void throwsTheFailureOfAPage() {
+        enqueue("{\"results\":[{\"uid\":5},{\"uid\":4}]}");
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        Stream<Task> tasks = client.streamTasks(null, 2);
+
+        assertThrows(MeilisearchException.class, () -> tasks.collect(Collectors.toList()));
+    }
+}
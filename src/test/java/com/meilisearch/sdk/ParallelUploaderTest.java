@@ -0,0 +1,305 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.http.request.HttpRequestBody;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+
+class ParallelUploaderTest {
+
+    /** Sender recording every batch and completing it only when told to */
+    private static class PendingSender
+            implements Function<HttpRequestBody, CompletableFuture<TaskInfo>> {
+        final List<String> batches = Collections.synchronizedList(new ArrayList<>());
+        final List<CompletableFuture<TaskInfo>> futures =
+                Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public CompletableFuture<TaskInfo> apply(HttpRequestBody body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                body.writeTo(out);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+            batches.add(out.toString());
+            CompletableFuture<TaskInfo> future = new CompletableFuture<>();
+            futures.add(future);
+            return future;
+        }
+
+        void completeAll() {
+            for (CompletableFuture<TaskInfo> future : new ArrayList<>(futures)) {
+                future.complete(new TaskInfo());
+            }
+        }
+    }
+
+    private static ParallelUploader<String> uploader(
+            ParallelUploadOptions options, PendingSender sender, BatchUpload upload) {
+        return new ParallelUploader<>(new GsonJsonHandler(), options, sender, upload);
+    }
+
+    private static String id(String document) {
+        return document.substring(document.indexOf(':') + 1, document.indexOf(','));
+    }
+
+    @Test
+    void writesToADocumentStayInOrder() {
+        PendingSender sender = new PendingSender();
+        BatchUpload upload = new BatchUpload(null);
+        ParallelUploadOptions options =
+                ParallelUploadOptions.builder().concurrency(2).batchSize(1).build();
+
+        uploader(options, sender, upload)
+                .upload(
+                        Arrays.asList(
+                                        "{\"id\":1,\"v\":1}",
+                                        "{\"id\":2,\"v\":1}",
+                                        "{\"id\":1,\"v\":2}",
+                                        "{\"id\":2,\"v\":2}")
+                                .iterator(),
+                        ParallelUploaderTest::id);
+
+        // one batch per lane is in flight, the second write to each document waits behind it
+        assertThat(sender.batches, hasSize(2));
+        assertThat(sender.batches, everyItem(containsString("\"v\":1")));
+
+        sender.completeAll();
+        sender.completeAll();
+
+        assertThat(sender.batches, hasSize(4));
+        assertThat(sender.batches.subList(2, 4), everyItem(containsString("\"v\":2")));
+        assertThat(upload.awaitUploaded(), hasSize(4));
+    }
+
+    @Test
+    void fillsBatchesUpToTheirSize() {
+        PendingSender sender = new PendingSender();
+        BatchUpload upload = new BatchUpload(null);
+        ParallelUploadOptions options =
+                ParallelUploadOptions.builder().concurrency(1).batchSize(2).build();
+
+        uploader(options, sender, upload)
+                .upload(Arrays.asList("{\"id\":1}", "{\"id\":2}", "{\"id\":3}").iterator(), null);
+        sender.completeAll();
+        sender.completeAll();
+
+        assertThat(sender.batches, contains("[{\"id\":1},{\"id\":2}]", "[{\"id\":3}]"));
+    }
+
+    @Test
+    void producerBlocksWhileTheByteBudgetIsUsed() throws Exception {
+        PendingSender sender = new PendingSender();
+        BatchUpload upload = new BatchUpload(null);
+        ParallelUploadOptions options =
+                ParallelUploadOptions.builder()
+                        .concurrency(4)
+                        .batchSize(1)
+                        .maxBytesInFlight(12)
+                        .build();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread producer =
+                new Thread(
+                        () -> {
+                            uploader(options, sender, upload)
+                                    .upload(
+                                            Stream.of("{\"id\":1}", "{\"id\":2}").iterator(),
+                                            null);
+                            done.countDown();
+                        });
+        producer.start();
+
+        assertThat(done.await(200, TimeUnit.MILLISECONDS), is(false));
+        assertThat(sender.batches, hasSize(1));
+
+        sender.completeAll();
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        sender.completeAll();
+        assertThat(upload.awaitUploaded(), hasSize(2));
+    }
+
+    @Test
+    void encodesBatchesOnTheEncoder() throws Exception {
+        PendingSender sender = new PendingSender();
+        BatchUpload upload = new BatchUpload(null);
+        ExecutorService encoder = Executors.newSingleThreadExecutor();
+        ParallelUploadOptions options =
+                ParallelUploadOptions.builder()
+                        .concurrency(1)
+                        .batchSize(3)
+                        .maxBatchBytes(20)
+                        .encoder(encoder)
+                        .build();
+
+        try {
+            uploader(options, sender, upload)
+                    .upload(
+                            Stream.of("{\"id\":1}", "{\"id\":2}", "{\"id\":3}", "{\"id\":4}")
+                                    .iterator(),
+                            null);
+            for (int sent = 1; sent <= 3; sent++) {
+                while (sender.futures.size() < sent) {
+                    Thread.sleep(10);
+                }
+                sender.completeAll();
+            }
+        } finally {
+            encoder.shutdown();
+        }
+
+        // the first three documents are encoded together, then split by maxBatchBytes
+        assertThat(upload.awaitUploaded(), hasSize(3));
+        assertThat(
+                sender.batches,
+                contains("[{\"id\":1},{\"id\":2}]", "[{\"id\":3}]", "[{\"id\":4}]"));
+    }
+
+    @Test
+    void producerBlocksWhileTheEncodingQueueIsFull() throws Exception {
+        PendingSender sender = new PendingSender();
+        BatchUpload upload = new BatchUpload(null);
+        ParallelUploadOptions options =
+                ParallelUploadOptions.builder()
+                        .concurrency(4)
+                        .batchSize(1)
+                        .encoder(Runnable::run)
+                        .maxQueuedBatches(1)
+                        .build();
+        CountDownLatch done = new CountDownLatch(1);
+
+        Thread producer =
+                new Thread(
+                        () -> {
+                            uploader(options, sender, upload)
+                                    .upload(
+                                            Stream.of("{\"id\":1}", "{\"id\":2}").iterator(),
+                                            null);
+                            done.countDown();
+                        });
+        producer.start();
+
+        assertThat(done.await(200, TimeUnit.MILLISECONDS), is(false));
+        assertThat(sender.batches, hasSize(1));
+
+        sender.completeAll();
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        sender.completeAll();
+        assertThat(upload.awaitUploaded(), hasSize(2));
+    }
+
+    @Test
+    void failureCompletesTheUploadExceptionally() {
+        PendingSender sender = new PendingSender();
+        BatchUpload upload = new BatchUpload(null);
+        ParallelUploadOptions options =
+                ParallelUploadOptions.builder().concurrency(1).batchSize(1).build();
+
+        uploader(options, sender, upload)
+                .upload(Stream.of("{\"id\":1}", "{\"id\":2}").iterator(), null);
+        sender.futures.get(0).completeExceptionally(new MeilisearchException("rejected"));
+
+        MeilisearchException e = assertThrows(MeilisearchException.class, upload::awaitUploaded);
+        assertThat(e.getMessage(), equalTo("rejected"));
+        // the batch queued behind the failure is never sent
+        assertThat(sender.batches, hasSize(1));
+    }
+
+    @Test
+    void indexUploadsThroughTheAsyncTransport() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            for (int i = 0; i < 3; i++) {
+                server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+            }
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"message\":\"bad\",\"code\":\"bad_request\","
+                                            + "\"type\":\"invalid_request\",\"link\":\"\"}")
+                            .setResponseCode(400));
+            Index index =
+                    new Client(new Config(server.url("/").toString(), "masterKey"))
+                            .index("movies");
+            ParallelUploadOptions options =
+                    ParallelUploadOptions.builder().concurrency(3).batchSize(1).build();
+
+            BatchUpload upload =
+                    index.addDocumentsInParallel(
+                            Stream.of("{\"id\":1}", "{\"id\":2}", "{\"id\":3}"),
+                            null,
+                            "id",
+                            options);
+
+            assertThat(upload.awaitUploaded(), hasSize(3));
+            assertThat(server.getRequestCount(), equalTo(3));
+            assertThat(
+                    server.takeRequest().getPath(),
+                    equalTo("//indexes/movies/documents?primaryKey=id"));
+
+            BatchUpload failed =
+                    index.updateDocumentsInParallel(
+                            Stream.of("{\"id\":1}"), null, null, options);
+
+            assertThrows(MeilisearchApiException.class, failed::awaitUploaded);
+        }
+    }
+
+    @Test
+    void waitsForTheTasksOfEveryBatchAtOnce() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            for (int uid = 1; uid <= 2; uid++) {
+                server.enqueue(
+                        new MockResponse()
+                                .setBody("{\"taskUid\":" + uid + "}")
+                                .setResponseCode(202));
+            }
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"results\":[{\"uid\":1,\"status\":\"succeeded\"},"
+                                            + "{\"uid\":2,\"status\":\"failed\"}]}"));
+            Index index =
+                    new Client(new Config(server.url("/").toString(), "masterKey"))
+                            .index("movies");
+            ParallelUploadOptions options =
+                    ParallelUploadOptions.builder().concurrency(1).batchSize(1).build();
+
+            BatchUpload upload =
+                    index.addDocumentsInParallel(
+                            Stream.of("{\"id\":1}", "{\"id\":2}"), null, "id", options);
+
+            List<Task> tasks = upload.waitForTasks(5000, 10);
+            assertThat(tasks, hasSize(2));
+            assertThat(tasks.get(0).getStatus(), equalTo(TaskStatus.SUCCEEDED));
+            assertThat(tasks.get(1).getStatus(), equalTo(TaskStatus.FAILED));
+            assertThat(server.getRequestCount(), equalTo(3));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.http.RetryPolicy;
+import com.meilisearch.sdk.http.TransportOptions;
+import com.meilisearch.sdk.http.request.RequestOptions;
+import com.meilisearch.sdk.model.SearchResult;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RetryTest {
+
+    private static final String UNAVAILABLE =
+            "{\"message\":\"unavailable\",\"code\":\"unavailable\","
+                    + "\"type\":\"system\",\"link\":\"\"}";
+
+    private MockWebServer server;
+    private Client client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        RetryPolicy retryPolicy =
+                RetryPolicy.builder().maxRetries(2).initialBackoffMs(1).maxBackoffMs(5).build();
+        TransportOptions options = TransportOptions.builder().retryPolicy(retryPolicy).build();
+        client = new Client(new Config(server.url("/").toString(), "masterKey", options));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueueError(int code) {
+        server.enqueue(new MockResponse().setBody(UNAVAILABLE).setResponseCode(code));
+    }
+
+    @Test
+    void getIsRetriedOnServiceUnavailable() {
+        enqueueError(503);
+        server.enqueue(new MockResponse().setBody("{\"uid\":7}").setResponseCode(200));
+
+        Task task = client.getTask(7);
+
+        assertThat(task.getUid(), equalTo(7));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    void searchIsRetriedAfterRetryAfter() {
+        server.enqueue(
+                new MockResponse()
+                        .setBody(UNAVAILABLE)
+                        .setResponseCode(429)
+                        .addHeader("Retry-After", "0"));
+        server.enqueue(new MockResponse().setBody("{\"hits\":[]}").setResponseCode(200));
+
+        SearchResult result = client.index("movies").search("carol");
+
+        assertThat(result.getHits(), hasSize(0));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    void documentWritesAreNotRetriedByDefault() {
+        enqueueError(503);
+
+        assertThrows(
+                MeilisearchApiException.class,
+                () -> client.index("movies").addDocuments("[{\"id\":1}]"));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    void documentWritesAreRetriedWhenIdempotent() throws Exception {
+        enqueueError(502);
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+
+        TaskInfo task =
+                client.index("movies")
+                        .addDocuments(
+                                "[{\"id\":1}]",
+                                "id",
+                                null,
+                                null,
+                                RequestOptions.builder().idempotent(true).build());
+
+        assertThat(task.getTaskUid(), equalTo(1));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("[{\"id\":1}]"));
+        assertThat(server.takeRequest().getBody().readUtf8(), equalTo("[{\"id\":1}]"));
+    }
+
+    @Test
+    void lastErrorIsThrownOnceRetriesAreExhausted() {
+        enqueueError(503);
+        enqueueError(503);
+        enqueueError(503);
+
+        MeilisearchApiException e =
+                assertThrows(MeilisearchApiException.class, () -> client.getTask(7));
+
+        assertThat(e.getCode(), equalTo("unavailable"));
+        assertThat(server.getRequestCount(), equalTo(3));
+    }
+
+    @Test
+    void clientErrorsAreNotRetried() {
+        enqueueError(404);
+
+        assertThrows(MeilisearchApiException.class, () -> client.getTask(7));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    void asyncRequestsAreRetried() {
+        enqueueError(504);
+        server.enqueue(new MockResponse().setBody("{\"uid\":7}").setResponseCode(200));
+
+        Task task = client.getTaskAsync(7).join();
+
+        assertThat(task.getUid(), equalTo(7));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+}
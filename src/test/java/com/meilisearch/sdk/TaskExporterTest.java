@@ -0,0 +1,164 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.model.TasksQuery;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+class TaskExporterTest {
+
+    private static final TasksQuery LAST_DAYS =
+            new TasksQuery().setAfterEnqueuedAt(new Date(System.currentTimeMillis() - 86_400_000));
+
+    private static final TaskExportOptions TWO_SLICES =
+            TaskExportOptions.builder().slices(2).parallelism(2).pageSize(2).build();
+
+    private static TaskExporter exporter(int slices) {
+        TaskExportOptions options = TaskExportOptions.builder().slices(slices).pageSize(2).build();
+        return new TaskExporter(null, options);
+    }
+
+    @Test
+    void slicesTheRangeOnWholeSecondsWithAnOverlap() {
+        TasksQuery query =
+                new TasksQuery()
+                        .setStatuses(new String[] {"succeeded"})
+                        .setAfterEnqueuedAt(new Date(0))
+                        .setBeforeEnqueuedAt(new Date(10_000));
+
+        List<TasksQuery> slices = exporter(4).slice(query, new Date());
+
+        assertThat(slices, hasSize(4));
+        long[][] bounds = {{0, 2000}, {1000, 5000}, {4000, 7000}, {6000, 10_000}};
+        for (int i = 0; i < 4; i++) {
+            TasksQuery slice = slices.get(i);
+            assertThat(slice.getAfterEnqueuedAt().getTime(), equalTo(bounds[i][0]));
+            assertThat(slice.getBeforeEnqueuedAt().getTime(), equalTo(bounds[i][1]));
+            assertThat(slice.getStatuses(), arrayContaining("succeeded"));
+            assertThat(slice.getReverse(), is(true));
+            assertThat(slice.getLimit(), equalTo(2));
+        }
+        assertThat(query.getReverse(), nullValue());
+    }
+
+    @Test
+    void neverSlicesBelowASecond() {
+        TasksQuery query = new TasksQuery().setAfterEnqueuedAt(new Date(0));
+
+        List<TasksQuery> slices = exporter(8).slice(query, new Date(1500));
+
+        assertThat(slices, hasSize(1));
+        assertThat(slices.get(0).getBeforeEnqueuedAt(), nullValue());
+    }
+
+    @Test
+    void requiresTheStartOfTheRange() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> exporter(8).slice(new TasksQuery(), new Date()));
+    }
+
+    /**
+     * Serves two slices: the first one holds tasks 0 to 2 over two pages, and the second one
+     * overlaps it with task 2 before holding task 3
+     */
+    private static MockWebServer slicedServer() throws Exception {
+        return slicedServer(new CountDownLatch(0));
+    }
+
+    /**
+     * Serves two slices as {@link #slicedServer()} does, answering the second page of the first
+     * slice once a latch is released, or after 5 seconds
+     */
+    private static MockWebServer slicedServer(CountDownLatch secondPage) throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.setDispatcher(
+                new Dispatcher() {
+                    @Override
+                    public MockResponse dispatch(RecordedRequest request)
+                            throws InterruptedException {
+                        String path = request.getPath();
+                        String results;
+                        if (path.contains("beforeEnqueuedAt") && path.contains("from=")) {
+                            secondPage.await(5, TimeUnit.SECONDS);
+                            results = "{\"uid\":2}";
+                        } else if (path.contains("beforeEnqueuedAt")) {
+                            results = "{\"uid\":0},{\"uid\":1}";
+                        } else {
+                            results = path.contains("from=") ? "" : "{\"uid\":2},{\"uid\":3}";
+                        }
+                        return new MockResponse().setBody("{\"results\":[" + results + "]}");
+                    }
+                });
+        server.start();
+        return server;
+    }
+
+    @Test
+    void exportsEveryTaskOnceInUidOrder() throws Exception {
+        try (MockWebServer server = slicedServer()) {
+            Client client = new Client(new Config(server.url("/").toString(), "masterKey"));
+            List<Integer> uids = new ArrayList<>();
+
+            long count = client.exportTasks(LAST_DAYS, TWO_SLICES, task -> uids.add(task.getUid()));
+
+            assertThat(count, equalTo(4L));
+            assertThat(uids, contains(0, 1, 2, 3));
+            assertThat(server.getRequestCount(), equalTo(4));
+        }
+    }
+
+    @Test
+    void deliversThePagesOfASliceAsTheyArrive() throws Exception {
+        CountDownLatch secondPage = new CountDownLatch(1);
+        try (MockWebServer server = slicedServer(secondPage)) {
+            Client client = new Client(new Config(server.url("/").toString(), "masterKey"));
+            TaskExportOptions options = TWO_SLICES.toBuilder().maxBufferedPages(1).build();
+            List<Long> pendingAtDelivery = new ArrayList<>();
+
+            long count =
+                    client.exportTasks(
+                            LAST_DAYS,
+                            options,
+                            task -> {
+                                pendingAtDelivery.add(secondPage.getCount());
+                                secondPage.countDown();
+                            });
+
+            assertThat(count, equalTo(4L));
+            // the first task was delivered while the second page was still being fetched
+            assertThat(pendingAtDelivery.get(0), equalTo(1L));
+        }
+    }
+
+    @Test
+    void exportsTasksToAnNdjsonFile() throws Exception {
+        Path file = Files.createTempFile("tasks", ".ndjson");
+        try (MockWebServer server = slicedServer()) {
+            Client client = new Client(new Config(server.url("/").toString(), "masterKey"));
+
+            long count = client.exportTasks(LAST_DAYS, TWO_SLICES, file);
+
+            List<String> lines = Files.readAllLines(file);
+            assertThat(count, equalTo(4L));
+            assertThat(lines, hasSize(4));
+            assertThat(lines.get(0), containsString("\"uid\":0"));
+            assertThat(lines.get(3), containsString("\"uid\":3"));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskQueueThrottleTest {
+
+    private MockWebServer server;
+    private Client client;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        client = new Client(new Config(server.url("/").toString(), "masterKey"));
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueueCounts(int... totals) {
+        for (int total : totals) {
+            server.enqueue(
+                    new MockResponse()
+                            .setBody("{\"results\":[],\"limit\":1,\"total\":" + total + "}"));
+        }
+    }
+
+    @Test
+    void pausesAboveTheHighWaterMarkUntilTheLowWaterMark() throws Exception {
+        enqueueCounts(150, 80, 40);
+        TaskQueueThrottle throttle =
+                client.taskQueueThrottle(
+                        TaskQueueThrottleOptions.builder()
+                                .highWaterMark(100)
+                                .lowWaterMark(50)
+                                .pollIntervalMs(1)
+                                .indexUids(new String[] {"movies"})
+                                .build());
+
+        throttle.awaitCapacity();
+
+        // 80 tasks are below the high-water mark but above the low one, so the pause goes on
+        assertThat(server.getRequestCount(), equalTo(3));
+        assertThat(throttle.isPaused(), is(false));
+        assertThat(throttle.getQueuedTasks(), equalTo(40));
+        String path = server.takeRequest().getPath();
+        assertThat(path, startsWith("//tasks?limit=1"));
+        assertThat(path, containsString("statuses=enqueued,processing"));
+        assertThat(path, containsString("indexUids=movies"));
+    }
+
+    @Test
+    void countsTheTasksAtMostOncePerInterval() {
+        enqueueCounts(10);
+        TaskQueueThrottle throttle =
+                client.taskQueueThrottle(
+                        TaskQueueThrottleOptions.builder().pollIntervalMs(60_000).build());
+
+        throttle.awaitCapacity();
+        throttle.awaitCapacity();
+
+        assertThat(server.getRequestCount(), equalTo(1));
+        assertThat(throttle.getQueuedTasks(), equalTo(10));
+    }
+
+    @Test
+    void producersKeepWritingWhileAnotherOneCountsTheTasks() throws Exception {
+        enqueueCounts(10);
+        server.enqueue(
+                new MockResponse()
+                        .setBody("{\"results\":[],\"limit\":1,\"total\":10}")
+                        .setHeadersDelay(1, TimeUnit.SECONDS));
+        TaskQueueThrottle throttle =
+                client.taskQueueThrottle(
+                        TaskQueueThrottleOptions.builder().pollIntervalMs(50).build());
+        throttle.awaitCapacity();
+        Thread.sleep(100);
+
+        Thread counting = new Thread(throttle::awaitCapacity);
+        counting.start();
+        while (server.getRequestCount() < 2) {
+            Thread.sleep(10);
+        }
+        long start = System.nanoTime();
+        throttle.awaitCapacity();
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        counting.join();
+
+        assertThat(waitedMs, lessThan(500L));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    void pausesParallelUploads() throws Exception {
+        enqueueCounts(20_000, 0);
+        server.enqueue(new MockResponse().setBody("{\"taskUid\":1}").setResponseCode(202));
+        TaskQueueThrottle throttle =
+                client.taskQueueThrottle(
+                        TaskQueueThrottleOptions.builder().pollIntervalMs(1).build());
+        ParallelUploadOptions options = ParallelUploadOptions.builder().throttle(throttle).build();
+
+        BatchUpload upload =
+                client.index("movies")
+                        .addDocumentsInParallel(Stream.of("{\"id\":1}"), null, null, options);
+
+        assertThat(upload.awaitUploaded(), hasSize(1));
+        assertThat(server.takeRequest().getPath(), startsWith("//tasks"));
+        assertThat(server.takeRequest().getPath(), startsWith("//tasks"));
+        assertThat(server.takeRequest().getPath(), equalTo("//indexes/movies/documents"));
+    }
+}
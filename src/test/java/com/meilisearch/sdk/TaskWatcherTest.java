@@ -0,0 +1,192 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskWatcherTest {
+
+    private MockWebServer server;
+    private TaskWatcher watcher;
+
+    @BeforeEach
+    void setup() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        Config config = new Config(server.url("/").toString(), "masterKey");
+        watcher =
+                new TaskWatcher(
+                        new TasksHandler(config),
+                        TaskWatcherOptions.builder().minIntervalMs(200).maxIntervalMs(400).build());
+    }
+
+    @AfterEach
+    void teardown() throws Exception {
+        server.shutdown();
+    }
+
+    private void enqueueTasks(String... tasks) {
+        server.enqueue(
+                new MockResponse().setBody("{\"results\":[" + String.join(",", tasks) + "]}"));
+    }
+
+    private static String task(int uid, String status) {
+        return "{\"uid\":" + uid + ",\"status\":\"" + status + "\"}";
+    }
+
+    @Test
+    void pollsEveryWatchedTaskAtOnce() throws Exception {
+        enqueueTasks(task(1, "succeeded"), task(2, "processing"));
+        enqueueTasks(task(2, "failed"));
+
+        CompletableFuture<Task> first = watcher.watch(1);
+        CompletableFuture<Task> second = watcher.watch(2);
+
+        assertThat(first.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.SUCCEEDED));
+        assertThat(second.isDone(), is(false));
+        assertThat(second.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.FAILED));
+
+        RecordedRequest both = server.takeRequest();
+        assertThat(both.getPath(), startsWith("//tasks?limit=2"));
+        assertThat(both.getPath(), containsString("uids=1,2"));
+        assertThat(server.takeRequest().getPath(), equalTo("//tasks?limit=1&uids=2"));
+        assertThat(watcher.getWatchedTasks(), equalTo(0));
+    }
+
+    @Test
+    void sharesThePollOfATask() throws Exception {
+        enqueueTasks(task(1, "succeeded"));
+
+        CompletableFuture<Task> future = watcher.watch(1);
+        CompletableFuture<Task> other = watcher.watch(1);
+        other.cancel(false);
+
+        assertThat(other, not(sameInstance(future)));
+        assertThat(future.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.SUCCEEDED));
+        assertThat(server.getRequestCount(), equalTo(1));
+    }
+
+    @Test
+    void completesTheFuturesOutsideOfThePollingThread() throws Exception {
+        enqueueTasks(task(1, "succeeded"));
+
+        String thread =
+                watcher.watch(1)
+                        .thenApply(task -> Thread.currentThread().getName())
+                        .get(5, TimeUnit.SECONDS);
+
+        assertThat(thread, not(equalTo("meilisearch-task-watcher")));
+    }
+
+    @Test
+    void watchesAProcessedTaskAgain() throws Exception {
+        enqueueTasks(task(1, "succeeded"));
+        enqueueTasks(task(1, "succeeded"));
+
+        watcher.watch(1).get(5, TimeUnit.SECONDS);
+        Task task = watcher.watch(1).get(5, TimeUnit.SECONDS);
+
+        assertThat(task.getStatus(), equalTo(TaskStatus.SUCCEEDED));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    void stopsPollingOnceEveryCallerCancelled() throws Exception {
+        CompletableFuture<Task> future = watcher.watch(1);
+        CompletableFuture<Task> other = watcher.watch(1);
+
+        future.cancel(false);
+        assertThat(watcher.getWatchedTasks(), equalTo(1));
+        other.cancel(false);
+        assertThat(watcher.getWatchedTasks(), equalTo(0));
+
+        Thread.sleep(500);
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    void failsTheFutureOfAnUnknownTask() {
+        enqueueTasks();
+
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> watcher.watch(42).get(5, TimeUnit.SECONDS));
+
+        assertThat(e.getCause(), instanceOf(MeilisearchException.class));
+        assertThat(e.getCause().getMessage(), equalTo("Task 42 not found"));
+    }
+
+    @Test
+    void failsTheFuturesOnceMeilisearchRejectsAPoll() {
+        server.enqueue(
+                new MockResponse()
+                        .setResponseCode(403)
+                        .setBody(
+                                "{\"message\":\"The provided API key is invalid.\","
+                                        + "\"code\":\"invalid_api_key\",\"type\":\"auth\"}"));
+
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class, () -> watcher.watch(1).get(5, TimeUnit.SECONDS));
+
+        assertThat(e.getCause(), instanceOf(MeilisearchApiException.class));
+        assertThat(watcher.getWatchedTasks(), equalTo(0));
+    }
+
+    @Test
+    void failsTheFuturesAfterConsecutiveFailedPolls() throws Exception {
+        TaskWatcher failing =
+                new TaskWatcher(
+                        new TasksHandler(new Config(server.url("/").toString(), "masterKey")),
+                        TaskWatcherOptions.builder()
+                                .minIntervalMs(10)
+                                .maxIntervalMs(10)
+                                .maxConsecutiveFailures(2)
+                                .build());
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+
+        assertThrows(ExecutionException.class, () -> failing.watch(1).get(5, TimeUnit.SECONDS));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+
+    @Test
+    void stopsWatchingATaskAfterItsTimeout() throws Exception {
+        CompletableFuture<Task> future = watcher.watch(1, 50);
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+        assertThat(e.getCause(), instanceOf(TimeoutException.class));
+        assertThat(watcher.getWatchedTasks(), equalTo(0));
+        Thread.sleep(300);
+        assertThat(server.getRequestCount(), equalTo(0));
+    }
+
+    @Test
+    void keepsWatchingAfterAFailedPoll() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        enqueueTasks(task(1, "canceled"));
+
+        Task task = watcher.watch(1).get(5, TimeUnit.SECONDS);
+
+        assertThat(task.getStatus(), equalTo(TaskStatus.CANCELED));
+        assertThat(server.getRequestCount(), equalTo(2));
+    }
+}
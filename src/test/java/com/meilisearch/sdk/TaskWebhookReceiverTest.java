@@ -0,0 +1,104 @@
+package com.meilisearch.sdk;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+class TaskWebhookReceiverTest {
+
+    private static final String UUID = "627ea538-733d-4545-8d2d-03526eb381ce";
+
+    private static int post(String url, String authorization, String ndjson) throws Exception {
+        ByteArrayOutputStream gzipped = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+            out.write(ndjson.getBytes(StandardCharsets.UTF_8));
+        }
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Authorization", authorization);
+        connection.setRequestProperty("Content-Encoding", "gzip");
+        connection.setRequestProperty("Content-Type", "application/x-ndjson");
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(gzipped.toByteArray());
+        }
+        return connection.getResponseCode();
+    }
+
+    @Test
+    void completesWatchedTasksFromTheWebhook() throws Exception {
+        try (MockWebServer server = new MockWebServer()) {
+            server.start();
+            server.enqueue(
+                    new MockResponse()
+                            .setBody(
+                                    "{\"uuid\":\""
+                                            + UUID
+                                            + "\",\"url\":\"\",\"headers\":{},"
+                                            + "\"isEditable\":true}"));
+            server.enqueue(new MockResponse().setResponseCode(204));
+            Client client = new Client(new Config(server.url("/").toString(), "masterKey"));
+
+            TaskWebhookReceiver receiver =
+                    client.startTaskWebhookReceiver(
+                            TaskWebhookReceiverOptions.builder()
+                                    .fallbackIntervalMs(60_000)
+                                    .maxFallbackIntervalMs(60_000)
+                                    .build());
+            RecordedRequest created = server.takeRequest();
+            JsonObject webhook =
+                    JsonParser.parseString(created.getBody().readUtf8()).getAsJsonObject();
+            String url = webhook.get("url").getAsString();
+            String authorization =
+                    webhook.getAsJsonObject("headers").get("Authorization").getAsString();
+
+            assertThat(created.getPath(), equalTo("//webhooks"));
+            assertThat(url, equalTo(receiver.getUrl()));
+            assertThat(url, startsWith("http://127.0.0.1:"));
+            assertThat(authorization, startsWith("Bearer "));
+            assertThat(receiver.getWebhook().getUuid().toString(), equalTo(UUID));
+
+            CompletableFuture<Task> first = receiver.watch(1);
+            CompletableFuture<Task> second = receiver.watch(2);
+
+            String succeeded = "{\"uid\":1,\"status\":\"succeeded\"}\n";
+            assertThat(post(url, "Bearer wrong", succeeded), equalTo(401));
+            assertThat(post(url, authorization + "x", succeeded), equalTo(401));
+            assertThat(
+                    post(
+                            url,
+                            authorization,
+                            succeeded
+                                    + "{\"uid\":2,\"status\":\"processing\"}\n"
+                                    + "{\"uid\":3,\"status\":\"failed\"}\n"),
+                    equalTo(204));
+
+            assertThat(first.get(5, TimeUnit.SECONDS).getStatus(), equalTo(TaskStatus.SUCCEEDED));
+            assertThat(second.isDone(), is(false));
+
+            receiver.close();
+
+            RecordedRequest deleted = server.takeRequest(5, TimeUnit.SECONDS);
+            assertThat(deleted.getMethod(), equalTo("DELETE"));
+            assertThat(deleted.getPath(), equalTo("//webhooks/" + UUID));
+            // no task was polled while the webhook delivered them
+            assertThat(server.getRequestCount(), equalTo(2));
+        }
+    }
+}
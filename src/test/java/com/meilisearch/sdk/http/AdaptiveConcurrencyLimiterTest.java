@@ -0,0 +1,108 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchConcurrencyLimitException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit, long maxWaitMs) {
+        return new AdaptiveConcurrencyLimiter(
+                ConcurrencyLimit.builder()
+                        .initialLimit(initialLimit)
+                        .minLimit(1)
+                        .maxLimit(10)
+                        .backoffRatio(0.5)
+                        .maxWaitMs(maxWaitMs)
+                        .build());
+    }
+
+    @Test
+    void limitGrowsWhileSaturated() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+
+        limiter.acquireBlocking();
+        limiter.acquireBlocking();
+        limiter.release(0, false);
+
+        assertThat(limiter.getLimit(), equalTo(3));
+        assertThat(limiter.getInFlight(), equalTo(1));
+    }
+
+    @Test
+    void limitDoesNotGrowWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 0);
+
+        limiter.acquireBlocking();
+        limiter.release(0, false);
+
+        assertThat(limiter.getLimit(), equalTo(8));
+    }
+
+    @Test
+    void limitShrinksOnOverloadDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(8, 0);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquireBlocking();
+            limiter.release(0, true);
+        }
+
+        assertThat(limiter.getLimit(), equalTo(1));
+    }
+
+    @Test
+    void slowRequestsSignalOverload() {
+        AdaptiveConcurrencyLimiter limiter =
+                new AdaptiveConcurrencyLimiter(
+                        ConcurrencyLimit.builder()
+                                .initialLimit(4)
+                                .backoffRatio(0.5)
+                                .latencyThresholdMs(100)
+                                .build());
+
+        limiter.acquireBlocking();
+        limiter.release(200_000_000L, false);
+
+        assertThat(limiter.getLimit(), equalTo(2));
+    }
+
+    @Test
+    void failsFastAtTheLimitWithoutQueue() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 0);
+        limiter.acquireBlocking();
+
+        assertThrows(MeilisearchConcurrencyLimitException.class, limiter::acquireBlocking);
+    }
+
+    @Test
+    void queuedRequestIsGrantedOnRelease() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10_000);
+        limiter.acquireBlocking();
+
+        CompletableFuture<Void> queued = limiter.acquire();
+        assertThat(queued.isDone(), is(false));
+
+        limiter.release(0, true);
+
+        assertThat(queued.isDone(), is(true));
+        assertThat(limiter.getInFlight(), equalTo(1));
+    }
+
+    @Test
+    void queuedRequestTimesOut() {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 10);
+        limiter.acquireBlocking();
+
+        CompletionException e = assertThrows(CompletionException.class, limiter.acquire()::join);
+
+        assertThat(e.getCause(), instanceOf(MeilisearchConcurrencyLimitException.class));
+        limiter.release(0, false);
+        assertThat(limiter.getInFlight(), equalTo(0));
+    }
+}
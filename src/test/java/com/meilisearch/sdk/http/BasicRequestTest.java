@@ -3,12 +3,15 @@ package com.meilisearch.sdk.http;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 import com.meilisearch.sdk.http.request.BasicRequest;
 import com.meilisearch.sdk.http.request.HttpMethod;
 import com.meilisearch.sdk.http.request.HttpRequest;
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.utils.Movie;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
@@ -52,4 +55,27 @@ class BasicRequestTest {
         assertThat(httpRequest.getPath(), is(equalTo("/")));
         assertThat(httpRequest.getMethod(), is(equalTo(HttpMethod.GET)));
     }
+
+    @Test
+    void contentClassIsStreamed() {
+        HttpRequest httpRequest =
+                request.create(
+                        HttpMethod.POST,
+                        "/",
+                        Collections.emptyMap(),
+                        new Movie("thisisanid", "thisisatitle"));
+
+        assertThat(httpRequest.getBody(), is(notNullValue()));
+        assertThat(
+                new String(httpRequest.getContentAsBytes(), StandardCharsets.UTF_8),
+                is(equalTo("{\"id\":\"thisisanid\",\"title\":\"thisisatitle\"}")));
+    }
+
+    @Test
+    void contentStringIsNotStreamed() {
+        HttpRequest httpRequest =
+                request.create(HttpMethod.POST, "/", Collections.emptyMap(), "thisisatest");
+
+        assertThat(httpRequest.getBody(), is(nullValue()));
+    }
 }
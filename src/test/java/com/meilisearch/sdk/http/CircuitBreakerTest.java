@@ -0,0 +1,84 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker breaker =
+            new CircuitBreaker(
+                    CircuitBreakerPolicy.builder().failureThreshold(2).openMs(1_000).build(),
+                    now::get);
+
+    private void elapse(long ms) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(ms));
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.onFailure();
+        assertThat(breaker.tryAcquire(), is(true));
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState(), equalTo(CircuitBreaker.State.OPEN));
+        assertThat(breaker.tryAcquire(), is(false));
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+
+        assertThat(breaker.getState(), equalTo(CircuitBreaker.State.CLOSED));
+    }
+
+    @Test
+    void letsASingleProbeThroughAfterCoolDown() {
+        breaker.onFailure();
+        breaker.onFailure();
+        elapse(1_000);
+
+        assertThat(breaker.getState(), equalTo(CircuitBreaker.State.HALF_OPEN));
+        assertThat(breaker.tryAcquire(), is(true));
+        assertThat(breaker.tryAcquire(), is(false));
+
+        breaker.onSuccess();
+
+        assertThat(breaker.getState(), equalTo(CircuitBreaker.State.CLOSED));
+        assertThat(breaker.tryAcquire(), is(true));
+    }
+
+    @Test
+    void failedProbeOpensTheCircuitAgain() {
+        breaker.onFailure();
+        breaker.onFailure();
+        elapse(1_000);
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+
+        assertThat(breaker.getState(), equalTo(CircuitBreaker.State.OPEN));
+        elapse(999);
+        assertThat(breaker.tryAcquire(), is(false));
+    }
+
+    @Test
+    void cancelledProbeLetsAnotherOneThrough() {
+        breaker.onFailure();
+        breaker.onFailure();
+        elapse(1_000);
+        breaker.tryAcquire();
+
+        breaker.cancel();
+
+        assertThat(breaker.tryAcquire(), is(true));
+    }
+}
@@ -15,6 +15,7 @@ import com.meilisearch.sdk.http.response.HttpResponse;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.HashMap;
@@ -120,6 +121,22 @@ class CustomOkHttpClientTest {
                 equalTo(this.config.getHostUrl() + request.getPath()));
     }
 
+    @Test
+    void postStreamedBody() throws Exception {
+        HttpRequest request =
+                new HttpRequest(HttpMethod.POST, "/test", Collections.emptyMap(), null);
+        request.setBody(out -> out.write("{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+        HttpResponse<Object> response = classToTest.post(request);
+
+        assertThat(response.getStatusCode(), equalTo(200));
+
+        Request expectedRequest = requestQueue.poll();
+        assertThat(expectedRequest, notNullValue());
+        assertThat(expectedRequest.body().contentType(), equalTo(JSON));
+        assertThat(expectedRequest.body().contentLength(), equalTo(-1L));
+        assertThat(readBody(expectedRequest.body()), equalTo("{\"id\":1}"));
+    }
+
     @Test
     void postWithoutBody() throws Exception {
         HttpRequest request =
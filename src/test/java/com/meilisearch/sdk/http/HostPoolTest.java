@@ -0,0 +1,92 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class HostPoolTest {
+
+    private final HostPool pool =
+            new HostPool(
+                    Arrays.asList("http://a:7700", "http://b:7700"),
+                    LoadBalancingPolicy.builder().ejectAfterFailures(2).build());
+    private final HostPool.Host a = pool.getHosts().get(0);
+    private final HostPool.Host b = pool.getHosts().get(1);
+
+    private void complete(HostPool.Host host, long latencyMs, boolean failed) {
+        pool.onComplete(host, TimeUnit.MILLISECONDS.toNanos(latencyMs), failed);
+    }
+
+    @Test
+    void requiresAHost() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new HostPool(Collections.emptyList(), LoadBalancingPolicy.defaults()));
+    }
+
+    @Test
+    void prefersTheFastestHost() {
+        complete(a, 500, false);
+        complete(b, 5, false);
+
+        for (int i = 0; i < 10; i++) {
+            HostPool.Host host = pool.select(h -> true);
+            assertThat(host, sameInstance(b));
+            pool.cancel(host);
+        }
+    }
+
+    @Test
+    void countsRequestsInFlight() {
+        HostPool.Host host = pool.select(h -> true);
+        assertThat(host.getInFlight(), equalTo(1));
+
+        pool.onComplete(host, 0, false);
+
+        assertThat(host.getInFlight(), equalTo(0));
+    }
+
+    @Test
+    void failuresArePenalized() {
+        complete(a, 5, true);
+
+        assertThat(a.getEwmaMs(), equalTo(1_000.0));
+    }
+
+    @Test
+    void consecutiveFailuresEjectAHost() {
+        complete(a, 5, true);
+        assertThat(a.isHealthy(), is(true));
+
+        complete(a, 5, true);
+
+        assertThat(a.isHealthy(), is(false));
+        for (int i = 0; i < 10; i++) assertThat(pool.select(h -> true), sameInstance(b));
+    }
+
+    @Test
+    void healthCheckReadmitsAHost() {
+        pool.setHealthy(a, false);
+        pool.setHealthy(a, true);
+
+        assertThat(a.isHealthy(), is(true));
+    }
+
+    @Test
+    void unavailableHostsAreSkipped() {
+        for (int i = 0; i < 10; i++) assertThat(pool.select(h -> h != a), sameInstance(b));
+    }
+
+    @Test
+    void fallsBackToEveryHostWhenNoneIsHealthy() {
+        pool.setHealthy(a, false);
+        pool.setHealthy(b, false);
+
+        assertThat(pool.select(h -> true), anyOf(sameInstance(a), sameInstance(b)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class LatencyTrackerTest {
+
+    private static void recordMillis(LatencyTracker tracker, long... latencies) {
+        for (long latency : latencies) tracker.record(TimeUnit.MILLISECONDS.toNanos(latency));
+    }
+
+    @Test
+    void percentileOfRecordedLatencies() {
+        LatencyTracker tracker = new LatencyTracker(100);
+        for (long i = 1; i <= 100; i++) recordMillis(tracker, i);
+
+        assertThat(tracker.percentileMs(50), equalTo(50L));
+        assertThat(tracker.percentileMs(95), equalTo(95L));
+        assertThat(tracker.percentileMs(100), equalTo(100L));
+    }
+
+    @Test
+    void oldestLatenciesAreEvicted() {
+        LatencyTracker tracker = new LatencyTracker(2);
+        recordMillis(tracker, 500, 10, 20);
+
+        assertThat(tracker.size(), equalTo(2));
+        assertThat(tracker.percentileMs(100), equalTo(20L));
+    }
+
+    @Test
+    void emptyWindowHasNoPercentile() {
+        assertThat(new LatencyTracker(10).percentileMs(95), equalTo(-1L));
+    }
+
+    @Test
+    void hedgeDelayIsBoundedByThePolicy() {
+        HedgingPolicy policy =
+                HedgingPolicy.builder().minDelayMs(20).maxDelayMs(200).minSamples(2).build();
+        LatencyTracker tracker = new LatencyTracker(10);
+
+        recordMillis(tracker, 1);
+        assertThat(tracker.hedgeDelayMs(policy), equalTo(200L));
+
+        recordMillis(tracker, 1);
+        assertThat(tracker.hedgeDelayMs(policy), equalTo(20L));
+
+        recordMillis(tracker, 900, 900, 900);
+        assertThat(tracker.hedgeDelayMs(policy), equalTo(200L));
+    }
+}
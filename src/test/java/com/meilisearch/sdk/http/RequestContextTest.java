@@ -0,0 +1,123 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.meilisearch.sdk.exceptions.MeilisearchCancellationException;
+import com.meilisearch.sdk.exceptions.MeilisearchTimeoutException;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RequestContextTest {
+
+    @Test
+    void attachedContextIsCurrentUntilTheScopeCloses() {
+        RequestContext context = RequestContext.create().withTimeout(1_000);
+
+        try (RequestContext.Scope scope = context.attach()) {
+            assertThat(RequestContext.current(), sameInstance(context));
+        }
+
+        assertThat(RequestContext.current(), is(nullValue()));
+    }
+
+    @Test
+    void nestedTimeoutNeverExtendsTheDeadline() {
+        RequestContext outer = RequestContext.create().withTimeout(100);
+
+        try (RequestContext.Scope scope = outer.attach()) {
+            RequestContext inner = RequestContext.create().withTimeout(60_000);
+
+            assertThat(
+                    inner.remainingNanos(),
+                    lessThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100)));
+        }
+    }
+
+    @Test
+    void contextWithoutDeadlineNeverExpires() {
+        RequestContext context = RequestContext.create();
+
+        assertThat(context.hasDeadline(), is(false));
+        assertThat(context.remainingNanos(), equalTo(Long.MAX_VALUE));
+        context.check();
+    }
+
+    @Test
+    void expiredContextFailsWithTimeout() {
+        RequestContext context = RequestContext.create().withTimeout(0);
+
+        assertThrows(MeilisearchTimeoutException.class, context::check);
+    }
+
+    @Test
+    void cancelledContextFailsWithCancellation() {
+        CancellationToken token = new CancellationToken();
+        RequestContext context = RequestContext.create().withCancellationToken(token);
+
+        token.cancel();
+
+        assertThrows(MeilisearchCancellationException.class, context::check);
+    }
+
+    @Test
+    void parentTokenCancelsTheChildToken() {
+        CancellationToken parent = new CancellationToken();
+        CancellationToken child = new CancellationToken();
+        RequestContext.create().withCancellationToken(parent).withCancellationToken(child);
+
+        parent.cancel();
+
+        assertThat(child.isCancelled(), is(true));
+    }
+
+    @Test
+    void parentTokenDoesNotRetainTheChildToken() throws Exception {
+        CancellationToken parent = new CancellationToken();
+        RequestContext context = RequestContext.create().withCancellationToken(parent);
+        WeakReference<CancellationToken> child =
+                new WeakReference<>(
+                        context.withCancellationToken(new CancellationToken())
+                                .getCancellationToken());
+
+        for (int i = 0; i < 50 && child.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(child.get(), nullValue());
+        parent.cancel();
+    }
+
+    @Test
+    void sleepWakesUpOnCancellation() {
+        CancellationToken token = new CancellationToken();
+        RequestContext context = RequestContext.create().withCancellationToken(token);
+        CompletableFuture.runAsync(
+                token::cancel, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        assertThrows(MeilisearchCancellationException.class, () -> context.sleep(10_000));
+
+        assertThat(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), lessThan(5_000L));
+    }
+
+    @Test
+    void listenersRunOnceAndCanBeRemoved() {
+        CancellationToken token = new CancellationToken();
+        AtomicInteger runs = new AtomicInteger();
+        token.onCancel(runs::incrementAndGet);
+        token.onCancel(runs::incrementAndGet).close();
+
+        token.cancel();
+        token.cancel();
+        token.onCancel(runs::incrementAndGet);
+
+        assertThat(runs.get(), equalTo(2));
+    }
+}
@@ -0,0 +1,73 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.meilisearch.sdk.http.request.HttpMethod;
+import org.junit.jupiter.api.Test;
+
+class RequestRouteTest {
+
+    @Test
+    void searchRoutes() {
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies/search"),
+                equalTo(RequestRoute.SEARCH));
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies/facet-search"),
+                equalTo(RequestRoute.SEARCH));
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies/similar"),
+                equalTo(RequestRoute.SEARCH));
+        assertThat(RequestRoute.of(HttpMethod.POST, "/multi-search"), equalTo(RequestRoute.SEARCH));
+    }
+
+    @Test
+    void similarDocumentsRouteAsSentByTheIndex() {
+        String path =
+                new URLBuilder("/indexes").addSubroute("movies").addSubroute("similar").getURL();
+
+        assertThat(path, equalTo("/indexes/movies/similar"));
+        assertThat(RequestRoute.of(HttpMethod.POST, path), equalTo(RequestRoute.SEARCH));
+    }
+
+    @Test
+    void repeatedSlashesAreReadAsOne() {
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies//similar"),
+                equalTo(RequestRoute.SEARCH));
+        assertThat(
+                RequestRoute.of(HttpMethod.PUT, "/indexes/movies//documents?primaryKey=id"),
+                equalTo(RequestRoute.DOCUMENTS));
+    }
+
+    @Test
+    void documentWriteRoutes() {
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies/documents?primaryKey=id"),
+                equalTo(RequestRoute.DOCUMENTS));
+        assertThat(
+                RequestRoute.of(HttpMethod.PUT, "/indexes/movies/documents"),
+                equalTo(RequestRoute.DOCUMENTS));
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies/documents/delete-batch"),
+                equalTo(RequestRoute.DOCUMENTS));
+        assertThat(
+                RequestRoute.of(HttpMethod.DELETE, "/indexes/movies/documents/42"),
+                equalTo(RequestRoute.DOCUMENTS));
+    }
+
+    @Test
+    void otherRoutes() {
+        assertThat(
+                RequestRoute.of(HttpMethod.GET, "/indexes/movies/documents"),
+                equalTo(RequestRoute.DEFAULT));
+        assertThat(
+                RequestRoute.of(HttpMethod.POST, "/indexes/movies/documents/fetch"),
+                equalTo(RequestRoute.DEFAULT));
+        assertThat(RequestRoute.of(HttpMethod.GET, "/tasks/1"), equalTo(RequestRoute.DEFAULT));
+        assertThat(
+                RequestRoute.of(HttpMethod.PATCH, "/indexes/movies/settings"),
+                equalTo(RequestRoute.DEFAULT));
+    }
+}
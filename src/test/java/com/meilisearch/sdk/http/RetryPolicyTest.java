@@ -0,0 +1,59 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.junit.jupiter.api.Test;
+
+class RetryPolicyTest {
+
+    @Test
+    void backoffIsJitteredBelowTheExponentialCeiling() {
+        RetryPolicy policy =
+                RetryPolicy.builder().initialBackoffMs(100).maxBackoffMs(1_000).build();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(policy.backoffMs(0), is(allOf(greaterThanOrEqualTo(0L), lessThan(100L))));
+            assertThat(policy.backoffMs(2), is(lessThan(400L)));
+            assertThat(policy.backoffMs(10), is(lessThan(1_000L)));
+        }
+    }
+
+    @Test
+    void defaultRetryableStatusCodes() {
+        RetryPolicy policy = RetryPolicy.defaults();
+
+        assertThat(policy.isRetryableStatus(429), is(true));
+        assertThat(policy.isRetryableStatus(502), is(true));
+        assertThat(policy.isRetryableStatus(503), is(true));
+        assertThat(policy.isRetryableStatus(504), is(true));
+        assertThat(policy.isRetryableStatus(500), is(false));
+        assertThat(policy.isRetryableStatus(400), is(false));
+    }
+
+    @Test
+    void parseRetryAfterSeconds() {
+        assertThat(RetryPolicy.parseRetryAfterMs("3"), equalTo(3_000L));
+        assertThat(RetryPolicy.parseRetryAfterMs(" 0 "), equalTo(0L));
+    }
+
+    @Test
+    void parseRetryAfterDate() {
+        String date =
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                        ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        assertThat(
+                RetryPolicy.parseRetryAfterMs(date),
+                is(allOf(greaterThan(20_000L), lessThanOrEqualTo(30_000L))));
+    }
+
+    @Test
+    void parseMalformedRetryAfter() {
+        assertThat(RetryPolicy.parseRetryAfterMs(null), equalTo(-1L));
+        assertThat(RetryPolicy.parseRetryAfterMs("soon"), equalTo(-1L));
+    }
+}
@@ -0,0 +1,89 @@
+package com.meilisearch.sdk.http;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Collections;
+import java.util.concurrent.Future;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.Test;
+
+class TransportOptionsTest {
+
+    @Test
+    void defaultsAllowManyConcurrentRequestsPerHost() {
+        OkHttpClient client = TransportOptions.defaults().okHttpClient();
+
+        assertThat(client.dispatcher().getMaxRequests(), equalTo(256));
+        assertThat(client.dispatcher().getMaxRequestsPerHost(), equalTo(128));
+        assertThat(client.connectTimeoutMillis(), equalTo(10_000));
+        assertThat(client.readTimeoutMillis(), equalTo(30_000));
+        assertThat(client.protocols(), contains(Protocol.HTTP_2, Protocol.HTTP_1_1));
+    }
+
+    @Test
+    void customOptions() {
+        OkHttpClient client =
+                TransportOptions.builder()
+                        .maxRequestsPerHost(16)
+                        .callTimeoutMs(2_000)
+                        .readTimeoutMs(1_000)
+                        .protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE))
+                        .retryOnConnectionFailure(false)
+                        .build()
+                        .okHttpClient();
+
+        assertThat(client.dispatcher().getMaxRequestsPerHost(), equalTo(16));
+        assertThat(client.callTimeoutMillis(), equalTo(2_000));
+        assertThat(client.readTimeoutMillis(), equalTo(1_000));
+        assertThat(client.protocols(), contains(Protocol.H2_PRIOR_KNOWLEDGE));
+        assertThat(client.retryOnConnectionFailure(), is(false));
+    }
+
+    @Test
+    void clientIsSharedByEveryUserOfTheOptions() {
+        TransportOptions options = TransportOptions.defaults();
+
+        assertThat(options.okHttpClient(), sameInstance(options.okHttpClient()));
+        assertThat(
+                options.toBuilder().build().okHttpClient(),
+                not(sameInstance(options.okHttpClient())));
+    }
+
+    @Test
+    void baseClientSharesPoolAndDispatcher() {
+        OkHttpClient base = new OkHttpClient();
+        OkHttpClient client =
+                TransportOptions.builder()
+                        .baseClient(base)
+                        .readTimeoutMs(5_000)
+                        .build()
+                        .okHttpClient();
+
+        assertThat(client.dispatcher(), sameInstance(base.dispatcher()));
+        assertThat(client.connectionPool(), sameInstance(base.connectionPool()));
+        assertThat(client.readTimeoutMillis(), equalTo(5_000));
+    }
+
+    @Test
+    void virtualThreadsRunAsynchronousCallsWhenSupported() throws Exception {
+        OkHttpClient client =
+                TransportOptions.builder().virtualThreads(true).build().okHttpClient();
+
+        Future<Thread> thread =
+                client.dispatcher().executorService().submit(() -> Thread.currentThread());
+
+        assertThat(VirtualThreads.isVirtual(thread.get()), is(VirtualThreads.isSupported()));
+    }
+
+    @Test
+    void platformThreadsByDefault() throws Exception {
+        OkHttpClient client = TransportOptions.defaults().okHttpClient();
+
+        Future<Thread> thread =
+                client.dispatcher().executorService().submit(() -> Thread.currentThread());
+
+        assertThat(VirtualThreads.isVirtual(thread.get()), is(false));
+    }
+}
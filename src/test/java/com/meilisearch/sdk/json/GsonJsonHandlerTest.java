@@ -15,10 +15,17 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.gson.JsonElement;
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
 import com.meilisearch.sdk.exceptions.JsonEncodingException;
 import com.meilisearch.sdk.model.FilterableAttributesConfig;
 import com.meilisearch.sdk.model.Key;
+import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Date;
@@ -296,4 +303,81 @@ class GsonJsonHandlerTest {
         private Key key;
         private Boolean enabled;
     }
+
+    @Test
+    void decodeFromReader() {
+        Movie movie =
+                classToTest.decode(
+                        new StringReader("{\"id\":\"foo\",\"title\":\"Foo\"}"), Movie.class);
+
+        assertThat(movie.getId(), is(equalTo("foo")));
+        assertThat(movie.getTitle(), is(equalTo("Foo")));
+    }
+
+    @Test
+    void decodeGenericFromReader() {
+        Results<Movie> results =
+                classToTest.decode(
+                        new StringReader("{\"results\":[{\"id\":\"foo\"}],\"total\":1}"),
+                        Results.class,
+                        Movie.class);
+
+        assertThat(results.getResults(), is(arrayWithSize(1)));
+        assertThat(results.getResults()[0].getId(), is(equalTo("foo")));
+        assertThat(results.getTotal(), is(equalTo(1)));
+    }
+
+    @Test
+    void decodeStringFromReaderKeepsRawContent() {
+        String raw = "{\"id\":\"foo\"}";
+
+        assertThat(classToTest.decode(new StringReader(raw), String.class), is(equalTo(raw)));
+    }
+
+    @Test
+    void decodeMalformedReaderThrowsJsonDecodingException() {
+        assertThrows(
+                JsonDecodingException.class,
+                () -> classToTest.decode(new StringReader("{\"id\":"), Movie.class));
+    }
+
+    @Test
+    void encodeToStream() throws Exception {
+        Movie movie = new Movie();
+        movie.setId("foo");
+        movie.setTitle("Foo");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        classToTest.encodeTo(movie, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8), is(equalTo(classToTest.encode(movie))));
+    }
+
+    @Test
+    void encodeStringToStreamKeepsRawContent() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        classToTest.encodeTo("[{\"id\":\"é\"}]", out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8), is(equalTo("[{\"id\":\"é\"}]")));
+    }
+
+    @Test
+    void encodeToStreamPropagatesTheFailureOfTheStream() {
+        Movie movie = new Movie();
+        movie.setId("foo");
+
+        IOException e = assertThrows(IOException.class, () -> classToTest.encodeTo(movie, BROKEN));
+
+        assertThat(e.getMessage(), is(equalTo("Connection reset")));
+    }
+
+    /** Stream failing like a connection reset while the body is written */
+    private static final OutputStream BROKEN =
+            new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Connection reset");
+                }
+            };
 }
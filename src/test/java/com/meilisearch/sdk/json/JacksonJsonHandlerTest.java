@@ -2,6 +2,7 @@ package com.meilisearch.sdk.json;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
+import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
@@ -12,11 +13,18 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.exceptions.JsonDecodingException;
 import com.meilisearch.sdk.model.FilterableAttributesConfig;
 import com.meilisearch.sdk.model.FilterableAttributesFeatures;
 import com.meilisearch.sdk.model.FilterableAttributesFilter;
+import com.meilisearch.sdk.model.Results;
 import com.meilisearch.sdk.model.Settings;
 import com.meilisearch.sdk.utils.Movie;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -134,4 +142,64 @@ class JacksonJsonHandlerTest {
                 decoded.getFilterableAttributesConfig()[1].getAttributePatterns()[0],
                 is("director"));
     }
+
+    @Test
+    void deserializeFromReader() {
+        Movie movie =
+                classToTest.decode(
+                        new StringReader("{\"id\":\"foo\",\"title\":\"Foo\"}"), Movie.class);
+
+        assertThat(movie.getId(), is(equalTo("foo")));
+        assertThat(movie.getTitle(), is(equalTo("Foo")));
+    }
+
+    @Test
+    void deserializeGenericFromReader() {
+        Results<Movie> results =
+                classToTest.decode(
+                        new StringReader("{\"results\":[{\"id\":\"foo\"}],\"total\":1}"),
+                        Results.class,
+                        Movie.class);
+
+        assertThat(results.getResults(), is(arrayWithSize(1)));
+        assertThat(results.getResults()[0].getId(), is(equalTo("foo")));
+        assertThat(results.getTotal(), is(equalTo(1)));
+    }
+
+    @Test
+    void deserializeMalformedReaderThrowsJsonDecodingException() {
+        assertThrows(
+                JsonDecodingException.class,
+                () -> classToTest.decode(new StringReader("{\"id\":"), Movie.class));
+    }
+
+    @Test
+    void serializeToStream() throws Exception {
+        Movie movie = new Movie();
+        movie.setId("foo");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        classToTest.encodeTo(movie, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8), is(equalTo(classToTest.encode(movie))));
+    }
+
+    @Test
+    void encodeToStreamPropagatesTheFailureOfTheStream() {
+        Movie movie = new Movie();
+        movie.setId("foo");
+
+        IOException e = assertThrows(IOException.class, () -> classToTest.encodeTo(movie, BROKEN));
+
+        assertThat(e.getMessage(), is(equalTo("Connection reset")));
+    }
+
+    /** Stream failing like a connection reset while the body is written */
+    private static final OutputStream BROKEN =
+            new OutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    throw new IOException("Connection reset");
+                }
+            };
 }